@@ -4,11 +4,21 @@ import com.example.banksample.config.EnvConfig;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+/*
+ * R2DBC 연결은 bank.reactive.enabled 일 때만 ReactiveReadConfig 에서 만든다.
+ * 자동 설정을 그대로 두면 R2dbcTransactionManager 가 함께 등록되어 @Transactional 이 사용할 트랜잭션 매니저를 정하지 못한다.
+ * */
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
 @EnableJpaAuditing
+@EnableScheduling
+@ConfigurationPropertiesScan
 @Slf4j
 @PropertySource(value = {
   "classpath:env/env.yml",
@@ -0,0 +1,33 @@
+package com.example.banksample.auth;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 저장된 해시의 cost 가 설정값보다 낮은 경우뿐 아니라 높은 경우에도 다시 해시하도록 알린다.
+ * (BCryptPasswordEncoder 는 cost 가 낮은 경우만 upgrade 대상으로 본다.)
+ */
+public class CostAwareBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+	private final int strength;
+
+	public CostAwareBCryptPasswordEncoder(int strength) {
+		super(strength);
+		this.strength = strength;
+	}
+
+	/**
+	 * 해시 형식: $2a$10$... (4~5번째 문자가 cost)
+	 */
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+			return false;
+		}
+		try {
+			return Integer.parseInt(encodedPassword.substring(4, 6)) != strength;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,95 @@
+package com.example.banksample.auth;
+
+import com.example.banksample.config.LoginRateLimitProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자명, 클라이언트 IP 별 token bucket 을 노드 메모리에 보관한다.
+ * <p>
+ * 버킷 하나는 다음 시도가 허용되는 시각(GCRA 의 theoretical arrival time)을 AtomicLong 하나로 표현하고, CAS 로 갱신한다.
+ * 버킷은 최대 maxEntries 개까지 보관하며, 가득 차면 오래 사용하지 않은 버킷부터 제거된다.
+ * 결과는 bank.login.rate-limit{key=username|ip, result=allowed|throttled} 로 집계한다.
+ */
+@Slf4j
+@Component
+public class InMemoryLoginRateLimiter implements LoginRateLimiter {
+
+	private static final long ONE_MINUTE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+	private final boolean enabled;
+	private final Limit usernameLimit;
+	private final Limit ipLimit;
+
+	public InMemoryLoginRateLimiter(LoginRateLimitProperties properties, MeterRegistry meterRegistry) {
+		this.enabled = properties.isEnabled();
+		this.usernameLimit = new Limit("username", properties.getUsername(), properties.getMaxEntries(), meterRegistry);
+		this.ipLimit = new Limit("ip", properties.getIp(), properties.getMaxEntries(), meterRegistry);
+	}
+
+	@Override
+	public boolean tryAcquire(String username, String clientIp) {
+		if (!enabled) {
+			return true;
+		}
+
+		// IP 한도를 먼저 확인해서, 한 IP 가 여러 사용자명으로 시도하는 경우 사용자 버킷을 만들지 않는다.
+		if (!ipLimit.tryAcquire(clientIp)) {
+			log.warn("[*] 로그인 시도 제한 (ip) -> {}", clientIp);
+			return false;
+		}
+		if (!usernameLimit.tryAcquire(username)) {
+			log.warn("[*] 로그인 시도 제한 (username) -> {}", username);
+			return false;
+		}
+		return true;
+	}
+
+	private static final class Limit {
+		// 시도 1회마다 다음 허용 시각이 늘어나는 간격
+		private final long intervalNanos;
+		// 다음 허용 시각이 현재보다 이 값 이상 앞서면 거절한다. (= capacity 번 연속 허용)
+		private final long burstNanos;
+		private final Cache<String, AtomicLong> buckets;
+		private final Counter allowed;
+		private final Counter throttled;
+
+		private Limit(String key, LoginRateLimitProperties.Bucket bucket, long maxEntries, MeterRegistry meterRegistry) {
+			this.intervalNanos = ONE_MINUTE_NANOS / Math.max(1, bucket.getRefillPerMinute());
+			this.burstNanos = intervalNanos * Math.max(1, bucket.getCapacity());
+			// 버킷이 가득 찰 때까지 걸리는 시간 동안 시도가 없으면 새 버킷과 같으므로 제거해도 된다.
+			this.buckets = Caffeine.newBuilder()
+					.maximumSize(maxEntries)
+					.expireAfterAccess(Duration.ofNanos(burstNanos))
+					.build();
+			this.allowed = meterRegistry.counter("bank.login.rate-limit", "key", key, "result", "allowed");
+			this.throttled = meterRegistry.counter("bank.login.rate-limit", "key", key, "result", "throttled");
+		}
+
+		private boolean tryAcquire(String id) {
+			AtomicLong arrival = buckets.get(id == null ? "" : id, k -> new AtomicLong(System.nanoTime()));
+			long now = System.nanoTime();
+			while (true) {
+				long current = arrival.get();
+				long next = Math.max(current, now) + intervalNanos;
+				if (next - now > burstNanos) {
+					throttled.increment();
+					return false;
+				}
+				if (arrival.compareAndSet(current, next)) {
+					allowed.increment();
+					return true;
+				}
+			}
+		}
+	}
+
+}
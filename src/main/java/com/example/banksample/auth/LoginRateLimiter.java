@@ -0,0 +1,17 @@
+package com.example.banksample.auth;
+
+/**
+ * 로그인 시도를 허용할지 결정한다.
+ * JwtAuthenticationFilter 가 사용자 조회, 비밀번호 비교(BCrypt) 전에 호출한다.
+ * <p>
+ * 기본 구현은 노드마다 따로 세는 {@link InMemoryLoginRateLimiter} 이다.
+ * 여러 노드가 한도를 공유해야 하면 공유 저장소(Redis 등)를 사용하는 구현체를 빈으로 등록한다.
+ */
+public interface LoginRateLimiter {
+
+	/**
+	 * 사용자명과 클라이언트 IP 의 한도가 모두 남아있으면 1회씩 차감하고 true 를 반환한다.
+	 */
+	boolean tryAcquire(String username, String clientIp);
+
+}
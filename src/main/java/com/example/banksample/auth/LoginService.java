@@ -3,27 +3,48 @@ package com.example.banksample.auth;
 import com.example.banksample.domain.user.User;
 import com.example.banksample.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class LoginService implements UserDetailsService {
+public class LoginService implements UserDetailsService, UserDetailsPasswordService {
 	private final UserRepository userRepository;
+	private final LoginUserCache loginUserCache;
 
 	/**
 	 * 로그인 시, 해당 메서드를 실행해서 username 을 체크한다.
 	 * username 이 존재한다면 시큐리티 컨텍스트 내부에 로그인 완료된 세션이 생성된다.
 	 * 없다면 오류를 발생시킨다.
+	 * 조회 결과는 존재하지 않는 경우까지 LoginUserCache 에 캐시한다.
 	 */
 	@Override
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-		User userPS = userRepository.findByUsername(username).orElseThrow(
+		return loginUserCache.get(username, userRepository::findByUsername).orElseThrow(
 			() -> new InternalAuthenticationServiceException("[" + username + "] 인증에 실패했습니다.")
 		);
+	}
+
+	/**
+	 * 로그인(비밀번호 비교)에 성공했고, 저장된 해시의 형식이나 cost 가 현재 설정과 다르면 호출된다.
+	 * 방금 입력받은 비밀번호를 현재 설정으로 다시 해시한 값(newPassword)을 저장한다.
+	 */
+	@Override
+	@Transactional
+	public UserDetails updatePassword(UserDetails user, String newPassword) {
+		User userPS = userRepository.findByUsername(user.getUsername()).orElseThrow(
+			() -> new InternalAuthenticationServiceException("[" + user.getUsername() + "] 인증에 실패했습니다.")
+		);
+		userPS.changePassword(newPassword);
+		loginUserCache.invalidate(user.getUsername());
+		log.info("[*] [{}] 비밀번호 해시를 현재 설정으로 갱신했습니다.", user.getUsername());
 		return new LoginUser(userPS);
 	}
 }
@@ -0,0 +1,97 @@
+package com.example.banksample.auth;
+
+import com.example.banksample.config.LoginUserCacheProperties;
+import com.example.banksample.domain.user.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 사용자명으로 조회한 LoginUser 를 캐시한다.
+ * 존재하지 않는 사용자명도 따로 캐시해서 (negative cache) 같은 사용자명으로 반복해서 시도해도 다시 조회하지 않는다.
+ * <p>
+ * 회원가입, 비밀번호 변경 시 {@link #invalidate(String)} 로 제거한다.
+ * 적중률은 cache.gets{cache=login.user}, cache.gets{cache=login.user.missing} 으로 집계한다.
+ */
+@Component
+public class LoginUserCache {
+
+	private final boolean enabled;
+	private final Cache<String, LoginUser> users;
+	private final Cache<String, Boolean> missing;
+
+	public LoginUserCache(LoginUserCacheProperties properties, MeterRegistry meterRegistry) {
+		this.enabled = properties.isEnabled();
+		this.users = Caffeine.newBuilder()
+				.maximumSize(properties.getMaximumSize())
+				.expireAfterWrite(Duration.ofMillis(properties.getTtlMs()))
+				.recordStats()
+				.build();
+		this.missing = Caffeine.newBuilder()
+				.maximumSize(properties.getNegativeMaximumSize())
+				.expireAfterWrite(Duration.ofMillis(properties.getNegativeTtlMs()))
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, users, "login.user");
+		CaffeineCacheMetrics.monitor(meterRegistry, missing, "login.user.missing");
+	}
+
+	/**
+	 * 캐시에 없으면 loader 로 조회한다.
+	 * 존재하지 않는 사용자명이면 Optional.empty() 를 반환한다.
+	 */
+	public Optional<LoginUser> get(String username, Function<String, Optional<User>> loader) {
+		if (!enabled) {
+			return loader.apply(username).map(LoginUser::new);
+		}
+		if (missing.getIfPresent(username) != null) {
+			return Optional.empty();
+		}
+
+		LoginUser loginUser = users.getIfPresent(username);
+		if (loginUser != null) {
+			return Optional.of(loginUser);
+		}
+
+		Optional<LoginUser> loaded = loader.apply(username).map(LoginUser::new);
+		if (loaded.isPresent()) {
+			users.put(username, loaded.get());
+		} else {
+			missing.put(username, Boolean.TRUE);
+		}
+		return loaded;
+	}
+
+	/**
+	 * 바로 제거하고, 트랜잭션 안이라면 커밋 후에 한 번 더 제거한다.
+	 * 커밋 전에 다른 요청이 이전 값을 다시 캐시하는 경우를 막는다.
+	 */
+	public void invalidate(String username) {
+		users.invalidate(username);
+		missing.invalidate(username);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					users.invalidate(username);
+					missing.invalidate(username);
+				}
+			});
+		}
+	}
+
+	public void invalidateAll() {
+		users.invalidateAll();
+		missing.invalidateAll();
+	}
+
+}
@@ -0,0 +1,82 @@
+package com.example.banksample.auth;
+
+import com.example.banksample.config.PasswordProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 비교(matches)를 크기가 제한된 전용 스레드 풀에서 실행한다. (bulkhead)
+ * 요청 스레드는 결과를 기다리지만, 동시에 BCrypt 를 계산하는 스레드 수가 제한되므로
+ * 로그인이 몰려도 나머지 요청이 쓸 CPU 가 남는다.
+ * 대기열이 가득 차면 기다리지 않고 바로 실패시킨다.
+ */
+@Slf4j
+public class OffloadingPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+	private final PasswordEncoder delegate;
+	private final ThreadPoolExecutor executor;
+	private final long waitTimeoutMs;
+
+	public OffloadingPasswordEncoder(PasswordEncoder delegate, PasswordProperties.Offload offload) {
+		int threads = offload.getThreads() > 0 ? offload.getThreads() : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		AtomicInteger sequence = new AtomicInteger();
+		this.delegate = delegate;
+		this.waitTimeoutMs = offload.getWaitTimeoutMs();
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(Math.max(1, offload.getQueueCapacity())),
+				runnable -> {
+					Thread thread = new Thread(runnable, "password-check-" + sequence.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return delegate.encode(rawPassword);
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		Future<Boolean> future;
+		try {
+			future = executor.submit(() -> delegate.matches(rawPassword, encodedPassword));
+		} catch (RejectedExecutionException e) {
+			throw new InternalAuthenticationServiceException("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+		}
+
+		try {
+			return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			throw new InternalAuthenticationServiceException("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.cancel(true);
+			throw new InternalAuthenticationServiceException("비밀번호 확인이 중단되었습니다.");
+		} catch (ExecutionException e) {
+			throw new InternalAuthenticationServiceException("비밀번호 확인에 실패했습니다.", e.getCause());
+		}
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+}
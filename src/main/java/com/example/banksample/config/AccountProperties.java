@@ -0,0 +1,101 @@
+package com.example.banksample.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 계좌 잔액 변경(입금, 출금, 이체) 처리 방식에 관한 설정값을 보관한다.
+ * {@code bank.account.*} 로 주입받는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.account")
+public class AccountProperties {
+
+	/**
+	 * JPA: 계좌 엔티티를 조회한 뒤 더티 체킹으로 잔액을 반영한다. (기본값)
+	 * IN_MEMORY: 잔액을 메모리에서 관리하고, DB 에는 비동기로 모아서 반영한다.
+	 */
+	private TransferMode transferMode = TransferMode.JPA;
+
+	/**
+	 * JPA 모드에서 잔액을 변경할 때 사용하는 동시성 제어 방식
+	 * OPTIMISTIC: 잠그지 않고 조회한 뒤, 갱신 시점에 충돌을 감지하면 트랜잭션 전체를 재시도한다. (기본값)
+	 * PESSIMISTIC: SELECT ... FOR UPDATE 로 계좌 row 를 잠근 뒤 변경한다.
+	 */
+	private LockMode lockMode = LockMode.OPTIMISTIC;
+
+	/**
+	 * true 인 경우 입금, 출금은 계좌 엔티티를 조회하지 않고
+	 * UPDATE ... SET balance = balance +/- ? 한 문장으로 잔액을 변경한다.
+	 * 잔액 부족 검사도 WHERE 조건으로 DB 에서 처리한다.
+	 */
+	private boolean atomicUpdate = false;
+
+	private final InMemory inMemory = new InMemory();
+
+	private final Retry retry = new Retry();
+
+	private final SummaryCache summaryCache = new SummaryCache();
+
+	public boolean isInMemoryTransfer() {
+		return transferMode == TransferMode.IN_MEMORY;
+	}
+
+	public boolean isPessimisticLock() {
+		return lockMode == LockMode.PESSIMISTIC;
+	}
+
+	public enum TransferMode {
+		JPA,
+		IN_MEMORY
+	}
+
+	public enum LockMode {
+		OPTIMISTIC,
+		PESSIMISTIC
+	}
+
+	@Getter
+	@Setter
+	public static class InMemory {
+		// 잠금 스트라이프 개수 (2의 거듭제곱으로 맞춘다.)
+		private int stripes = 64;
+		// 한 번에 DB 에 반영하는 거래내역 개수
+		private int batchSize = 500;
+		// DB 반영 주기 (ms)
+		private long flushIntervalMs = 100;
+		// 같은 묶음의 반영이 이 횟수만큼 연속으로 실패하면 한 건씩 반영하고, 끝내 실패한 거래내역의 계좌는 격리한다.
+		// (DB 연결 실패처럼 일시적인 오류는 횟수에 포함하지 않는다.)
+		private int maxFlushAttempts = 5;
+	}
+
+	/**
+	 * 동시성 충돌(낙관적 잠금 실패, 데드락 등) 발생 시 재시도 정책
+	 */
+	@Getter
+	@Setter
+	public static class Retry {
+		// 최초 시도를 포함한 최대 시도 횟수 (1 이면 재시도하지 않는다.)
+		private int maxAttempts = 3;
+		// 첫 재시도 전 대기 시간 (ms), 재시도마다 2배씩 늘어난다.
+		private long backoffMs = 10;
+		// 대기 시간 상한 (ms)
+		private long maxBackoffMs = 200;
+	}
+
+	/**
+	 * 사용자별 계좌 목록(getAccountsByUser) 캐시
+	 */
+	@Getter
+	@Setter
+	public static class SummaryCache {
+		// false 이면 조회마다 tbl_user, tbl_account 를 조회한다.
+		private boolean enabled = true;
+		private long maximumSize = 10_000;
+		// 제거가 누락되는 경우를 대비한 상한
+		private long ttlMs = 60_000;
+	}
+
+}
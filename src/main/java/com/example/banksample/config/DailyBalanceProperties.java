@@ -0,0 +1,22 @@
+package com.example.banksample.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 일별 잔액 스냅샷에 관한 설정값을 보관한다.
+ * {@code bank.daily-balance.*} 로 주입받는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.daily-balance")
+public class DailyBalanceProperties {
+
+	// false 이면 스냅샷을 갱신하지 않는다. (잔액 조회는 거래내역을 직접 찾는다.)
+	private boolean enabled = true;
+
+	// 일별 잔액 조회 시 한 번에 조회할 수 있는 최대 일수
+	private int maxRangeDays = 366;
+
+}
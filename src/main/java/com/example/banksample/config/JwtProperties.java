@@ -0,0 +1,101 @@
+package com.example.banksample.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 토큰 검증에 관한 설정값을 보관한다.
+ * {@code bank.jwt.*} 로 주입받는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.jwt")
+public class JwtProperties {
+
+	/**
+	 * HS512: jwt.secret 대칭키로 서명, 검증한다. (기본값)
+	 * ES256, RS256: 키 링의 비대칭키로 서명하고, 토큰 헤더의 kid 로 검증 키를 찾는다.
+	 * 검증만 하는 노드는 공개키만 있으면 된다.
+	 */
+	private SigningAlgorithm algorithm = SigningAlgorithm.HS512;
+
+	private final Cache cache = new Cache();
+
+	private final KeyRing keyRing = new KeyRing();
+
+	private final Refresh refresh = new Refresh();
+
+	public enum SigningAlgorithm {
+		HS512,
+		ES256,
+		RS256;
+
+		public boolean isAsymmetric() {
+			return this != HS512;
+		}
+	}
+
+	/**
+	 * 검증에 성공한 토큰의 결과(LoginUser)를 토큰 만료 시각까지 캐시한다.
+	 */
+	@Getter
+	@Setter
+	public static class Cache {
+		// false 이면 요청마다 서명을 검증한다.
+		private boolean enabled = true;
+		// 캐시에 보관하는 최대 토큰 개수
+		private long maximumSize = 10_000;
+	}
+
+	/**
+	 * 비대칭키 모드에서 사용하는 키 링
+	 * <p>
+	 * keys 를 설정하면 모든 노드가 같은 키로 서명, 검증한다. 재시작해도 발급된 토큰은 계속 검증된다.
+	 * 키 교체는 새 키를 모든 노드의 keys 에 먼저 추가하고, 그 다음 activeKid 를 새 키로 바꾼다.
+	 * 이전 키는 이전 키로 서명한 토큰이 모두 만료된 뒤에 keys 에서 뺀다.
+	 * <p>
+	 * keys 가 비어있으면 노드가 키를 직접 만들고 rotationIntervalMs 마다 교체한다. (단일 노드, 개발용)
+	 * 이때 이전 키를 retainedKeys 개까지 남겨두므로, 토큰 만료 시간(jwt.exp_time) 보다 (retainedKeys - 1) * rotationIntervalMs 가 길어야 한다.
+	 */
+	@Getter
+	@Setter
+	public static class KeyRing {
+		// 검증용으로 보관하는 키 개수 (현재 서명 키 포함)
+		private int retainedKeys = 3;
+		// 서명 키 교체 주기 (ms), 0 이하면 자동으로 교체하지 않는다.
+		private long rotationIntervalMs = 86_400_000;
+		// 모든 노드가 공유하는 키
+		private List<SharedKey> keys = new ArrayList<>();
+		// 서명에 사용할 keys 의 kid, 비어있으면 검증만 하는 노드
+		private String activeKid;
+	}
+
+	/**
+	 * 설정으로 주입하는 키 1개, PEM 또는 base64 로 인코딩한다.
+	 */
+	@Getter
+	@Setter
+	public static class SharedKey {
+		private String kid;
+		// X.509 SubjectPublicKeyInfo
+		private String publicKey;
+		// PKCS#8, 서명하는 노드에만 설정한다.
+		private String privateKey;
+	}
+
+	/**
+	 * 리프레시 토큰
+	 * 액세스 토큰이 만료되면 로그인(BCrypt 비교) 대신 리프레시 토큰으로 재발급받는다.
+	 */
+	@Getter
+	@Setter
+	public static class Refresh {
+		// 리프레시 토큰 유효 시간 (ms), 재발급할 때마다 새로 계산한다.
+		private long ttlMs = 1_209_600_000L;
+	}
+
+}
@@ -0,0 +1,43 @@
+package com.example.banksample.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 로그인 시도 횟수 제한(token bucket)에 관한 설정값을 보관한다.
+ * {@code bank.login.rate-limit.*} 로 주입받는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.login.rate-limit")
+public class LoginRateLimitProperties {
+
+	private boolean enabled = true;
+
+	/**
+	 * 사용자명, IP 별로 보관하는 버킷의 최대 개수
+	 * 넘치면 오래 사용하지 않은 버킷부터 제거한다.
+	 */
+	private long maxEntries = 100_000;
+
+	private final Bucket username = new Bucket(5, 5);
+
+	private final Bucket ip = new Bucket(30, 30);
+
+	/**
+	 * capacity 번까지 연속으로 시도할 수 있고, 1분에 refillPerMinute 번씩 다시 채워진다.
+	 */
+	@Getter
+	@Setter
+	public static class Bucket {
+		private int capacity;
+		private int refillPerMinute;
+
+		public Bucket(int capacity, int refillPerMinute) {
+			this.capacity = capacity;
+			this.refillPerMinute = refillPerMinute;
+		}
+	}
+
+}
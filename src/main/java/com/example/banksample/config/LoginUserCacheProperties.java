@@ -0,0 +1,27 @@
+package com.example.banksample.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 로그인 시 사용자 조회 결과(LoginUser) 캐시에 관한 설정값을 보관한다.
+ * {@code bank.login.user-cache.*} 로 주입받는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.login.user-cache")
+public class LoginUserCacheProperties {
+
+	// false 이면 로그인마다 tbl_user 를 조회한다.
+	private boolean enabled = true;
+
+	// 존재하는 사용자
+	private long maximumSize = 10_000;
+	private long ttlMs = 300_000;
+
+	// 존재하지 않는 사용자명, 회원가입하면 바로 제거된다.
+	private long negativeMaximumSize = 100_000;
+	private long negativeTtlMs = 60_000;
+
+}
@@ -0,0 +1,39 @@
+package com.example.banksample.config;
+
+import com.example.banksample.outbox.ApplicationEventLedgerEventSink;
+import com.example.banksample.outbox.FileLedgerEventSink;
+import com.example.banksample.outbox.LedgerEventSink;
+import com.example.banksample.outbox.LocalBrokerLedgerEventSink;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * {@code bank.outbox.sink} 에 따라 원장 이벤트를 전달할 sink 를 만든다.
+ */
+@Configuration
+public class OutboxConfig {
+
+	@Bean
+	public LedgerEventSink ledgerEventSink(OutboxProperties outboxProperties, ApplicationEventPublisher applicationEventPublisher, ObjectMapper objectMapper) throws IOException {
+		return switch (outboxProperties.getSink()) {
+			case LISTENER -> new ApplicationEventLedgerEventSink(applicationEventPublisher);
+			// 한 줄에 하나씩 쓰기 위해 들여쓰기 없이, 스트림을 닫지 않도록 설정한다.
+			case FILE -> new FileLedgerEventSink(
+					objectMapper.writer()
+							.without(SerializationFeature.INDENT_OUTPUT)
+							.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET),
+					Path.of(outboxProperties.getFile().getPath()));
+			case BROKER -> new LocalBrokerLedgerEventSink(
+					outboxProperties.getBroker().getCapacity(),
+					outboxProperties.getBroker().getOfferTimeoutMs());
+		};
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.example.banksample.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 원장 이벤트 outbox 와 전달(relay)에 관한 설정값을 보관한다.
+ * {@code bank.outbox.*} 로 주입받는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.outbox")
+public class OutboxProperties {
+
+	// false 이면 outbox 에 저장하지 않고, relay 도 동작하지 않는다.
+	private boolean enabled = true;
+
+	/**
+	 * LISTENER: 애플리케이션 이벤트로 같은 프로세스의 @EventListener 에 전달한다. (기본값)
+	 * FILE: JSON Lines 파일에 덧붙인다.
+	 * BROKER: 메모리 큐(LocalBrokerLedgerEventSink)에 넣는다. 외부 브로커를 붙이기 전까지 사용하는 대역
+	 */
+	private Sink sink = Sink.LISTENER;
+
+	// 한 번에 읽어서 전달하는 이벤트 개수
+	private int batchSize = 500;
+
+	// 전달 주기 (ms), 한 주기 안에서는 outbox 가 빌 때까지 계속 전달한다.
+	private long relayIntervalMs = 200;
+
+	private final File file = new File();
+
+	private final Broker broker = new Broker();
+
+	public enum Sink {
+		LISTENER,
+		FILE,
+		BROKER
+	}
+
+	@Getter
+	@Setter
+	public static class File {
+		private String path = "outbox/ledger-events.jsonl";
+	}
+
+	@Getter
+	@Setter
+	public static class Broker {
+		// 큐가 가득 차면 전달에 실패하고, 다음 주기에 다시 전달한다.
+		private int capacity = 100_000;
+		private long offerTimeoutMs = 1_000;
+	}
+
+}
@@ -0,0 +1,39 @@
+package com.example.banksample.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 비밀번호 해시(BCrypt)에 관한 설정값을 보관한다.
+ * {@code bank.password.*} 로 주입받는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.password")
+public class PasswordProperties {
+
+	/**
+	 * BCrypt cost (4 ~ 31), 1 올릴 때마다 해시 시간이 2배가 된다.
+	 * 저장된 해시의 cost 가 이 값과 다르면 로그인에 성공할 때 이 값으로 다시 해시한다.
+	 */
+	private int bcryptStrength = 10;
+
+	private final Offload offload = new Offload();
+
+	/**
+	 * 로그인 시 비밀번호 비교(BCrypt)를 전용 스레드 풀에서 실행한다.
+	 * 동시에 CPU 를 쓰는 비교 작업 수를 threads 개로 제한해서, 로그인이 몰려도 이체 등 다른 요청이 CPU 를 얻을 수 있게 한다.
+	 * 대기열이 가득 차거나 waitTimeoutMs 안에 끝나지 않으면 로그인에 실패한다.
+	 */
+	@Getter
+	@Setter
+	public static class Offload {
+		private boolean enabled = false;
+		// 0 이하면 CPU 코어 수의 절반
+		private int threads = 0;
+		private int queueCapacity = 100;
+		private long waitTimeoutMs = 2_000;
+	}
+
+}
@@ -0,0 +1,36 @@
+package com.example.banksample.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 논블로킹 조회 API(WebFlux + R2DBC) 에 관한 설정값을 보관한다.
+ * {@code bank.reactive.*} 로 주입받는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.reactive")
+public class ReactiveProperties {
+
+	// true 이면 서블릿 서버와 별도로 port 에서 Netty 서버를 띄운다.
+	private boolean enabled = false;
+
+	// 0 이면 임의의 포트
+	private int port = 8299;
+
+	// JPA 와 같은 스키마를 사용한다. (예: r2dbc:h2:tcp://localhost:1521/bank;MODE=MySQL)
+	private String url;
+	private String username;
+	private String password;
+
+	private final Pool pool = new Pool();
+
+	@Getter
+	@Setter
+	public static class Pool {
+		private int initialSize = 10;
+		private int maxSize = 20;
+	}
+
+}
@@ -0,0 +1,88 @@
+package com.example.banksample.config;
+
+import com.example.banksample.jwt.JwtWebFilter;
+import com.example.banksample.jwt.VerifiedTokenCache;
+import com.example.banksample.repository.ReactiveReadRepository;
+import com.example.banksample.util.CustomResponseUtil;
+import com.example.banksample.web.ReactiveReadHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * 계좌, 거래내역 조회 API 를 논블로킹(WebFlux + R2DBC)으로 제공한다.
+ * 쓰기 API 는 지금처럼 서블릿 + JPA 로 처리하고, 조회만 별도 포트의 Netty 서버에서 처리한다.
+ * R2DBC 자동 설정은 JPA 트랜잭션 매니저와 충돌하므로 사용하지 않고, 여기서 직접 만든다.
+ * <p>
+ * 잔액을 DB 에서 바로 읽기 때문에, 잔액이 메모리에 있는 in-memory 모드와는 함께 사용할 수 없다.
+ * (DB 에는 flush 주기만큼 늦게 반영되므로 이전 잔액을 응답하게 된다.)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "bank.reactive", name = "enabled", havingValue = "true")
+public class ReactiveReadConfig {
+
+	@Bean(destroyMethod = "dispose")
+	public ConnectionPool reactiveConnectionPool(ReactiveProperties reactiveProperties) {
+		ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(reactiveProperties.getUrl()).mutate();
+		if (reactiveProperties.getUsername() != null) {
+			options.option(ConnectionFactoryOptions.USER, reactiveProperties.getUsername());
+		}
+		if (reactiveProperties.getPassword() != null) {
+			options.option(ConnectionFactoryOptions.PASSWORD, reactiveProperties.getPassword());
+		}
+		ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+				.initialSize(reactiveProperties.getPool().getInitialSize())
+				.maxSize(reactiveProperties.getPool().getMaxSize())
+				.build();
+		return new ConnectionPool(configuration);
+	}
+
+	@Bean
+	public ReactiveReadRepository reactiveReadRepository(ConnectionPool reactiveConnectionPool) {
+		return new ReactiveReadRepository(DatabaseClient.create(reactiveConnectionPool));
+	}
+
+	@Bean
+	public ReactiveReadServer reactiveReadServer(
+			ReactiveProperties reactiveProperties,
+			AccountProperties accountProperties,
+			ReactiveReadRepository reactiveReadRepository,
+			TransactionProperties transactionProperties,
+			VerifiedTokenCache verifiedTokenCache,
+			CustomResponseUtil customResponseUtil,
+			ObjectMapper objectMapper
+	) {
+		if (accountProperties.isInMemoryTransfer()) {
+			throw new IllegalStateException("bank.reactive.enabled 는 bank.account.transfer-mode=in-memory 와 함께 사용할 수 없습니다.");
+		}
+		ReactiveReadHandler handler = new ReactiveReadHandler(reactiveReadRepository, transactionProperties);
+		// 위에서부터 순서대로 매칭되므로 login-user 를 {number} 보다 먼저 등록한다.
+		RouterFunction<ServerResponse> router = RouterFunctions.route()
+				.GET("/api/test/account/login-user", handler::findUserAccount)
+				.GET("/api/test/account/{number}/transaction", handler::findTransactions)
+				.GET("/api/test/account/{number}", handler::getAccountDetails)
+				.build();
+		// 서블릿 API 와 같은 JSON 형식으로 응답하기 위해 같은 ObjectMapper 를 사용한다.
+		HandlerStrategies strategies = HandlerStrategies.builder()
+				.codecs(configurer -> {
+					configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+					configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+				})
+				.webFilter(new JwtWebFilter(verifiedTokenCache, customResponseUtil))
+				.build();
+		return new ReactiveReadServer(RouterFunctions.toHttpHandler(router, strategies), reactiveProperties.getPort());
+	}
+
+}
@@ -0,0 +1,57 @@
+package com.example.banksample.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * 논블로킹 조회 API 를 서블릿 컨테이너(Tomcat)와 별도의 Reactor Netty 포트로 띄운다.
+ * 애플리케이션 컨텍스트와 같이 시작하고 종료한다.
+ */
+@Slf4j
+public class ReactiveReadServer implements SmartLifecycle {
+
+	private final HttpHandler httpHandler;
+	private final int port;
+
+	private volatile DisposableServer server;
+
+	public ReactiveReadServer(HttpHandler httpHandler, int port) {
+		this.httpHandler = httpHandler;
+		this.port = port;
+	}
+
+	@Override
+	public void start() {
+		server = HttpServer.create()
+				.port(port)
+				.handle(new ReactorHttpHandlerAdapter(httpHandler))
+				.bindNow();
+		log.info("[*] 논블로킹 조회 API 시작 -> port {}", server.port());
+	}
+
+	@Override
+	public void stop() {
+		DisposableServer current = server;
+		if (current != null) {
+			current.disposeNow();
+			server = null;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return server != null;
+	}
+
+	/**
+	 * 실제로 바인딩된 포트 (설정 포트가 0 이면 임의 포트)
+	 */
+	public int getPort() {
+		return server.port();
+	}
+
+}
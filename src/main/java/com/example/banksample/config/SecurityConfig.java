@@ -1,9 +1,17 @@
 package com.example.banksample.config;
 
+import com.example.banksample.auth.CostAwareBCryptPasswordEncoder;
+import com.example.banksample.auth.LoginRateLimiter;
+import com.example.banksample.auth.OffloadingPasswordEncoder;
 import com.example.banksample.domain.user.UserEnum;
+import com.example.banksample.jwt.JwtProcess;
+import com.example.banksample.jwt.VerifiedTokenCache;
+import com.example.banksample.service.RefreshTokenServiceV1;
 import com.example.banksample.util.CustomResponseUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
@@ -11,7 +19,8 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.servlet.util.matcher.MvcRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
@@ -19,15 +28,35 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.servlet.handler.HandlerMappingIntrospector;
 
+import java.util.Map;
+
 @Configuration
 @Slf4j
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+	private final JwtProcess jwtProcess;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final RefreshTokenServiceV1 refreshTokenServiceV1;
+	private final CustomResponseUtil customResponseUtil;
+	private final LoginRateLimiter loginRateLimiter;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * {bcrypt} 접두사를 붙여서 저장한다. 접두사가 없는 기존 해시는 BCrypt 로 비교한다.
+	 * 접두사가 없거나 cost 가 설정값과 다른 해시는 로그인에 성공할 때 LoginService 가 다시 저장한다.
+	 */
 	@Bean
-	public BCryptPasswordEncoder passwordEncoder() {
-		log.info("[디버그] BCryptPasswordEncoder 빈을 등록합니다.");
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(PasswordProperties passwordProperties) {
+		log.info("[디버그] PasswordEncoder 빈을 등록합니다. bcrypt cost -> {}", passwordProperties.getBcryptStrength());
+		PasswordEncoder bcrypt = new CostAwareBCryptPasswordEncoder(passwordProperties.getBcryptStrength());
+		DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+		delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+		if (passwordProperties.getOffload().isEnabled()) {
+			return new OffloadingPasswordEncoder(delegatingPasswordEncoder, passwordProperties.getOffload());
+		}
+		return delegatingPasswordEncoder;
 	}
 
 	/**
@@ -54,17 +83,19 @@ public class SecurityConfig {
 				.requestMatchers(mvcMatcherBuilder.pattern("/api/test/**")).authenticated()
 				// 더 이상 ROLE_ prefix 를 사용하지 않는다.
 				.requestMatchers(mvcMatcherBuilder.pattern("/api/admin/**")).hasRole(String.valueOf(UserEnum.ADMIN))
+				// 운영 지표(actuator)는 관리자만 조회할 수 있다.
+				.requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole(String.valueOf(UserEnum.ADMIN))
 				.anyRequest().permitAll()
 		);
 		// 사용자가 정의한 커스텀 필터를 등록한다.
-		httpSecurity.apply(new SecurityFilterManager());
+		httpSecurity.apply(new SecurityFilterManager(jwtProcess, verifiedTokenCache, refreshTokenServiceV1, customResponseUtil, loginRateLimiter, objectMapper));
 
 		/*
 		 * 인증 및 인과 과정 중 에러가 발생하는 상황에 커스텀 에러 객체를 리턴시킨다.
 		 * */
 		httpSecurity.exceptionHandling(authz -> authz
-			.authenticationEntryPoint((req, res, ex) -> CustomResponseUtil.authFailed(res, "로그인이 필요합니다.", HttpStatus.UNAUTHORIZED))
-			.accessDeniedHandler((req, res, ex) -> CustomResponseUtil.authFailed(res, "관리자 권한이 필요합니다.", HttpStatus.FORBIDDEN))
+			.authenticationEntryPoint((req, res, ex) -> customResponseUtil.authFailed(res, CustomResponseUtil.LOGIN_REQUIRED, HttpStatus.UNAUTHORIZED))
+			.accessDeniedHandler((req, res, ex) -> customResponseUtil.authFailed(res, CustomResponseUtil.ADMIN_REQUIRED, HttpStatus.FORBIDDEN))
 		);
 
 		return httpSecurity.build();
@@ -1,18 +1,33 @@
 package com.example.banksample.config;
 
+import com.example.banksample.auth.LoginRateLimiter;
 import com.example.banksample.jwt.JwtAuthenticationFilter;
 import com.example.banksample.jwt.JwtAuthorizationFilter;
+import com.example.banksample.jwt.JwtProcess;
+import com.example.banksample.jwt.VerifiedTokenCache;
+import com.example.banksample.service.RefreshTokenServiceV1;
+import com.example.banksample.util.CustomResponseUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 
+@RequiredArgsConstructor
 public class SecurityFilterManager extends AbstractHttpConfigurer<SecurityFilterManager, HttpSecurity> {
 
+	private final JwtProcess jwtProcess;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final RefreshTokenServiceV1 refreshTokenServiceV1;
+	private final CustomResponseUtil customResponseUtil;
+	private final LoginRateLimiter loginRateLimiter;
+	private final ObjectMapper objectMapper;
+
 	@Override
 	public void configure(HttpSecurity builder) throws Exception {
 		AuthenticationManager authenticationManager = builder.getSharedObject(AuthenticationManager.class);
-		builder.addFilter(new JwtAuthenticationFilter(authenticationManager));
-		builder.addFilter(new JwtAuthorizationFilter(authenticationManager));
+		builder.addFilter(new JwtAuthenticationFilter(authenticationManager, jwtProcess, refreshTokenServiceV1, customResponseUtil, loginRateLimiter, objectMapper));
+		builder.addFilter(new JwtAuthorizationFilter(authenticationManager, verifiedTokenCache));
 		super.configure(builder);
 	}
 
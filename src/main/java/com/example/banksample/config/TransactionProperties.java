@@ -0,0 +1,37 @@
+package com.example.banksample.config;
+
+import com.example.banksample.handler.exception.CustomApiException;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 거래내역 조회에 관한 설정값을 보관한다.
+ * {@code bank.transaction.*} 로 주입받는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.transaction")
+public class TransactionProperties {
+
+	// size 를 지정하지 않았을 때의 페이지 크기
+	private int defaultPageSize = 5;
+
+	// 클라이언트가 지정할 수 있는 최대 페이지 크기
+	private int maxPageSize = 100;
+
+	/**
+	 * 요청한 페이지 크기를 기본값, 최대값에 맞춘다.
+	 * (서블릿, 리액티브 조회가 같은 규칙을 사용한다.)
+	 */
+	public int resolvePageSize(Integer size) {
+		if (size == null) {
+			return defaultPageSize;
+		}
+		if (size <= 0) {
+			throw new CustomApiException("페이지 크기는 1 이상이어야 합니다.");
+		}
+		return Math.min(size, maxPageSize);
+	}
+
+}
@@ -0,0 +1,25 @@
+package com.example.banksample.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 회원가입, 계좌 등록 시 중복 확인에 사용하는 Bloom filter 에 관한 설정값을 보관한다.
+ * {@code bank.unique-filter.*} 로 주입받는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.unique-filter")
+public class UniqueKeyFilterProperties {
+
+	// false 이면 항상 SELECT 로 중복을 확인한다.
+	private boolean enabled = true;
+
+	// 예상 사용자 수, 계좌 수 (이보다 많아지면 오탐률이 올라간다.)
+	private long expectedUsernames = 1_000_000;
+	private long expectedAccountNumbers = 1_000_000;
+
+	private double falsePositiveRate = 0.01;
+
+}
@@ -2,21 +2,31 @@ package com.example.banksample.domain.account;
 
 import com.example.banksample.common.BaseTime;
 import com.example.banksample.domain.user.User;
-import com.example.banksample.handler.exception.CustomApiException;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLockType;
+import org.hibernate.annotations.OptimisticLocking;
+
+/**
+ * 잔액 동시 변경을 막기 위해 낙관적 잠금을 사용한다.
+ * 별도의 version 컬럼 없이, 변경된 컬럼(balance)의 이전 값을 UPDATE 의 WHERE 조건에 포함시킨다.
+ * 다른 트랜잭션이 먼저 잔액을 바꿨다면 갱신 건수가 0 이 되어 ObjectOptimisticLockingFailureException 이 발생한다.
+ */
 @Entity
+@DynamicUpdate
+@OptimisticLocking(type = OptimisticLockType.DIRTY)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "tbl_account")
 @Getter
 public class Account extends BaseTime {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_seq_generator")
+	@SequenceGenerator(name = "account_seq_generator", sequenceName = "tbl_account_seq", allocationSize = 50)
 	private Long id;
 
 	@Column(unique = true, nullable = false, length = 10)
@@ -60,9 +70,7 @@ public class Account extends BaseTime {
 	 */
 	public void checkOwner(Long userId) {
 		// id 를 조회하는 경우 지연로딩 발생하지 않는다.
-		if (this.user.getId().longValue() != userId.longValue()) {
-			throw new CustomApiException("계좌의 소유자가 아닙니다.");
-		}
+		AccountOwnership.checkOwner(this.user.getId(), userId);
 	}
 
 	/*
@@ -73,15 +81,11 @@ public class Account extends BaseTime {
 	}
 
 	public void checkPassword(Long password) {
-		if (this.password.longValue() != password.longValue()) {
-			throw new CustomApiException("계좌 비밀번호가 일치하지 않습니다.");
-		}
+		AccountOwnership.checkPassword(this.password, password);
 	}
 
 	public void checkBalance(Long amount) {
-		if (this.balance < amount) {
-			throw new CustomApiException("계좌 잔액이 부족합니다.");
-		}
+		AccountOwnership.checkBalance(this.balance, amount);
 	}
 
 	public void withdraw(Long amount) {
@@ -0,0 +1,37 @@
+package com.example.banksample.domain.account;
+
+import com.example.banksample.handler.exception.CustomApiException;
+
+/**
+ * 계좌 소유자, 비밀번호, 잔액 검증 규칙
+ * 엔티티(Account), 조회 전용 projection, 메모리 잔액(in-memory) 이 같은 규칙과 메시지를 쓰도록 한 곳에 둔다.
+ */
+public class AccountOwnership {
+
+	public static final String NOT_OWNER = "계좌의 소유자가 아닙니다.";
+	public static final String PASSWORD_MISMATCH = "계좌 비밀번호가 일치하지 않습니다.";
+	public static final String INSUFFICIENT_BALANCE = "계좌 잔액이 부족합니다.";
+
+	private AccountOwnership() {
+
+	}
+
+	public static void checkOwner(Long ownerId, Long userId) {
+		if (ownerId.longValue() != userId.longValue()) {
+			throw new CustomApiException(NOT_OWNER);
+		}
+	}
+
+	public static void checkPassword(Long accountPassword, Long password) {
+		if (accountPassword.longValue() != password.longValue()) {
+			throw new CustomApiException(PASSWORD_MISMATCH);
+		}
+	}
+
+	public static void checkBalance(long balance, long amount) {
+		if (balance < amount) {
+			throw new CustomApiException(INSUFFICIENT_BALANCE);
+		}
+	}
+
+}
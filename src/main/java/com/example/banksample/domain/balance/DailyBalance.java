@@ -0,0 +1,50 @@
+package com.example.banksample.domain.balance;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 계좌별 일별 잔액 스냅샷
+ * 거래내역을 저장하는 트랜잭션에서 DailyBalanceJdbcRepository 의 upsert 로 갱신하므로, 엔티티로 저장하지 않는다.
+ * <p>
+ * opening: 그날 첫 거래 직전 잔액 / closing: 그날 마지막 거래 직후 잔액
+ * firstTransactionId, lastTransactionId: 그날 이 계좌의 거래내역 Id 범위
+ * (특정 시각의 잔액을 구할 때 그날의 거래내역만 인덱스 범위로 읽는 데 사용한다.)
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "tbl_daily_balance")
+@Getter
+public class DailyBalance {
+
+	@EmbeddedId
+	private DailyBalanceId id;
+
+	@Column(nullable = false)
+	private Long openingBalance;
+
+	@Column(nullable = false)
+	private Long closingBalance;
+
+	// 유형별 합계
+	@Column(nullable = false)
+	private Long depositTotal;
+	@Column(nullable = false)
+	private Long withdrawTotal;
+	@Column(nullable = false)
+	private Long transferInTotal;
+	@Column(nullable = false)
+	private Long transferOutTotal;
+
+	@Column(nullable = false)
+	private Integer txCount;
+
+	@Column(nullable = false)
+	private Long firstTransactionId;
+
+	@Column(nullable = false)
+	private Long lastTransactionId;
+
+}
@@ -0,0 +1,34 @@
+package com.example.banksample.domain.balance;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 일별 잔액 스냅샷의 PK (계좌 Id, 날짜)
+ * 계좌별로 날짜 순서대로 저장되므로 기간 조회가 PK 범위 스캔이 된다.
+ */
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyBalanceId implements Serializable {
+
+	@Column(name = "account_id")
+	private Long accountId;
+
+	@Column(name = "balance_date")
+	private LocalDate balanceDate;
+
+	public DailyBalanceId(Long accountId, LocalDate balanceDate) {
+		this.accountId = accountId;
+		this.balanceDate = balanceDate;
+	}
+
+}
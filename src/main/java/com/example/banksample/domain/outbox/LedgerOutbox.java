@@ -0,0 +1,71 @@
+package com.example.banksample.domain.outbox;
+
+import com.example.banksample.domain.transaction.Transaction;
+import com.example.banksample.domain.transaction.TransactionEnum;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래내역이 저장될 때 같은 DB 트랜잭션에서 함께 저장하는 원장 이벤트 (transactional outbox)
+ * 거래내역이 커밋되면 이벤트도 반드시 남고, 롤백되면 함께 사라진다.
+ * LedgerOutboxRelay 가 Id 순으로 읽어서 전달한 뒤 삭제하므로, 테이블에는 아직 전달되지 않은 이벤트만 남는다.
+ * <p>
+ * 계좌는 연관관계 대신 Id 만 저장한다. (계좌가 삭제되어도 이벤트는 전달되어야 한다.)
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "tbl_ledger_outbox")
+@Getter
+public class LedgerOutbox {
+
+	// 거래내역과 같이 시퀀스를 미리 할당받아 batch insert 가 가능하게 한다.
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ledger_outbox_seq_generator")
+	@SequenceGenerator(name = "ledger_outbox_seq_generator", sequenceName = "tbl_ledger_outbox_seq", allocationSize = 50)
+	private Long id;
+
+	@Column(nullable = false)
+	private Long transactionId;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private TransactionEnum type;
+
+	@Column(nullable = false)
+	private Long amount;
+
+	private Long withdrawAccountId;
+	private Long depositAccountId;
+	private Long withdrawBalance;
+	private Long depositBalance;
+
+	@Column(name = "tx_sender")
+	private String sender;
+	@Column(name = "tx_receiver")
+	private String receiver;
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	/**
+	 * 저장된(Id 가 채번된) 거래내역으로 이벤트를 만든다.
+	 */
+	public LedgerOutbox(Transaction transaction, LocalDateTime createdAt) {
+		this.transactionId = transaction.getId();
+		this.type = transaction.getType();
+		this.amount = transaction.getAmount();
+		// 프록시여도 Id 조회는 초기화를 일으키지 않는다.
+		this.withdrawAccountId = transaction.getWithdrawAccount() == null ? null : transaction.getWithdrawAccount().getId();
+		this.depositAccountId = transaction.getDepositAccount() == null ? null : transaction.getDepositAccount().getId();
+		this.withdrawBalance = transaction.getWithdrawAccountBalance();
+		this.depositBalance = transaction.getDepositAccountBalance();
+		this.sender = transaction.getSender();
+		this.receiver = transaction.getReceiver();
+		this.createdAt = createdAt;
+	}
+
+}
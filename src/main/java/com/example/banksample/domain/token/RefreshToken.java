@@ -0,0 +1,71 @@
+package com.example.banksample.domain.token;
+
+import com.example.banksample.common.BaseTime;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰
+ * 원문은 저장하지 않고 SHA-256 해시만 저장한다.
+ * <p>
+ * 한 번 사용한 토큰은 used 로 표시하고, 같은 familyId 로 새 토큰을 발급한다. (rotation)
+ * 이미 사용한 토큰이 다시 들어오면 탈취된 것으로 보고 같은 family 의 토큰을 모두 폐기(revoked)한다.
+ * 로그아웃도 family 를 폐기하며, 폐기된 토큰은 재사용으로 보지 않고 유효하지 않은 토큰으로 처리한다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+		name = "tbl_refresh_token",
+		indexes = {
+				@Index(name = "idx_refresh_token_family_id", columnList = "family_id"),
+				@Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+		}
+)
+@Getter
+public class RefreshToken extends BaseTime {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_token_seq_generator")
+	@SequenceGenerator(name = "refresh_token_seq_generator", sequenceName = "tbl_refresh_token_seq", allocationSize = 50)
+	private Long id;
+
+	@Column(nullable = false)
+	private Long userId;
+
+	@Column(unique = true, nullable = false, length = 43)
+	private String tokenHash;
+
+	// 최초 로그인 시 발급한 토큰부터 이어지는 재발급 묶음
+	@Column(nullable = false, length = 36)
+	private String familyId;
+
+	@Column(nullable = false)
+	private LocalDateTime expiresAt;
+
+	// 재발급에 사용한 토큰
+	@Column(nullable = false)
+	private boolean used;
+
+	// 로그아웃 또는 재사용 감지로 폐기한 토큰
+	@Column(nullable = false)
+	private boolean revoked;
+
+	@Builder
+	public RefreshToken(Long id, Long userId, String tokenHash, String familyId, LocalDateTime expiresAt) {
+		this.id = id;
+		this.userId = userId;
+		this.tokenHash = tokenHash;
+		this.familyId = familyId;
+		this.expiresAt = expiresAt;
+	}
+
+	public boolean isExpired(LocalDateTime now) {
+		return !expiresAt.isAfter(now);
+	}
+
+}
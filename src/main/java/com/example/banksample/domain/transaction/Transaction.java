@@ -9,14 +9,84 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "tbl_transaction")
+@Table(
+		name = "tbl_transaction",
+		indexes = {
+				// 계좌별 거래내역을 Id 순으로 범위 스캔하기 위한 인덱스
+				@Index(name = "idx_transaction_withdraw_account_id", columnList = "withdraw_account_id, id"),
+				@Index(name = "idx_transaction_deposit_account_id", columnList = "deposit_account_id, id")
+		}
+)
+@NamedQuery(
+		name = Transaction.FIND_WITHDRAW_LIST,
+		query = "SELECT t FROM Transaction t " +
+				"LEFT JOIN FETCH t.withdrawAccount wa " +
+				"LEFT JOIN FETCH t.depositAccount da " +
+				"WHERE t.withdrawAccount.id = :accountId AND t.id < :beforeId " +
+				"ORDER BY t.id DESC"
+)
+@NamedQuery(
+		name = Transaction.FIND_DEPOSIT_LIST,
+		query = "SELECT t FROM Transaction t " +
+				"LEFT JOIN FETCH t.withdrawAccount wa " +
+				"LEFT JOIN FETCH t.depositAccount da " +
+				"WHERE t.depositAccount.id = :accountId AND t.id < :beforeId " +
+				"ORDER BY t.id DESC"
+)
+@NamedQuery(
+		name = Transaction.FIND_WITHDRAW_PROJECTION_LIST,
+		query = "SELECT new com.example.banksample.repository.projection.TransactionProjection(" +
+				"t.id, t.type, t.amount, t.sender, t.receiver, t.tel, " +
+				"CASE WHEN t.depositAccount.id = :accountId THEN t.depositAccountBalance ELSE t.withdrawAccountBalance END) " +
+				"FROM Transaction t " +
+				"WHERE t.withdrawAccount.id = :accountId AND t.id < :beforeId " +
+				"ORDER BY t.id DESC"
+)
+@NamedQuery(
+		name = Transaction.FIND_DEPOSIT_PROJECTION_LIST,
+		query = "SELECT new com.example.banksample.repository.projection.TransactionProjection(" +
+				"t.id, t.type, t.amount, t.sender, t.receiver, t.tel, " +
+				"CASE WHEN t.depositAccount.id = :accountId THEN t.depositAccountBalance ELSE t.withdrawAccountBalance END) " +
+				"FROM Transaction t " +
+				"WHERE t.depositAccount.id = :accountId AND t.id < :beforeId " +
+				"ORDER BY t.id DESC"
+)
+@NamedQuery(
+		name = Transaction.FIND_LIST_BY_IDS,
+		query = "SELECT t FROM Transaction t " +
+				"LEFT JOIN FETCH t.withdrawAccount wa " +
+				"LEFT JOIN FETCH t.depositAccount da " +
+				"WHERE t.id IN :ids " +
+				"ORDER BY t.id DESC"
+)
 @Getter
 public class Transaction extends BaseTime {
 
+	/**
+	 * 계좌별 거래내역 조회 (Id 역순, 대략적인 최신순)
+	 * 출금, 입금 계좌 정보는 DTO 에서 잔액을 계산할 때 사용하므로 함께 가져온다.
+	 */
+	public static final String FIND_WITHDRAW_LIST = "Transaction.findWithdrawList";
+	public static final String FIND_DEPOSIT_LIST = "Transaction.findDepositList";
+	// 전체(출금 + 입금) 조회는 Id 로 한 페이지를 자른 뒤 가져온다.
+	public static final String FIND_LIST_BY_IDS = "Transaction.findListByIds";
+
+	/**
+	 * 계좌별 거래내역 조회 (Id 역순, 응답에 필요한 컬럼만)
+	 * 엔티티를 만들지 않고 계좌 테이블과 조인하지 않는다.
+	 */
+	public static final String FIND_WITHDRAW_PROJECTION_LIST = "Transaction.findWithdrawProjectionList";
+	public static final String FIND_DEPOSIT_PROJECTION_LIST = "Transaction.findDepositProjectionList";
+
+	// IDENTITY 는 insert 마다 키를 받아와야 해서 JDBC batch insert 가 꺼진다.
+	// 시퀀스를 50 씩 미리 할당받아(pooled) 메모리에서 Id 를 채번한다.
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq_generator")
+	@SequenceGenerator(name = "transaction_seq_generator", sequenceName = "tbl_transaction_seq", allocationSize = 50)
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -65,8 +135,16 @@ public class Transaction extends BaseTime {
 	@Column(name = "tx_tel")
 	private String tel;
 
+	/**
+	 * 잔액이 변경된 시각
+	 * createdAt 은 저장 시각이라, 메모리에서 처리한 뒤 묶어서 저장하는 경우(in-memory) 거래 시각과 다르다.
+	 * 일별 잔액 스냅샷, 특정 시각의 잔액 조회는 이 시각을 기준으로 한다.
+	 */
+	@Column(name = "occurred_at", nullable = false, updatable = false)
+	private LocalDateTime occurredAt;
+
 	@Builder
-	public Transaction(Long id, Account withdrawAccount, Account depositAccount, Long amount, Long withdrawAccountBalance, Long depositAccountBalance, TransactionEnum type, String sender, String receiver, String tel) {
+	public Transaction(Long id, Account withdrawAccount, Account depositAccount, Long amount, Long withdrawAccountBalance, Long depositAccountBalance, TransactionEnum type, String sender, String receiver, String tel, LocalDateTime occurredAt) {
 		this.id = id;
 		this.withdrawAccount = withdrawAccount;
 		this.depositAccount = depositAccount;
@@ -77,6 +155,7 @@ public class Transaction extends BaseTime {
 		this.sender = sender;
 		this.receiver = receiver;
 		this.tel = tel;
+		this.occurredAt = occurredAt == null ? LocalDateTime.now() : occurredAt;
 	}
 
 	@Override
@@ -84,6 +163,7 @@ public class Transaction extends BaseTime {
 		return getClass().getSimpleName() + "(" +
 				"id = " + getId() + ", " +
 				"createdAt = " + getCreatedAt() + ", " +
+				"occurredAt = " + getOccurredAt() + ", " +
 				"modifiedAt = " + getModifiedAt() + ", " +
 				"amount = " + getAmount() + ", " +
 				"withdrawAccountBalance = " + getWithdrawAccountBalance() + ", " +
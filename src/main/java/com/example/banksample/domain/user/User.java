@@ -22,13 +22,15 @@ import java.util.List;
 public class User extends BaseTime {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq_generator")
+	@SequenceGenerator(name = "user_seq_generator", sequenceName = "tbl_user_seq", allocationSize = 50)
 	private Long id;
 
 	@Column(unique = true, nullable = false, length = 20)
 	private String username;
 
-	@Column(nullable = false, length = 60)
+	// {bcrypt}$2a$10$... (접두사 8자 + BCrypt 60자)
+	@Column(nullable = false, length = 100)
 	private String password;
 
 	@Column(nullable = false, length = 20)
@@ -48,6 +50,13 @@ public class User extends BaseTime {
 		this.accounts.add(account);
 	}
 
+	/**
+	 * 인코딩된 비밀번호로 교체한다.
+	 */
+	public void changePassword(String encodedPassword) {
+		this.password = encodedPassword;
+	}
+
 	@Builder
 	public User(Long id, String username, String password, String email, String fullname, UserEnum role) {
 		this.id = id;
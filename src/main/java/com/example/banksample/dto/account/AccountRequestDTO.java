@@ -5,13 +5,17 @@ import com.example.banksample.domain.user.User;
 import com.example.banksample.util.RegexCollection;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.List;
+
 public class AccountRequestDTO {
 
 	private AccountRequestDTO() {
@@ -116,4 +120,16 @@ public class AccountRequestDTO {
 		private String type;
 	}
 
+	@Getter
+	@Setter
+	@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+	public static class BatchTransferAccountRequestDTO {
+
+		// 요청 순서대로 처리한다.
+		@NotNull
+		@Size(min = 1, max = 1000)
+		@Valid
+		private List<TransferAccountRequestDTO> transfers;
+	}
+
 }
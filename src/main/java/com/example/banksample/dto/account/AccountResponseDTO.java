@@ -4,6 +4,9 @@ package com.example.banksample.dto.account;
 import com.example.banksample.domain.account.Account;
 import com.example.banksample.domain.transaction.Transaction;
 import com.example.banksample.domain.user.User;
+import com.example.banksample.dto.transaction.TransactionDTO;
+import com.example.banksample.repository.projection.AccountProjection;
+import com.example.banksample.repository.projection.TransactionProjection;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
@@ -46,6 +49,14 @@ public class AccountResponseDTO {
 			this.accounts = accounts.stream().map(AccountDTO::new).toList();
 		}
 
+		/*
+		 * 캐시에 보관한 응답을 호출하는 쪽이 바꿀 수 없도록 복사한다.
+		 * */
+		public AccountListResponseDTO(AccountListResponseDTO source) {
+			this.fullname = source.fullname;
+			this.accounts = source.accounts.stream().map(AccountDTO::new).toList();
+		}
+
 		@Getter
 		@Setter
 		public class AccountDTO {
@@ -58,6 +69,12 @@ public class AccountResponseDTO {
 				this.balance = account.getBalance();
 				this.number = account.getNumber();
 			}
+
+			public AccountDTO(AccountDTO source) {
+				this.id = source.id;
+				this.balance = source.balance;
+				this.number = source.number;
+			}
 		}
 	}
 
@@ -219,52 +236,64 @@ public class AccountResponseDTO {
 					.toList();
 		}
 
-		@Getter
-		@Setter
-		@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
-		public class TransactionDTO {
-			private Long id;
-			private String type;
-			private Long amount;
-			private String sender;
-			private String receiver;
-			private String tel;
-			private Long balance;
+		public AccountDetailsResponseDTO(AccountProjection account, List<TransactionProjection> transactions) {
+			this.id = account.getId();
+			this.accountNumber = account.getNumber();
+			this.balance = account.getBalance();
+			this.transactions = transactions.stream()
+					.map(TransactionDTO::new)
+					.toList();
+		}
+	}
 
-			public TransactionDTO(
-					Transaction transaction,
-					Long accountNumber
-			) {
-				this.id = transaction.getId();
-				this.type = String.valueOf(transaction.getType());
-				this.amount = transaction.getAmount();
-				this.sender = transaction.getSender();
-				this.receiver = transaction.getReceiver();
-				this.tel = transaction.getTel() == null ? "없음" : transaction.getTel();
-
-				// 출금계좌 null, 입금계좌 1001L
-				if (transaction.getDepositAccount() == null) {
-					this.balance = transaction.getWithdrawAccountBalance();
-				}
-				// 출금계좌 1001L, 입금계좌 null
-				else if (transaction.getWithdrawAccount() == null) {
-					this.balance = transaction.getDepositAccountBalance();
-				}
-				// 입, 출금 내역
-				else {
-					// 내가 찾는 계좌 == 입금 계좌
-					if (accountNumber.longValue() == transaction.getDepositAccount().getNumber().longValue()) {
-						this.balance = transaction.getDepositAccountBalance();
-					}
-					// 내가 찾는 계좌 == 출금 계좌
-					else {
-						this.balance = transaction.getWithdrawAccountBalance();
-					}
-				}
-			}
+	@Getter
+	@Setter
+	@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+	public static class BatchTransferAccountResponseDTO {
+		private int successCount;
+		private int failureCount;
+		private List<BatchTransferResultDTO> results;   // 요청 순서와 같다.
+
+		public BatchTransferAccountResponseDTO(List<BatchTransferResultDTO> results) {
+			this.results = results;
+			this.successCount = (int) results.stream().filter(BatchTransferResultDTO::isSuccess).count();
+			this.failureCount = results.size() - successCount;
 		}
+	}
 
+	/**
+	 * 일괄 이체 건별 처리 결과
+	 * 실패한 건은 잔액이 변경되지 않고, message 에 실패 사유가 담긴다.
+	 */
+	@Getter
+	@Setter
+	@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+	public static class BatchTransferResultDTO {
+		private int index;
+		private Long withdrawNumber;
+		private Long depositNumber;
+		private Long amount;
+		private boolean success;
+		private Long balance;       // 출금 계좌 잔액 (성공한 경우)
+		private String message;
+
+		public BatchTransferResultDTO(int index, Long withdrawNumber, Long depositNumber, Long amount, Long balance) {
+			this.index = index;
+			this.withdrawNumber = withdrawNumber;
+			this.depositNumber = depositNumber;
+			this.amount = amount;
+			this.success = true;
+			this.balance = balance;
+		}
 
+		public BatchTransferResultDTO(int index, Long withdrawNumber, Long depositNumber, Long amount, String message) {
+			this.index = index;
+			this.withdrawNumber = withdrawNumber;
+			this.depositNumber = depositNumber;
+			this.amount = amount;
+			this.success = false;
+			this.message = message;
+		}
 	}
 
 }
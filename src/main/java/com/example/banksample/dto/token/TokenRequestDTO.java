@@ -0,0 +1,26 @@
+package com.example.banksample.dto.token;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class TokenRequestDTO {
+
+	private TokenRequestDTO() {
+	}
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+	public static class RefreshTokenRequestDTO {
+		@NotEmpty
+		private String refreshToken;
+	}
+
+}
@@ -0,0 +1,25 @@
+package com.example.banksample.dto.token;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+public class TokenResponseDTO {
+
+	private TokenResponseDTO() {
+	}
+
+	/**
+	 * 액세스 토큰은 로그인과 같이 Authorization 헤더로도 내려준다.
+	 */
+	@Getter
+	@RequiredArgsConstructor
+	@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+	public static class RefreshTokenResponseDTO {
+		private final String accessToken;
+		private final String refreshToken;
+		private final String refreshTokenExpiresAt;
+	}
+
+}
@@ -0,0 +1,77 @@
+package com.example.banksample.dto.transaction;
+
+import com.example.banksample.domain.transaction.Transaction;
+import com.example.banksample.repository.projection.TransactionProjection;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 조회한 계좌 기준 거래내역 1건
+ * 거래내역 목록(TransactionListResponseDTO), 계좌 상세(AccountDetailsResponseDTO) 응답이 같이 사용한다.
+ */
+@Getter
+@Setter
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class TransactionDTO {
+	private Long id;
+	private String type;
+	private Long amount;
+	private String sender;
+	private String receiver;
+	private String tel;
+	private Long balance;   // 조회한 계좌의 거래 후 잔액
+
+	/*
+	 * 프로젝션은 조회한 계좌 기준 잔액이 쿼리에서 계산되어 있다.
+	 * */
+	public TransactionDTO(TransactionProjection transaction) {
+		this.id = transaction.getId();
+		this.type = String.valueOf(transaction.getType());
+		this.amount = transaction.getAmount();
+		this.sender = transaction.getSender();
+		this.receiver = transaction.getReceiver();
+		this.tel = telOf(transaction.getTel());
+		this.balance = transaction.getBalance();
+	}
+
+	public TransactionDTO(
+			Transaction transaction,
+			Long accountNumber
+	) {
+		this.id = transaction.getId();
+		this.type = String.valueOf(transaction.getType());
+		this.amount = transaction.getAmount();
+		this.sender = transaction.getSender();
+		this.receiver = transaction.getReceiver();
+		this.tel = telOf(transaction.getTel());
+
+		// 출금계좌 null, 입금계좌 1001L
+		if (transaction.getDepositAccount() == null) {
+			this.balance = transaction.getWithdrawAccountBalance();
+		}
+		// 출금계좌 1001L, 입금계좌 null
+		else if (transaction.getWithdrawAccount() == null) {
+			this.balance = transaction.getDepositAccountBalance();
+		}
+		// 입, 출금 내역
+		else {
+			// 내가 찾는 계좌 == 입금 계좌
+			if (accountNumber.longValue() == transaction.getDepositAccount().getNumber().longValue()) {
+				this.balance = transaction.getDepositAccountBalance();
+			}
+			// 내가 찾는 계좌 == 출금 계좌
+			else {
+				this.balance = transaction.getWithdrawAccountBalance();
+			}
+		}
+	}
+
+	/**
+	 * 전화번호가 없는 거래(출금, 이체)는 "없음" 으로 표시한다.
+	 */
+	public static String telOf(String tel) {
+		return tel == null ? "없음" : tel;
+	}
+}
@@ -0,0 +1,21 @@
+package com.example.banksample.dto.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 거래내역 내보내기 형식
+ */
+@Getter
+@AllArgsConstructor
+public enum TransactionExportFormat {
+
+	// 한 줄에 JSON 객체 하나
+	NDJSON("application/x-ndjson; charset=utf-8", "ndjson"),
+	// 첫 줄은 헤더
+	CSV("text/csv; charset=utf-8", "csv");
+
+	private final String contentType;
+	private final String extension;
+
+}
@@ -0,0 +1,23 @@
+package com.example.banksample.dto.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 거래내역 조회 조건 (조회한 계좌 기준)
+ * 저장되는 거래 유형(TransactionEnum)과 별개의 요청 값이다.
+ */
+@Getter
+@AllArgsConstructor
+public enum TransactionFilter {
+
+	// 출금, 입금 구분 없이 전체
+	ALL("전체"),
+	// 조회한 계좌에서 돈이 나간 거래 (출금, 보낸 이체)
+	WITHDRAW("출금"),
+	// 조회한 계좌로 돈이 들어온 거래 (입금, 받은 이체)
+	DEPOSIT("입금");
+
+	private final String value;
+
+}
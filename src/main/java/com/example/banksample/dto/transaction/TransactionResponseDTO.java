@@ -1,12 +1,16 @@
 package com.example.banksample.dto.transaction;
 
 import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.balance.DailyBalance;
 import com.example.banksample.domain.transaction.Transaction;
+import com.example.banksample.repository.projection.TransactionProjection;
+import com.example.banksample.util.CustomDateUtil;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -21,53 +25,84 @@ public class TransactionResponseDTO {
 	@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 	public static class TransactionListResponseDTO {
 		private List<TransactionDTO> transactions = new ArrayList<>();
+		// 다음 페이지 조회 시 cursor 로 전달한다. 마지막 페이지이면 null
+		private String nextCursor;
 
 		public TransactionListResponseDTO(Account account, List<Transaction> transactions) {
+			this(account, transactions, null);
+		}
+
+		public TransactionListResponseDTO(Account account, List<Transaction> transactions, String nextCursor) {
 			this.transactions = transactions.stream()
 					.map(transaction -> new TransactionDTO(transaction, account.getNumber())).toList();
+			this.nextCursor = nextCursor;
+		}
+
+		/*
+		 * 프로젝션은 조회한 계좌 기준 잔액이 이미 계산되어 있으므로 계좌 정보가 필요 없다.
+		 * */
+		public TransactionListResponseDTO(List<TransactionProjection> transactions, String nextCursor) {
+			this.transactions = transactions.stream()
+					.map(TransactionDTO::new).toList();
+			this.nextCursor = nextCursor;
+		}
+	}
+
+	/**
+	 * 특정 시각의 계좌 잔액
+	 */
+	@Getter
+	@Setter
+	@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+	public static class BalanceAtResponseDTO {
+		private Long accountNumber;
+		private String at;
+		private Long balance;
+
+		public BalanceAtResponseDTO(Long accountNumber, LocalDateTime at, Long balance) {
+			this.accountNumber = accountNumber;
+			this.at = CustomDateUtil.toStringFormat(at);
+			this.balance = balance;
+		}
+	}
+
+	/**
+	 * 기간별 일별 잔액, 유형별 합계 (거래가 있었던 날만)
+	 */
+	@Getter
+	@Setter
+	@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+	public static class DailyBalanceListResponseDTO {
+		private Long accountNumber;
+		private List<DailyBalanceDTO> days;
+
+		public DailyBalanceListResponseDTO(Long accountNumber, List<DailyBalance> dailyBalances) {
+			this.accountNumber = accountNumber;
+			this.days = dailyBalances.stream().map(DailyBalanceDTO::new).toList();
 		}
 
 		@Getter
 		@Setter
-		public class TransactionDTO {
-			private Long id;
-			private String type;
-			private Long amount;
-			private String sender;
-			private String receiver;
-			private String tel;
-			private Long balance;
-
-			public TransactionDTO(
-					Transaction transaction,
-					Long accountNumber
-			) {
-				this.id = transaction.getId();
-				this.type = String.valueOf(transaction.getType());
-				this.amount = transaction.getAmount();
-				this.sender = transaction.getSender();
-				this.receiver = transaction.getReceiver();
-				this.tel = transaction.getTel() == null ? "없음" : transaction.getTel();
+		@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+		public class DailyBalanceDTO {
+			private String date;
+			private Long openingBalance;
+			private Long closingBalance;
+			private Long depositTotal;
+			private Long withdrawTotal;
+			private Long transferInTotal;
+			private Long transferOutTotal;
+			private Integer txCount;
 
-				// 출금계좌 null, 입금계좌 1001L
-				if (transaction.getDepositAccount() == null) {
-					this.balance = transaction.getWithdrawAccountBalance();
-				}
-				// 출금계좌 1001L, 입금계좌 null
-				else if (transaction.getWithdrawAccount() == null) {
-					this.balance = transaction.getDepositAccountBalance();
-				}
-				// 입, 출금 내역
-				else {
-					// 내가 찾는 계좌 == 입금 계좌
-					if (accountNumber.longValue() == transaction.getDepositAccount().getNumber().longValue()) {
-						this.balance = transaction.getDepositAccountBalance();
-					}
-					// 내가 찾는 계좌 == 출금 계좌
-					else {
-						this.balance = transaction.getWithdrawAccountBalance();
-					}
-				}
+			public DailyBalanceDTO(DailyBalance dailyBalance) {
+				this.date = dailyBalance.getId().getBalanceDate().toString();
+				this.openingBalance = dailyBalance.getOpeningBalance();
+				this.closingBalance = dailyBalance.getClosingBalance();
+				this.depositTotal = dailyBalance.getDepositTotal();
+				this.withdrawTotal = dailyBalance.getWithdrawTotal();
+				this.transferInTotal = dailyBalance.getTransferInTotal();
+				this.transferOutTotal = dailyBalance.getTransferOutTotal();
+				this.txCount = dailyBalance.getTxCount();
 			}
 		}
 	}
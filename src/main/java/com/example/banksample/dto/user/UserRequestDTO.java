@@ -7,7 +7,7 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import jakarta.validation.constraints.*;
 import lombok.*;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 public class UserRequestDTO {
 
@@ -54,12 +54,12 @@ public class UserRequestDTO {
 		private String fullname;
 
 		// DTO 를 Entity 로 변경하는 시점에 비밀번호 암호화
-		public User toEntity(BCryptPasswordEncoder bCryptPasswordEncoder) {
+		public User toEntity(PasswordEncoder passwordEncoder) {
 			return User.builder()
 					.username(username)
 					.fullname(fullname)
 					.email(email)
-					.password(bCryptPasswordEncoder.encode(password))
+					.password(passwordEncoder.encode(password))
 					.role(UserEnum.CUSTOMER)
 					.build();
 		}
@@ -2,6 +2,7 @@ package com.example.banksample.dto.user;
 
 import com.example.banksample.domain.user.User;
 import com.example.banksample.util.CustomDateUtil;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -17,6 +18,9 @@ public class UserResponseDTO {
 		private Long id;
 		private String username;
 		private String createdAt;
+		// 액세스 토큰 만료 시 POST /api/token/refresh 로 재발급받는다.
+		@JsonProperty("refresh_token")
+		private String refreshToken;
 
 		public LoginResponseDTO(User user) {
 			this.id = user.getId();
@@ -5,6 +5,7 @@ import com.example.banksample.handler.exception.CustomApiException;
 import com.example.banksample.handler.exception.CustomForbiddenException;
 import com.example.banksample.handler.exception.CustomValidationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -26,6 +27,15 @@ public class CustomExceptionHandler {
 		return new ResponseEntity<>(new ResponseDTO<>(-1, ex.getMessage(), null), HttpStatus.FORBIDDEN);
 	}
 
+	/**
+	 * 재시도 후에도 다른 거래와 충돌한 경우
+	 */
+	@ExceptionHandler(ConcurrencyFailureException.class)
+	public ResponseEntity<?> concurrencyFailureException(ConcurrencyFailureException ex) {
+		log.error("error -> {}", ex.getMessage());
+		return new ResponseEntity<>(new ResponseDTO<>(-1, "다른 거래와 충돌했습니다. 잠시 후 다시 시도해주세요.", null), HttpStatus.CONFLICT);
+	}
+
 	@ExceptionHandler(CustomValidationException.class)
 	public ResponseEntity<?> apiException(CustomValidationException ex) {
 		log.error("error -> {}", ex.getMessage());
@@ -0,0 +1,74 @@
+package com.example.banksample.handler.aop;
+
+import com.example.banksample.config.AccountProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link RetryOnConflict} 가 붙은 메서드를 재시도한다.
+ * <p>
+ * 트랜잭션 Advice 보다 먼저 실행되어야(바깥에 있어야) 재시도마다 새 트랜잭션이 열린다.
+ * 따라서 트랜잭션 Advice 의 기본 순서(LOWEST_PRECEDENCE) 보다 우선순위를 높게 둔다.
+ * <p>
+ * 재시도 횟수는 bank.account.conflict.retries, 재시도를 모두 소진한 경우는 bank.account.conflict.aborts 로 집계한다.
+ */
+@Slf4j
+@Component
+@Aspect
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class ConflictRetryAdvice {
+
+	private final AccountProperties accountProperties;
+	private final MeterRegistry meterRegistry;
+
+	@Around("@annotation(com.example.banksample.handler.aop.RetryOnConflict)")
+	public Object retryAdvice(ProceedingJoinPoint pjp) throws Throwable {
+		// 이미 바깥 트랜잭션 안이라면 재시도해도 소용이 없다. (바깥 트랜잭션이 rollback-only 상태가 된다.)
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			return pjp.proceed();
+		}
+
+		String method = pjp.getSignature().getName();
+		AccountProperties.Retry retry = accountProperties.getRetry();
+		int maxAttempts = Math.max(1, retry.getMaxAttempts());
+
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return pjp.proceed();
+			} catch (ConcurrencyFailureException e) {
+				if (attempt >= maxAttempts) {
+					meterRegistry.counter("bank.account.conflict.aborts", "method", method).increment();
+					log.error("error -> [{}] {} 회 시도 후 실패했습니다. {}", method, attempt, e.getMessage());
+					throw e;
+				}
+				meterRegistry.counter("bank.account.conflict.retries", "method", method).increment();
+
+				// 지수 백오프 + 지터 (같은 계좌를 노리는 요청들이 동시에 다시 충돌하지 않도록 한다.)
+				long backoff = backoffMs(retry, attempt);
+				Thread.sleep(ThreadLocalRandom.current().nextLong(backoff / 2, backoff + 1));
+			}
+		}
+	}
+
+	/**
+	 * attempt 번째 실패 후 대기 시간의 상한
+	 * long 의 shift 는 64 로 나눈 나머지만큼 이동하므로, 시도 횟수가 커져도 넘치지 않도록 shift 를 30 으로 제한한다.
+	 */
+	static long backoffMs(AccountProperties.Retry retry, int attempt) {
+		long backoff = retry.getBackoffMs() << Math.min(attempt - 1, 30);
+		return Math.min(retry.getMaxBackoffMs(), backoff);
+	}
+
+}
@@ -0,0 +1,15 @@
+package com.example.banksample.handler.aop;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 동시성 충돌(낙관적 잠금 실패, 데드락 등)이 발생하면 트랜잭션 전체를 다시 실행한다.
+ * {@link ConflictRetryAdvice} 가 트랜잭션 바깥에서 감싸기 때문에, 재시도마다 새 트랜잭션이 시작된다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
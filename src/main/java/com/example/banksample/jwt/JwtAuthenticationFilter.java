@@ -1,8 +1,11 @@
 package com.example.banksample.jwt;
 
+import com.example.banksample.auth.LoginRateLimiter;
 import com.example.banksample.auth.LoginUser;
+import com.example.banksample.service.RefreshTokenServiceV1;
 import com.example.banksample.util.CustomResponseUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,12 +28,24 @@ import static com.example.banksample.dto.user.UserResponseDTO.LoginResponseDTO;
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
 	private AuthenticationManager authenticationManager;
-
-	public JwtAuthenticationFilter(AuthenticationManager authenticationManager) {
+	private final JwtProcess jwtProcess;
+	private final RefreshTokenServiceV1 refreshTokenServiceV1;
+	private final CustomResponseUtil customResponseUtil;
+	private final LoginRateLimiter loginRateLimiter;
+	// ObjectReader 는 thread-safe 하므로 스프링 컨텍스트의 ObjectMapper 로 한 번만 만들어 재사용한다.
+	private final ObjectReader loginRequestReader;
+
+	public JwtAuthenticationFilter(AuthenticationManager authenticationManager, JwtProcess jwtProcess, RefreshTokenServiceV1 refreshTokenServiceV1,
+			CustomResponseUtil customResponseUtil, LoginRateLimiter loginRateLimiter, ObjectMapper objectMapper) {
 		super(authenticationManager);
 		// default 로 지정되어 있는 POST '/login' 의 url 을 변경한다.
 		setFilterProcessesUrl("/api/login");
 		this.authenticationManager = authenticationManager;
+		this.jwtProcess = jwtProcess;
+		this.refreshTokenServiceV1 = refreshTokenServiceV1;
+		this.customResponseUtil = customResponseUtil;
+		this.loginRateLimiter = loginRateLimiter;
+		this.loginRequestReader = objectMapper.readerFor(LoginRequestDTO.class);
 	}
 
 	// POST /api/login
@@ -38,8 +53,14 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 	public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
 		log.info("[*] attemptAuthentication 호출되었습니다.");
 		try {
-			ObjectMapper om = new ObjectMapper();
-			LoginRequestDTO loginRequestDTO = om.readValue(request.getInputStream(), LoginRequestDTO.class);
+			LoginRequestDTO loginRequestDTO = loginRequestReader.readValue(request.getInputStream());
+
+			// 한도를 넘은 시도는 사용자 조회, BCrypt 비교 없이 429 로 응답한다.
+			// null 을 반환하면 AbstractAuthenticationProcessingFilter 는 응답이 끝난 것으로 보고 더 진행하지 않는다.
+			if (!loginRateLimiter.tryAcquire(loginRequestDTO.getUsername(), request.getRemoteAddr())) {
+				customResponseUtil.authFailed(response, CustomResponseUtil.TOO_MANY_LOGIN_ATTEMPTS, HttpStatus.TOO_MANY_REQUESTS);
+				return null;
+			}
 
 			// 강제 로그인
 			UsernamePasswordAuthenticationToken authenticationToken
@@ -69,7 +90,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 	 */
 	@Override
 	protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) throws IOException, ServletException {
-		CustomResponseUtil.authFailed(response, "로그인에 실패했습니다.", HttpStatus.UNAUTHORIZED);
+		customResponseUtil.authFailed(response, CustomResponseUtil.LOGIN_FAILED, HttpStatus.UNAUTHORIZED);
 	}
 
 	/**
@@ -83,12 +104,14 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 		// 로그인 처리 된 유저 객체를 가져온다.
 		LoginUser loginUser = (LoginUser) authResult.getPrincipal();
 		// 유저 객체의 정보를 통해 jwt 토큰을 생성한다.
-		String jwtToken = JwtProcess.createToken(loginUser);
+		String jwtToken = jwtProcess.createToken(loginUser);
 		// 생성한 토큰을 응답 헤더에 추가한다.
 		response.addHeader(JwtTokenVO.TOKEN_HEADER, jwtToken);
 		LoginResponseDTO loginResponseDTO = new LoginResponseDTO(loginUser.getUser());
+		// 액세스 토큰이 만료되면 다시 로그인하지 않고 리프레시 토큰으로 재발급받는다.
+		loginResponseDTO.setRefreshToken(refreshTokenServiceV1.issue(loginUser.getUser()));
 
-		CustomResponseUtil.loginSuccess(response, loginResponseDTO);
+		customResponseUtil.loginSuccess(response, loginResponseDTO);
 	}
 
 }
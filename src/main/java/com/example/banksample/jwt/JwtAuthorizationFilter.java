@@ -20,8 +20,11 @@ import java.io.IOException;
 @Slf4j
 public class JwtAuthorizationFilter extends BasicAuthenticationFilter {
 
-	public JwtAuthorizationFilter(AuthenticationManager authenticationManager) {
+	private final VerifiedTokenCache verifiedTokenCache;
+
+	public JwtAuthorizationFilter(AuthenticationManager authenticationManager, VerifiedTokenCache verifiedTokenCache) {
 		super(authenticationManager);
+		this.verifiedTokenCache = verifiedTokenCache;
 	}
 
 	@Override
@@ -30,7 +33,8 @@ public class JwtAuthorizationFilter extends BasicAuthenticationFilter {
 		if (isHeaderValid(request, response)) {
 			// 헤더에서 토큰을 추출한다.
 			String token = request.getHeader(JwtTokenVO.TOKEN_HEADER).replace(JwtTokenVO.TOKEN_PREFIX, "");
-			LoginUser loginUser = JwtProcess.verifyToken(token);
+			// 이미 검증한 토큰이면 캐시된 결과를 사용한다.
+			LoginUser loginUser = verifiedTokenCache.verify(token);
 			/*
 			 * 여기까지 온 경우, 해당 유저는 인증이 된 상태이다.
 			 * 임시로 세션을 생성하기 위해 UsernamePasswordAuthenticationToken 객체를 생성한다.
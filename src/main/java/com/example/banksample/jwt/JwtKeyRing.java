@@ -0,0 +1,298 @@
+package com.example.banksample.jwt;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.example.banksample.config.JwtProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyFactory;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ES256, RS256 모드에서 사용하는 서명 키 모음.
+ * <p>
+ * 가장 최근 키로 서명하고, 검증은 토큰 헤더의 kid 로 미리 만들어둔 검증기를 찾아서 한다.
+ * 키를 교체해도 이전 키를 retainedKeys 개까지 남겨두기 때문에, 모든 사용자가 한 번에 다시 로그인하지 않는다.
+ * 공개키는 JWKS 형식으로 내보낼 수 있어서, 검증만 하는 노드는 서명 키 없이 확장할 수 있다.
+ * <p>
+ * {@code bank.jwt.key-ring.keys} 를 설정하면 설정의 키를 읽는다. 모든 노드가 같은 키를 쓰므로
+ * 어느 노드에서 발급한 토큰이든 다른 노드에서 검증되고, 재시작해도 토큰이 무효가 되지 않는다.
+ * 검증만 하는 노드는 공개키만 설정한다.
+ * 설정하지 않으면 노드가 키를 직접 만든다. 이 키는 해당 노드에서만 검증되므로 단일 노드에서만 사용한다.
+ * <p>
+ * HS512 모드에서는 키를 만들지 않는다.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+	private static final String ISSUER = "local";
+
+	private final JwtProperties.SigningAlgorithm algorithm;
+	private final int retainedKeys;
+	private final long rotationIntervalMs;
+	// 설정으로 주입한 키를 사용하는지 여부 (자동으로 교체하지 않는다.)
+	private final boolean shared;
+
+	// 최신 키가 앞에 온다. 변경은 synchronized 메서드에서만 한다.
+	private final Deque<SigningKey> keys = new ArrayDeque<>();
+	private final Map<String, SigningKey> keysById = new ConcurrentHashMap<>();
+	private volatile SigningKey activeKey;
+	// 키가 폐기될 때마다 증가한다.
+	private volatile long retiredVersion;
+
+	public JwtKeyRing(JwtProperties jwtProperties) {
+		this.algorithm = jwtProperties.getAlgorithm();
+		this.retainedKeys = Math.max(1, jwtProperties.getKeyRing().getRetainedKeys());
+		this.rotationIntervalMs = jwtProperties.getKeyRing().getRotationIntervalMs();
+		this.shared = !jwtProperties.getKeyRing().getKeys().isEmpty();
+		if (!isEnabled()) {
+			return;
+		}
+		if (shared) {
+			load(jwtProperties.getKeyRing());
+		} else {
+			log.warn("[경고] bank.jwt.key-ring.keys 가 없어서 jwt 서명 키를 직접 만듭니다. 다른 노드에서는 검증되지 않고, 재시작하면 발급한 토큰이 모두 무효가 됩니다.");
+			rotate();
+		}
+	}
+
+	public boolean isEnabled() {
+		return algorithm.isAsymmetric();
+	}
+
+	/**
+	 * 현재 서명에 사용하는 키
+	 */
+	public SigningKey active() {
+		SigningKey key = activeKey;
+		if (key == null) {
+			throw new IllegalStateException("jwt 서명 키가 없습니다. 검증만 하는 노드는 토큰을 발급할 수 없습니다. (bank.jwt.key-ring.active-kid)");
+		}
+		return key;
+	}
+
+	/**
+	 * kid 에 해당하는 검증기를 찾는다. 폐기되었거나 모르는 kid 면 null 을 반환한다.
+	 */
+	public JWTVerifier verifier(String kid) {
+		SigningKey key = kid == null ? null : keysById.get(kid);
+		return key == null ? null : key.verifier;
+	}
+
+	public long getRetiredVersion() {
+		return retiredVersion;
+	}
+
+	/**
+	 * 새 키를 만들어 서명 키로 사용하고, 보관 개수를 넘은 오래된 키는 폐기한다.
+	 * 설정으로 주입한 키는 설정을 바꿔서 교체한다.
+	 */
+	public synchronized void rotate() {
+		if (shared) {
+			throw new IllegalStateException("bank.jwt.key-ring.keys 로 주입한 키는 설정을 바꿔서 교체합니다.");
+		}
+		SigningKey key = generate();
+		keys.addFirst(key);
+		keysById.put(key.kid, key);
+		activeKey = key;
+
+		while (keys.size() > retainedKeys) {
+			SigningKey retired = keys.removeLast();
+			keysById.remove(retired.kid);
+			retiredVersion++;
+			log.info("[*] jwt 서명 키 폐기 kid -> {}", retired.kid);
+		}
+		log.info("[*] jwt 서명 키 교체 kid -> {}", key.kid);
+	}
+
+	/**
+	 * 1분마다 서명 키의 나이를 확인하고, rotationIntervalMs 가 지났으면 교체한다.
+	 */
+	@Scheduled(fixedDelay = 60_000)
+	public void rotateIfExpired() {
+		SigningKey key = activeKey;
+		if (!shared && key != null && rotationIntervalMs > 0 && System.currentTimeMillis() - key.createdAtMillis >= rotationIntervalMs) {
+			rotate();
+		}
+	}
+
+	/**
+	 * 보관 중인 공개키를 JWKS({@code {"keys": [...]}}) 형식으로 반환한다.
+	 */
+	public Map<String, Object> toJwks() {
+		List<Map<String, Object>> jwks = new ArrayList<>();
+		for (SigningKey key : snapshot()) {
+			jwks.add(key.toJwk());
+		}
+		return Map.of("keys", jwks);
+	}
+
+	private synchronized List<SigningKey> snapshot() {
+		return new ArrayList<>(keys);
+	}
+
+	/**
+	 * 설정의 키를 읽는다. 설정 순서대로 보관하고 JWKS 도 같은 순서로 내보낸다.
+	 */
+	private void load(JwtProperties.KeyRing keyRing) {
+		for (JwtProperties.SharedKey sharedKey : keyRing.getKeys()) {
+			SigningKey key = parse(sharedKey);
+			if (keysById.putIfAbsent(key.kid, key) != null) {
+				throw new IllegalStateException("jwt 서명 키의 kid 가 중복되었습니다. kid -> " + key.kid);
+			}
+			keys.addLast(key);
+		}
+
+		String activeKid = keyRing.getActiveKid();
+		if (activeKid == null || activeKid.isBlank()) {
+			log.info("[*] jwt 검증 전용 노드, 공개키 {} 개", keys.size());
+			return;
+		}
+		SigningKey key = keysById.get(activeKid);
+		if (key == null || !key.canSign) {
+			throw new IllegalStateException("active-kid 에 해당하는 개인키가 없습니다. kid -> " + activeKid);
+		}
+		activeKey = key;
+		log.info("[*] jwt 서명 키 kid -> {}, 공개키 {} 개", activeKid, keys.size());
+	}
+
+	private SigningKey parse(JwtProperties.SharedKey sharedKey) {
+		try {
+			KeyFactory keyFactory = KeyFactory.getInstance(algorithm == JwtProperties.SigningAlgorithm.ES256 ? "EC" : "RSA");
+			PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(decode(sharedKey.getPublicKey())));
+			PrivateKey privateKey = sharedKey.getPrivateKey() == null || sharedKey.getPrivateKey().isBlank()
+					? null
+					: keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decode(sharedKey.getPrivateKey())));
+			// 개인키가 없으면 검증에만 사용한다.
+			Algorithm signingAlgorithm = algorithm == JwtProperties.SigningAlgorithm.ES256
+					? Algorithm.ECDSA256((ECPublicKey) publicKey, (ECPrivateKey) privateKey)
+					: Algorithm.RSA256((RSAPublicKey) publicKey, (RSAPrivateKey) privateKey);
+			return new SigningKey(sharedKey.getKid(), publicKey, signingAlgorithm, privateKey != null);
+		} catch (GeneralSecurityException | IllegalArgumentException | ClassCastException e) {
+			throw new IllegalStateException("jwt 서명 키를 읽을 수 없습니다. kid -> " + sharedKey.getKid(), e);
+		}
+	}
+
+	/**
+	 * PEM 의 머리글, 꼬리글과 줄바꿈을 무시하고 base64 로 디코딩한다.
+	 */
+	private static byte[] decode(String encoded) {
+		if (encoded == null) {
+			throw new IllegalArgumentException("키가 비어있습니다.");
+		}
+		return Base64.getMimeDecoder().decode(encoded.replaceAll("-----[A-Z ]+-----", ""));
+	}
+
+	private SigningKey generate() {
+		String kid = algorithm.name().toLowerCase() + "-" + UUID.randomUUID();
+		try {
+			if (algorithm == JwtProperties.SigningAlgorithm.ES256) {
+				KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+				generator.initialize(new ECGenParameterSpec("secp256r1"));
+				KeyPair keyPair = generator.generateKeyPair();
+				return new SigningKey(kid, keyPair.getPublic(),
+						Algorithm.ECDSA256((ECPublicKey) keyPair.getPublic(), (ECPrivateKey) keyPair.getPrivate()), true);
+			}
+			KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+			generator.initialize(2048);
+			KeyPair keyPair = generator.generateKeyPair();
+			return new SigningKey(kid, keyPair.getPublic(),
+					Algorithm.RSA256((RSAPublicKey) keyPair.getPublic(), (RSAPrivateKey) keyPair.getPrivate()), true);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("jwt 서명 키를 만들 수 없습니다.", e);
+		}
+	}
+
+	/**
+	 * 서명 키 1개와 미리 만들어둔 검증기
+	 */
+	public static final class SigningKey {
+		private final String kid;
+		private final PublicKey publicKey;
+		private final Algorithm algorithm;
+		private final JWTVerifier verifier;
+		// 개인키가 있어서 서명할 수 있는지 여부
+		private final boolean canSign;
+		private final long createdAtMillis = System.currentTimeMillis();
+
+		private SigningKey(String kid, PublicKey publicKey, Algorithm algorithm, boolean canSign) {
+			this.kid = kid;
+			this.canSign = canSign;
+			this.publicKey = publicKey;
+			this.algorithm = algorithm;
+			this.verifier = JWT.require(algorithm)
+					.withIssuer(ISSUER)
+					.build();
+		}
+
+		public String getKid() {
+			return kid;
+		}
+
+		Algorithm getAlgorithm() {
+			return algorithm;
+		}
+
+		private Map<String, Object> toJwk() {
+			Map<String, Object> jwk = new LinkedHashMap<>();
+			jwk.put("kid", kid);
+			jwk.put("use", "sig");
+			jwk.put("alg", algorithm.getName());
+			if (publicKey instanceof ECPublicKey ecPublicKey) {
+				jwk.put("kty", "EC");
+				jwk.put("crv", "P-256");
+				jwk.put("x", base64Url(ecPublicKey.getW().getAffineX(), 32));
+				jwk.put("y", base64Url(ecPublicKey.getW().getAffineY(), 32));
+			} else if (publicKey instanceof RSAPublicKey rsaPublicKey) {
+				jwk.put("kty", "RSA");
+				jwk.put("n", base64Url(rsaPublicKey.getModulus(), 0));
+				jwk.put("e", base64Url(rsaPublicKey.getPublicExponent(), 0));
+			}
+			return jwk;
+		}
+
+		/**
+		 * 부호 없는 big-endian 바이트로 인코딩한다. length 가 0 보다 크면 앞을 0 으로 채워 길이를 맞춘다.
+		 */
+		private static String base64Url(BigInteger value, int length) {
+			byte[] bytes = value.toByteArray();
+			if (bytes.length > 1 && bytes[0] == 0) {
+				byte[] unsigned = new byte[bytes.length - 1];
+				System.arraycopy(bytes, 1, unsigned, 0, unsigned.length);
+				bytes = unsigned;
+			}
+			if (length > bytes.length) {
+				byte[] padded = new byte[length];
+				System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+				bytes = padded;
+			}
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+		}
+	}
+
+}
@@ -1,31 +1,76 @@
 package com.example.banksample.jwt;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.example.banksample.auth.LoginUser;
 import com.example.banksample.domain.user.User;
 import com.example.banksample.domain.user.UserEnum;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
 
 import java.util.Date;
 
+/**
+ * 토큰 생성과 검증을 담당한다.
+ * Algorithm, JWTVerifier 는 thread-safe 하므로 한 번만 만들어두고 모든 요청에서 재사용한다.
+ * <p>
+ * HS512 비밀키 교체: jwt.previous_secret 에 이전 비밀키, jwt.secret 에 새 비밀키를 넣고 배포한다.
+ * 새 토큰은 새 비밀키로 서명하고, 이전 비밀키로 서명한 토큰도 계속 검증하므로 모든 사용자가 한 번에 다시 로그인하지 않는다.
+ * 이전 토큰이 모두 만료된 뒤(jwt.exp_time) jwt.previous_secret 을 지운다.
+ * <p>
+ * {@code bank.jwt.algorithm} 이 ES256, RS256 이면 {@link JwtKeyRing} 의 현재 키로 서명하고 헤더에 kid 를 넣는다.
+ * 검증은 kid 로 찾은 검증기로 한다. 키 교체는 {@link JwtKeyRing} 이 담당한다.
+ */
 @Slf4j
+@Component
 public class JwtProcess {
 
-	private JwtProcess() {
+	private static final String ISSUER = "local";
 
+	// HS512
+	private final Algorithm algorithm;
+	private final JWTVerifier verifier;
+	// 교체 전 비밀키의 검증기, 교체 중이 아니면 null
+	private final JWTVerifier previousVerifier;
+	private final JwtKeyRing keyRing;
+
+	public JwtProcess(@Value("${jwt.secret}") String secret, @Value("${jwt.previous_secret:}") String previousSecret, JwtKeyRing keyRing) {
+		this.algorithm = Algorithm.HMAC512(secret);
+		this.verifier = hmacVerifier(algorithm);
+		this.previousVerifier = previousSecret == null || previousSecret.isBlank()
+			? null
+			: hmacVerifier(Algorithm.HMAC512(previousSecret));
+		this.keyRing = keyRing;
+	}
+
+	private static JWTVerifier hmacVerifier(Algorithm algorithm) {
+		return JWT.require(algorithm)
+			.withIssuer(ISSUER)
+			.build();
 	}
 
-	public static String createToken(LoginUser loginUser) {
-		String jwtToken = JWT.create()
+	public String createToken(LoginUser loginUser) {
+		JWTCreator.Builder builder = JWT.create()
 			// 토큰의 이름
 			.withSubject("junit-bank-jwt")
-			.withIssuer("local")
+			.withIssuer(ISSUER)
 			.withExpiresAt(new Date(System.currentTimeMillis() + JwtTokenVO.TOKEN_EXP_TIME))
 			.withClaim("id", loginUser.getUser().getId())
-			.withClaim("role", String.valueOf(loginUser.getUser().getRole()))
-			.sign(Algorithm.HMAC512(JwtTokenVO.TOKEN_SECRET));
+			.withClaim("role", String.valueOf(loginUser.getUser().getRole()));
+
+		String jwtToken;
+		if (keyRing.isEnabled()) {
+			JwtKeyRing.SigningKey signingKey = keyRing.active();
+			jwtToken = builder.withKeyId(signingKey.getKid()).sign(signingKey.getAlgorithm());
+		} else {
+			jwtToken = builder.sign(algorithm);
+		}
 
 		log.info("[*] jwtToken -> {}", jwtToken);
 		return JwtTokenVO.TOKEN_PREFIX + jwtToken;
@@ -37,16 +82,54 @@ public class JwtProcess {
 	 * 토큰 검증에 성공 시 LoginUser 객체를 반환하고, 해당 객체를
 	 * 시큐리티 세션에 직접 주입시킨다.
 	 */
-	public static LoginUser verifyToken(String token) {
-		DecodedJWT decodedJWT = JWT.require(Algorithm.HMAC512(JwtTokenVO.TOKEN_SECRET))
-			.withIssuer("local")
-			.build()
-			.verify(token);
+	public LoginUser verifyToken(String token) {
+		return toLoginUser(verify(token));
+	}
+
+	/**
+	 * 서명과 만료 시간을 검증하고, 디코딩된 토큰을 반환한다.
+	 */
+	DecodedJWT verify(String token) {
+		if (!keyRing.isEnabled()) {
+			return verifyHmac(token);
+		}
+
+		DecodedJWT decodedJWT = JWT.decode(token);
+		JWTVerifier verifier = keyRing.verifier(decodedJWT.getKeyId());
+		if (verifier == null) {
+			throw new JWTVerificationException("알 수 없는 서명 키입니다. kid -> " + decodedJWT.getKeyId());
+		}
+		return verifier.verify(decodedJWT);
+	}
+
+	/**
+	 * 새 비밀키로 검증하고, 서명이 맞지 않으면 이전 비밀키로 한 번 더 검증한다.
+	 */
+	private DecodedJWT verifyHmac(String token) {
+		try {
+			return verifier.verify(token);
+		} catch (SignatureVerificationException e) {
+			if (previousVerifier == null) {
+				throw e;
+			}
+			return previousVerifier.verify(token);
+		}
+	}
 
+	static LoginUser toLoginUser(DecodedJWT decodedJWT) {
 		Long id = decodedJWT.getClaim("id").asLong();
 		String role = decodedJWT.getClaim("role").asString();
 		User user = User.builder().id(id).role(UserEnum.valueOf(role)).build();
 		return new LoginUser(user);
 	}
 
+	/**
+	 * 키 링에서 키가 폐기될 때마다 증가한다.
+	 * 검증 결과를 캐시하는 쪽에서 폐기 이전에 검증한 결과를 버리는 데 사용한다.
+	 * (키 링에 새 키가 추가되는 것만으로는 이전 토큰이 무효가 되지 않는다.)
+	 */
+	long getKeyVersion() {
+		return keyRing.getRetiredVersion();
+	}
+
 }
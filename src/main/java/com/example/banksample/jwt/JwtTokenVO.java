@@ -7,7 +7,6 @@ import org.springframework.stereotype.Component;
 public class JwtTokenVO {
 
 	public static Integer TOKEN_EXP_TIME;
-	public static String TOKEN_SECRET;
 	public static String TOKEN_PREFIX;
 	public static String TOKEN_HEADER;
 
@@ -16,11 +15,6 @@ public class JwtTokenVO {
 		this.TOKEN_EXP_TIME = TOKEN_EXP_TIME;
 	}
 
-	@Value("${jwt.secret}")
-	public void setTokenSecret(String TOKEN_SECRET) {
-		this.TOKEN_SECRET = TOKEN_SECRET;
-	}
-
 	@Value("${jwt.token_prefix}")
 	public void setTokenPrefix(String TOKEN_PREFIX) {
 		this.TOKEN_PREFIX = TOKEN_PREFIX;
@@ -0,0 +1,64 @@
+package com.example.banksample.jwt;
+
+import com.example.banksample.auth.LoginUser;
+import com.example.banksample.util.CustomResponseUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * 논블로킹 조회 API 의 토큰 검증 필터
+ * JwtAuthorizationFilter 와 같은 VerifiedTokenCache 로 검증하고, LoginUser 를 exchange 속성에 넣는다.
+ * 조회 API 는 모두 로그인이 필요하므로 토큰이 없거나 검증에 실패하면 401 로 응답한다.
+ */
+@Slf4j
+public class JwtWebFilter implements WebFilter {
+
+	private static final String LOGIN_USER_ATTRIBUTE = JwtWebFilter.class.getName() + ".LOGIN_USER";
+
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final CustomResponseUtil customResponseUtil;
+
+	public JwtWebFilter(VerifiedTokenCache verifiedTokenCache, CustomResponseUtil customResponseUtil) {
+		this.verifiedTokenCache = verifiedTokenCache;
+		this.customResponseUtil = customResponseUtil;
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		String header = exchange.getRequest().getHeaders().getFirst(JwtTokenVO.TOKEN_HEADER);
+		if (header == null || !header.startsWith(JwtTokenVO.TOKEN_PREFIX)) {
+			return unauthorized(exchange);
+		}
+		try {
+			// 서명 검증은 CPU 작업이고 캐시에 있으면 바로 반환되므로 이벤트 루프에서 처리한다.
+			LoginUser loginUser = verifiedTokenCache.verify(header.replace(JwtTokenVO.TOKEN_PREFIX, ""));
+			exchange.getAttributes().put(LOGIN_USER_ATTRIBUTE, loginUser);
+		} catch (RuntimeException e) {
+			log.debug("[*] 토큰 검증 실패 -> {}", e.getMessage());
+			return unauthorized(exchange);
+		}
+		return chain.filter(exchange);
+	}
+
+	/**
+	 * 필터를 통과한 요청의 LoginUser
+	 */
+	public static LoginUser loginUser(ServerWebExchange exchange) {
+		return exchange.getRequiredAttribute(LOGIN_USER_ATTRIBUTE);
+	}
+
+	private Mono<Void> unauthorized(ServerWebExchange exchange) {
+		ServerHttpResponse response = exchange.getResponse();
+		response.setStatusCode(HttpStatus.UNAUTHORIZED);
+		response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+		byte[] body = customResponseUtil.failurePayload(CustomResponseUtil.LOGIN_REQUIRED);
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+	}
+
+}
@@ -0,0 +1,116 @@
+package com.example.banksample.jwt;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.banksample.auth.LoginUser;
+import com.example.banksample.config.JwtProperties;
+import com.example.banksample.util.TokenHashUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증에 성공한 토큰의 LoginUser 를 토큰 만료 시각(exp)까지 캐시한다.
+ * 같은 토큰으로 반복해서 요청하는 경우, 서명 검증(HMAC512)은 노드마다 토큰당 한 번만 일어난다.
+ * <p>
+ * 토큰 원문 대신 SHA-256 해시를 키로 사용한다.
+ * 서명 키가 폐기되면 폐기 이전에 검증한 결과는 사용하지 않는다.
+ * 적중률은 cache.gets{cache=jwt.verified-token} 으로 집계한다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+	private final JwtProcess jwtProcess;
+	private final boolean enabled;
+	private final Cache<String, Entry> cache;
+
+	public VerifiedTokenCache(JwtProcess jwtProcess, JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+		this.jwtProcess = jwtProcess;
+		this.enabled = jwtProperties.getCache().isEnabled();
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(jwtProperties.getCache().getMaximumSize())
+				.expireAfter(new ExpireAtTokenExp())
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-token");
+	}
+
+	/**
+	 * 토큰을 검증하고 LoginUser 를 반환한다.
+	 * 캐시에 없거나, 만료되었거나, 서명 키 폐기 이전에 검증한 결과라면 다시 검증한다.
+	 */
+	public LoginUser verify(String token) {
+		if (!enabled) {
+			return jwtProcess.verifyToken(token);
+		}
+
+		// 검증 전에 읽어야, 검증 도중 키가 교체된 경우 이전 버전으로 저장되어 다음 요청에서 버려진다.
+		long keyVersion = jwtProcess.getKeyVersion();
+		String key = TokenHashUtil.sha256(token);
+		Entry entry = cache.getIfPresent(key);
+		if (entry != null && entry.isValid(keyVersion)) {
+			return entry.loginUser;
+		}
+
+		DecodedJWT decodedJWT = jwtProcess.verify(token);
+		LoginUser loginUser = JwtProcess.toLoginUser(decodedJWT);
+		if (decodedJWT.getExpiresAtAsInstant() != null) {
+			cache.put(key, new Entry(loginUser, decodedJWT.getExpiresAtAsInstant().toEpochMilli(), keyVersion));
+		}
+		return loginUser;
+	}
+
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	long size() {
+		cache.cleanUp();
+		return cache.estimatedSize();
+	}
+
+	private static final class Entry {
+		private final LoginUser loginUser;
+		private final long expiresAtMillis;
+		private final long keyVersion;
+
+		private Entry(LoginUser loginUser, long expiresAtMillis, long keyVersion) {
+			this.loginUser = loginUser;
+			this.expiresAtMillis = expiresAtMillis;
+			this.keyVersion = keyVersion;
+		}
+
+		/**
+		 * 캐시 만료는 비동기로 정리될 수 있으므로, 꺼낼 때 만료 시각을 한 번 더 확인한다.
+		 */
+		private boolean isValid(long currentKeyVersion) {
+			return keyVersion == currentKeyVersion && System.currentTimeMillis() < expiresAtMillis;
+		}
+	}
+
+	/**
+	 * 항목마다 토큰의 exp 시각에 만료시킨다.
+	 */
+	private static final class ExpireAtTokenExp implements Expiry<String, Entry> {
+		@Override
+		public long expireAfterCreate(String key, Entry entry, long currentTime) {
+			long remainingMillis = entry.expiresAtMillis - System.currentTimeMillis();
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, entry, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+
+}
@@ -0,0 +1,24 @@
+package com.example.banksample.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+/**
+ * 같은 프로세스의 {@code @EventListener(LedgerEvent.class)} 에 동기로 전달한다.
+ * 리스너에서 예외가 발생하면 묶음 전체를 다시 전달한다.
+ */
+@RequiredArgsConstructor
+public class ApplicationEventLedgerEventSink implements LedgerEventSink {
+
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	@Override
+	public void publish(List<LedgerEvent> events) {
+		for (LedgerEvent event : events) {
+			applicationEventPublisher.publishEvent(event);
+		}
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.example.banksample.outbox;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 이벤트를 한 줄에 하나씩 JSON 으로 파일 끝에 덧붙인다. (JSON Lines)
+ * 묶음 단위로 한 번 쓰고 디스크에 반영(force)한 뒤에 반환하므로, 반환된 이벤트는 프로세스가 죽어도 파일에 남는다.
+ */
+@Slf4j
+public class FileLedgerEventSink implements LedgerEventSink, AutoCloseable {
+
+	private static final byte NEW_LINE = '\n';
+
+	private final ObjectWriter objectWriter;
+	private final FileChannel channel;
+
+	public FileLedgerEventSink(ObjectWriter objectWriter, Path path) throws IOException {
+		this.objectWriter = objectWriter;
+		if (path.getParent() != null) {
+			Files.createDirectories(path.getParent());
+		}
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		log.info("[*] 원장 이벤트 파일 -> {}", path.toAbsolutePath());
+	}
+
+	@Override
+	public synchronized void publish(List<LedgerEvent> events) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream(events.size() * 256);
+		for (LedgerEvent event : events) {
+			objectWriter.writeValue(buffer, event);
+			buffer.write(NEW_LINE);
+		}
+		ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+		while (bytes.hasRemaining()) {
+			channel.write(bytes);
+		}
+		channel.force(false);
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+}
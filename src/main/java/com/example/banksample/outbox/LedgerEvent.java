@@ -0,0 +1,45 @@
+package com.example.banksample.outbox;
+
+import com.example.banksample.domain.outbox.LedgerOutbox;
+import com.example.banksample.domain.transaction.TransactionEnum;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * sink 에 전달하는 원장 이벤트
+ * 최소 한 번(at-least-once) 전달하므로 같은 이벤트가 다시 올 수 있다. 받는 쪽은 eventId 로 중복을 걸러야 한다.
+ */
+@Getter
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class LedgerEvent {
+
+	private final Long eventId;
+	private final Long transactionId;
+	private final TransactionEnum type;
+	private final Long amount;
+	private final Long withdrawAccountId;
+	private final Long depositAccountId;
+	private final Long withdrawBalance;
+	private final Long depositBalance;
+	private final String sender;
+	private final String receiver;
+	private final LocalDateTime createdAt;
+
+	public LedgerEvent(LedgerOutbox outbox) {
+		this.eventId = outbox.getId();
+		this.transactionId = outbox.getTransactionId();
+		this.type = outbox.getType();
+		this.amount = outbox.getAmount();
+		this.withdrawAccountId = outbox.getWithdrawAccountId();
+		this.depositAccountId = outbox.getDepositAccountId();
+		this.withdrawBalance = outbox.getWithdrawBalance();
+		this.depositBalance = outbox.getDepositBalance();
+		this.sender = outbox.getSender();
+		this.receiver = outbox.getReceiver();
+		this.createdAt = outbox.getCreatedAt();
+	}
+
+}
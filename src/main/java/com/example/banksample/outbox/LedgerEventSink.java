@@ -0,0 +1,14 @@
+package com.example.banksample.outbox;
+
+import java.util.List;
+
+/**
+ * outbox 에서 읽은 원장 이벤트를 전달하는 곳
+ * 예외 없이 반환하면 전달된 것으로 보고 outbox 에서 삭제한다.
+ * 예외가 발생하면 묶음 전체를 다음 주기에 다시 전달하므로, 일부만 전달된 경우 중복이 생길 수 있다.
+ */
+public interface LedgerEventSink {
+
+	void publish(List<LedgerEvent> events) throws Exception;
+
+}
@@ -0,0 +1,122 @@
+package com.example.banksample.outbox;
+
+import com.example.banksample.config.OutboxProperties;
+import com.example.banksample.domain.outbox.LedgerOutbox;
+import com.example.banksample.repository.LedgerOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 에 쌓인 원장 이벤트를 주기적으로 읽어서 sink 에 전달하고, 전달이 끝난 이벤트를 삭제한다.
+ * <p>
+ * 매 주기마다 Id 0 부터 batchSize 개씩 키셋으로 읽는다. 시퀀스 Id 는 커밋 순서와 다를 수 있어서
+ * 늦게 커밋된 작은 Id 는 이번 주기에 건너뛰더라도 삭제되지 않고 남아있다가 다음 주기에 전달된다.
+ * 전달 후 삭제 전에 실패하면 같은 이벤트를 다시 전달한다. (at-least-once)
+ * <p>
+ * 지표
+ * bank.outbox.published: 전달한 이벤트 수
+ * bank.outbox.failures: 전달에 실패한 묶음 수
+ * bank.outbox.batch.size: 묶음 크기
+ * bank.outbox.publish: sink 전달 시간
+ * bank.outbox.lag: 마지막으로 읽은 묶음에서 가장 오래된 이벤트의 대기 시간 (outbox 가 비어있으면 0)
+ */
+@Slf4j
+@Component
+public class LedgerOutboxRelay {
+
+	private final LedgerOutboxRepository ledgerOutboxRepository;
+	private final LedgerEventSink ledgerEventSink;
+	private final TransactionTemplate transactionTemplate;
+	private final boolean enabled;
+	private final int batchSize;
+
+	private final Counter published;
+	private final Counter failures;
+	private final DistributionSummary batchSizes;
+	private final Timer publishTimer;
+	private final AtomicLong lagMillis = new AtomicLong();
+
+	public LedgerOutboxRelay(
+			LedgerOutboxRepository ledgerOutboxRepository,
+			LedgerEventSink ledgerEventSink,
+			TransactionTemplate transactionTemplate,
+			OutboxProperties outboxProperties,
+			MeterRegistry meterRegistry
+	) {
+		this.ledgerOutboxRepository = ledgerOutboxRepository;
+		this.ledgerEventSink = ledgerEventSink;
+		this.transactionTemplate = transactionTemplate;
+		this.enabled = outboxProperties.isEnabled();
+		this.batchSize = Math.max(1, outboxProperties.getBatchSize());
+
+		this.published = meterRegistry.counter("bank.outbox.published");
+		this.failures = meterRegistry.counter("bank.outbox.failures");
+		this.batchSizes = meterRegistry.summary("bank.outbox.batch.size");
+		this.publishTimer = meterRegistry.timer("bank.outbox.publish");
+		TimeGauge.builder("bank.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * outbox 가 빌 때까지(읽은 묶음이 batchSize 보다 작을 때까지) 전달한다.
+	 * 전달에 실패하면 이번 주기를 멈추고 다음 주기에 같은 묶음부터 다시 전달한다.
+	 *
+	 * @return 이번 주기에 전달한 이벤트 수
+	 */
+	@Scheduled(fixedDelayString = "${bank.outbox.relay-interval-ms:200}")
+	public int relay() {
+		if (!enabled) {
+			return 0;
+		}
+
+		int relayed = 0;
+		long afterId = 0L;
+		while (true) {
+			List<LedgerOutbox> batch = ledgerOutboxRepository.findBatchAfter(afterId, PageRequest.ofSize(batchSize));
+			if (batch.isEmpty()) {
+				lagMillis.set(0);
+				return relayed;
+			}
+			lagMillis.set(Duration.between(batch.get(0).getCreatedAt(), LocalDateTime.now()).toMillis());
+
+			List<LedgerEvent> events = batch.stream().map(LedgerEvent::new).toList();
+			Timer.Sample sample = Timer.start();
+			try {
+				ledgerEventSink.publish(events);
+			} catch (Exception e) {
+				failures.increment();
+				log.error("[에러] 원장 이벤트 전달 실패, 다음 주기에 재시도합니다. -> {}", e.getMessage());
+				return relayed;
+			} finally {
+				sample.stop(publishTimer);
+			}
+
+			List<Long> ids = batch.stream().map(LedgerOutbox::getId).toList();
+			transactionTemplate.executeWithoutResult(status -> ledgerOutboxRepository.deleteByIdIn(ids));
+			published.increment(batch.size());
+			batchSizes.record(batch.size());
+			relayed += batch.size();
+
+			if (batch.size() < batchSize) {
+				lagMillis.set(0);
+				return relayed;
+			}
+			afterId = ids.get(ids.size() - 1);
+		}
+	}
+
+}
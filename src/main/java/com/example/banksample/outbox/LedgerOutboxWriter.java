@@ -0,0 +1,56 @@
+package com.example.banksample.outbox;
+
+import com.example.banksample.config.OutboxProperties;
+import com.example.banksample.domain.outbox.LedgerOutbox;
+import com.example.banksample.domain.transaction.Transaction;
+import com.example.banksample.repository.LedgerOutboxRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 거래내역을 저장한 트랜잭션 안에서 원장 이벤트를 outbox 에 저장한다.
+ * 거래내역과 같은 트랜잭션이어야 의미가 있으므로, 트랜잭션 밖에서 호출하면 예외가 발생한다.
+ */
+@Component
+@Transactional(propagation = Propagation.MANDATORY)
+public class LedgerOutboxWriter {
+
+	private final LedgerOutboxRepository ledgerOutboxRepository;
+	private final boolean enabled;
+
+	public LedgerOutboxWriter(LedgerOutboxRepository ledgerOutboxRepository, OutboxProperties outboxProperties) {
+		this.ledgerOutboxRepository = ledgerOutboxRepository;
+		this.enabled = outboxProperties.isEnabled();
+	}
+
+	/**
+	 * 저장된(Id 가 채번된) 거래내역 1건
+	 */
+	public void append(Transaction transaction) {
+		if (enabled) {
+			ledgerOutboxRepository.save(new LedgerOutbox(transaction, LocalDateTime.now()));
+		}
+	}
+
+	/**
+	 * 저장된 거래내역 여러 건 (Hibernate batch insert)
+	 */
+	public void appendAll(Collection<Transaction> transactions) {
+		if (!enabled || transactions.isEmpty()) {
+			return;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		List<LedgerOutbox> outboxes = new ArrayList<>(transactions.size());
+		for (Transaction transaction : transactions) {
+			outboxes.add(new LedgerOutbox(transaction, now));
+		}
+		ledgerOutboxRepository.saveAll(outboxes);
+	}
+
+}
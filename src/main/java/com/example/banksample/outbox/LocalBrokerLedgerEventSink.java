@@ -0,0 +1,41 @@
+package com.example.banksample.outbox;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 외부 메시지 브로커 대신 사용하는 메모리 큐
+ * 큐가 가득 차서 offerTimeoutMs 안에 넣지 못하면 전달에 실패하고, relay 가 다음 주기에 다시 전달한다.
+ * 소비자는 {@link #poll(long, TimeUnit)} 으로 이벤트를 가져간다.
+ */
+public class LocalBrokerLedgerEventSink implements LedgerEventSink {
+
+	private final BlockingQueue<LedgerEvent> queue;
+	private final long offerTimeoutMs;
+
+	public LocalBrokerLedgerEventSink(int capacity, long offerTimeoutMs) {
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.offerTimeoutMs = offerTimeoutMs;
+	}
+
+	@Override
+	public void publish(List<LedgerEvent> events) throws InterruptedException, TimeoutException {
+		for (LedgerEvent event : events) {
+			if (!queue.offer(event, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+				throw new TimeoutException("원장 이벤트 큐가 가득 찼습니다. size -> " + queue.size());
+			}
+		}
+	}
+
+	public LedgerEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+		return queue.poll(timeout, unit);
+	}
+
+	public int size() {
+		return queue.size();
+	}
+
+}
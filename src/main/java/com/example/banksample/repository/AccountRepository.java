@@ -1,12 +1,22 @@
 package com.example.banksample.repository;
 
 import com.example.banksample.domain.account.Account;
+import com.example.banksample.repository.projection.AccountProjection;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 
 @Repository
@@ -16,7 +26,71 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 	@Query("SELECT ac FROM Account ac JOIN FETCH ac.user u WHERE ac.number = :number")
 	Optional<Account> findByNumber(Long number);
 
+	/*
+	 * SELECT ... FOR UPDATE
+	 * 계좌 row 만 잠근다. (user 는 id 만 사용하기 때문에 JOIN FETCH 하지 않는다.)
+	 * */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT ac FROM Account ac WHERE ac.number = :number")
+	Optional<Account> findByNumberForUpdate(Long number);
+
+	/*
+	 * 일괄 이체에 필요한 계좌를 한 번에 조회한다.
+	 * */
+	@Query("SELECT ac FROM Account ac WHERE ac.number IN :numbers ORDER BY ac.number")
+	List<Account> findAllByNumberIn(Collection<Long> numbers);
+
+	/*
+	 * SELECT ... WHERE number IN (...) ORDER BY number FOR UPDATE
+	 * 계좌번호 순서로 잠그기 때문에 동시에 들어온 일괄 이체끼리 교착 상태가 생기지 않는다.
+	 * */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT ac FROM Account ac WHERE ac.number IN :numbers ORDER BY ac.number")
+	List<Account> findAllByNumberInForUpdate(Collection<Long> numbers);
+
+	@Query("SELECT new com.example.banksample.repository.projection.AccountProjection(ac.id, ac.number, ac.user.id, ac.password, ac.balance) " +
+			"FROM Account ac WHERE ac.number = :number")
+	Optional<AccountProjection> findProjectionByNumber(Long number);
+
+	/*
+	 * UPDATE tbl_account SET balance = balance + ? WHERE number = ?
+	 * 엔티티를 조회하지 않고 DB 에서 바로 잔액을 더한다.
+	 * 벌크 연산은 Auditing 이 적용되지 않기 때문에 수정 시각을 직접 넘긴다.
+	 * */
+	@Modifying
+	@Query("UPDATE Account ac SET ac.balance = ac.balance + :amount, ac.modifiedAt = :modifiedAt WHERE ac.number = :number")
+	int increaseBalance(Long number, Long amount, LocalDateTime modifiedAt);
+
+	/*
+	 * UPDATE tbl_account SET balance = balance - ? WHERE number = ? AND user_id = ? AND password = ? AND balance >= ?
+	 * 소유자, 비밀번호, 잔액 검사를 한 문장 안에서 처리하기 때문에 잔액이 음수가 될 수 없다.
+	 * 갱신 건수가 0 이면 조건 중 하나를 만족하지 못한 것이다.
+	 * */
+	@Modifying
+	@Query("UPDATE Account ac SET ac.balance = ac.balance - :amount, ac.modifiedAt = :modifiedAt " +
+			"WHERE ac.number = :number AND ac.user.id = :userId AND ac.password = :password AND ac.balance >= :amount")
+	int decreaseBalance(Long number, Long userId, Long password, Long amount, LocalDateTime modifiedAt);
+
+	boolean existsByNumber(Long number);
+
+	/*
+	 * DELETE FROM tbl_account WHERE number = ? AND user_id = ?
+	 * 소유자 확인과 삭제를 한 문장으로 처리한다. 계좌, 사용자 엔티티를 조회하지 않는다.
+	 * 삭제 건수가 0 이면 계좌가 없거나 소유자가 아닌 것이다.
+	 * */
+	@Modifying
+	@Query("DELETE FROM Account ac WHERE ac.number = :number AND ac.user.id = :userId")
+	int deleteByNumberAndUserId(Long number, Long userId);
+
 	// select * from account where user_id = :id
 	List<Account> findByUser_id(Long id);
 
+	/*
+	 * SELECT number FROM tbl_account
+	 * 중복 확인 필터(UniqueKeyFilter)를 채울 때 사용한다. 트랜잭션 안에서 사용하고 Stream 을 닫아야 한다.
+	 * */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("SELECT ac.number FROM Account ac")
+	Stream<Long> streamAllNumbers();
+
 }
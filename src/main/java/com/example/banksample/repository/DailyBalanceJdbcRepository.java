@@ -0,0 +1,128 @@
+package com.example.banksample.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 일별 잔액 스냅샷 갱신과, 특정 시각의 잔액 조회에 사용하는 거래내역 조회
+ * 시각은 저장 시각(created_at)이 아닌 거래 시각(occurred_at)을 기준으로 한다.
+ * upsert 는 INSERT ... ON DUPLICATE KEY UPDATE (MariaDB, H2 MySQL 모드) 로 조회 없이 한 문장으로 처리한다.
+ * 거래내역을 저장하는 트랜잭션 안에서 호출해야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyBalanceJdbcRepository {
+
+	private static final int BATCH_SIZE = 500;
+
+	/*
+	 * 같은 (계좌, 날짜) 행이 있으면 마감 잔액은 덮어쓰고, 합계는 더하고, 거래내역 Id 범위는 넓힌다.
+	 * 시작 잔액은 처음 INSERT 할 때만 기록한다.
+	 * */
+	private static final String UPSERT = "INSERT INTO tbl_daily_balance " +
+			"(account_id, balance_date, opening_balance, closing_balance, deposit_total, withdraw_total, " +
+			"transfer_in_total, transfer_out_total, tx_count, first_transaction_id, last_transaction_id) " +
+			"VALUES (?, ?, ?, ?, ?, ?, ?, ?, 1, ?, ?) " +
+			"ON DUPLICATE KEY UPDATE " +
+			"closing_balance = ?, " +
+			"deposit_total = deposit_total + ?, " +
+			"withdraw_total = withdraw_total + ?, " +
+			"transfer_in_total = transfer_in_total + ?, " +
+			"transfer_out_total = transfer_out_total + ?, " +
+			"tx_count = tx_count + 1, " +
+			"first_transaction_id = LEAST(first_transaction_id, ?), " +
+			"last_transaction_id = GREATEST(last_transaction_id, ?)";
+
+	/*
+	 * 출금, 입금 계좌 인덱스(account_id, id)를 각각 범위 스캔한 뒤 합친다.
+	 * */
+	private static final String FIND_LAST_BALANCE = "SELECT balance FROM (" +
+			"SELECT id, occurred_at, withdraw_balance AS balance FROM tbl_transaction " +
+			"WHERE withdraw_account_id = ? AND id BETWEEN ? AND ? AND occurred_at <= ? " +
+			"UNION ALL " +
+			"SELECT id, occurred_at, deposit_balance AS balance FROM tbl_transaction " +
+			"WHERE deposit_account_id = ? AND id BETWEEN ? AND ? AND occurred_at <= ?" +
+			") t ORDER BY occurred_at DESC, id DESC LIMIT 1";
+
+	// 거래 직후 잔액에서 거래 금액을 되돌려 거래 직전 잔액을 구한다.
+	private static final String FIND_OPENING_BALANCE_AFTER = "SELECT balance FROM (" +
+			"SELECT id, occurred_at, withdraw_balance + amount AS balance FROM tbl_transaction " +
+			"WHERE withdraw_account_id = ? AND occurred_at > ? " +
+			"UNION ALL " +
+			"SELECT id, occurred_at, deposit_balance - amount AS balance FROM tbl_transaction " +
+			"WHERE deposit_account_id = ? AND occurred_at > ?" +
+			") t ORDER BY occurred_at, id LIMIT 1";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void upsert(List<BalanceDelta> deltas) {
+		jdbcTemplate.batchUpdate(UPSERT, deltas, BATCH_SIZE, (ps, delta) -> {
+			ps.setLong(1, delta.getAccountId());
+			ps.setDate(2, Date.valueOf(delta.getBalanceDate()));
+			ps.setLong(3, delta.getOpeningBalance());
+			ps.setLong(4, delta.getBalanceAfter());
+			ps.setLong(5, delta.getDeposit());
+			ps.setLong(6, delta.getWithdraw());
+			ps.setLong(7, delta.getTransferIn());
+			ps.setLong(8, delta.getTransferOut());
+			ps.setLong(9, delta.getTransactionId());
+			ps.setLong(10, delta.getTransactionId());
+			ps.setLong(11, delta.getBalanceAfter());
+			ps.setLong(12, delta.getDeposit());
+			ps.setLong(13, delta.getWithdraw());
+			ps.setLong(14, delta.getTransferIn());
+			ps.setLong(15, delta.getTransferOut());
+			ps.setLong(16, delta.getTransactionId());
+			ps.setLong(17, delta.getTransactionId());
+		});
+	}
+
+	/**
+	 * 거래내역 Id 가 [fromId, toId] 이고 at 이전인 거래 중 마지막 거래 직후 잔액
+	 */
+	public Optional<Long> findLastBalance(Long accountId, long fromId, long toId, LocalDateTime at) {
+		Timestamp timestamp = Timestamp.valueOf(at);
+		return jdbcTemplate.queryForList(FIND_LAST_BALANCE, Long.class,
+						accountId, fromId, toId, timestamp, accountId, fromId, toId, timestamp)
+				.stream().findFirst();
+	}
+
+	/**
+	 * at 이후 첫 거래 직전 잔액 (at 이전에 거래가 없는 경우)
+	 */
+	public Optional<Long> findFirstBalanceAfter(Long accountId, LocalDateTime at) {
+		Timestamp timestamp = Timestamp.valueOf(at);
+		return jdbcTemplate.queryForList(FIND_OPENING_BALANCE_AFTER, Long.class, accountId, timestamp, accountId, timestamp)
+				.stream().findFirst();
+	}
+
+	/**
+	 * 거래내역 1건이 한 계좌의 일별 잔액에 더하는 값
+	 */
+	@Getter
+	@RequiredArgsConstructor
+	public static class BalanceDelta {
+		private final Long accountId;
+		private final LocalDate balanceDate;
+		private final Long transactionId;
+		private final long balanceAfter;
+		private final long deposit;
+		private final long withdraw;
+		private final long transferIn;
+		private final long transferOut;
+
+		public long getOpeningBalance() {
+			return balanceAfter - deposit - transferIn + withdraw + transferOut;
+		}
+	}
+
+}
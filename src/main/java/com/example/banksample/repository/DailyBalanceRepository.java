@@ -0,0 +1,35 @@
+package com.example.banksample.repository;
+
+import com.example.banksample.domain.balance.DailyBalance;
+import com.example.banksample.domain.balance.DailyBalanceId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyBalanceRepository extends JpaRepository<DailyBalance, DailyBalanceId> {
+
+	/**
+	 * date 이전(date 미포함) 스냅샷을 최신 날짜부터 조회한다. (PK 역방향 범위 스캔)
+	 */
+	@Query("SELECT d FROM DailyBalance d WHERE d.id.accountId = :accountId AND d.id.balanceDate < :date ORDER BY d.id.balanceDate DESC")
+	List<DailyBalance> findLatestBefore(@Param("accountId") Long accountId, @Param("date") LocalDate date, Pageable pageable);
+
+	@Query("SELECT d FROM DailyBalance d WHERE d.id.accountId = :accountId AND d.id.balanceDate BETWEEN :from AND :to ORDER BY d.id.balanceDate")
+	List<DailyBalance> findRange(@Param("accountId") Long accountId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+	/*
+	 * 계좌 삭제(deleteByNumberAndUserId) 전에 같은 조건으로 스냅샷을 삭제한다.
+	 * */
+	@Modifying
+	@Query("DELETE FROM DailyBalance d WHERE d.id.accountId IN " +
+			"(SELECT ac.id FROM Account ac WHERE ac.number = :number AND ac.user.id = :userId)")
+	int deleteByAccountNumberAndUserId(@Param("number") Long number, @Param("userId") Long userId);
+
+}
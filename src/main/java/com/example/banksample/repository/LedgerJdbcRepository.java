@@ -0,0 +1,40 @@
+package com.example.banksample.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 잔액을 JDBC batch 로 한 번에 반영한다.
+ * 거래내역은 시퀀스로 Id 를 채번하므로 Hibernate batch insert 로 저장한다. ({@code hibernate.jdbc.batch_size})
+ * 엔티티를 영속성 컨텍스트에 올리지 않기 때문에, 반드시 트랜잭션 안에서 호출해야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LedgerJdbcRepository {
+
+	private static final int BATCH_SIZE = 500;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 계좌 Id 별 최종 잔액을 반영한다.
+	 */
+	public void updateBalances(Map<Long, Long> balanceByAccountId, LocalDateTime modifiedAt) {
+		Timestamp timestamp = Timestamp.valueOf(modifiedAt);
+		jdbcTemplate.batchUpdate(
+				"UPDATE tbl_account SET balance = ?, updated_at = ? WHERE id = ?",
+				balanceByAccountId.entrySet(),
+				BATCH_SIZE,
+				(ps, entry) -> {
+					ps.setLong(1, entry.getValue());
+					ps.setTimestamp(2, timestamp);
+					ps.setLong(3, entry.getKey());
+				});
+	}
+
+}
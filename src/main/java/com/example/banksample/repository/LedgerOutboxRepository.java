@@ -0,0 +1,30 @@
+package com.example.banksample.repository;
+
+import com.example.banksample.domain.outbox.LedgerOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface LedgerOutboxRepository extends JpaRepository<LedgerOutbox, Long> {
+
+	/**
+	 * afterId 다음부터 Id 순으로 조회한다. (PK 인덱스 범위 스캔)
+	 */
+	@Query("SELECT o FROM LedgerOutbox o WHERE o.id > :afterId ORDER BY o.id")
+	List<LedgerOutbox> findBatchAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+	/**
+	 * 전달이 끝난 이벤트를 삭제한다.
+	 */
+	@Modifying
+	@Query("DELETE FROM LedgerOutbox o WHERE o.id IN :ids")
+	int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+}
@@ -0,0 +1,124 @@
+package com.example.banksample.repository;
+
+import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.transaction.TransactionEnum;
+import com.example.banksample.dto.transaction.TransactionFilter;
+import com.example.banksample.repository.projection.AccountProjection;
+import com.example.banksample.repository.projection.TransactionProjection;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 논블로킹 조회 API 에서 사용하는 R2DBC 조회
+ * JPA 와 같은 테이블을 SQL 로 직접 조회하고, 같은 프로젝션/엔티티(비영속) 객체로 변환한다.
+ * 거래내역 전체(ALL) 조회는 TransactionRepositoryImpl 과 같은 UNION ALL 쿼리를 사용한다.
+ */
+@RequiredArgsConstructor
+public class ReactiveReadRepository {
+
+	private static final String TRANSACTION_COLUMNS = "SELECT id, type, amount, tx_sender, tx_receiver, tx_tel, " +
+			"CASE WHEN deposit_account_id = :accountId THEN deposit_balance ELSE withdraw_balance END AS balance " +
+			"FROM tbl_transaction ";
+	private static final String FIND_WITHDRAW_RANGE = TRANSACTION_COLUMNS +
+			"WHERE withdraw_account_id = :accountId AND id < :beforeId ORDER BY id DESC LIMIT :size OFFSET :offset";
+	private static final String FIND_DEPOSIT_RANGE = TRANSACTION_COLUMNS +
+			"WHERE deposit_account_id = :accountId AND id < :beforeId ORDER BY id DESC LIMIT :size OFFSET :offset";
+
+	private final DatabaseClient databaseClient;
+
+	public Mono<String> findFullnameByUserId(Long userId) {
+		return databaseClient.sql("SELECT fullname FROM tbl_user WHERE id = :id")
+				.bind("id", userId)
+				.map(row -> row.get("fullname", String.class))
+				.one();
+	}
+
+	/*
+	 * select id, number, balance from tbl_account where user_id = :userId
+	 * 응답에 필요한 컬럼만 읽어서 비영속 Account 로 만든다.
+	 * */
+	public Flux<Account> findAccountsByUserId(Long userId) {
+		return databaseClient.sql("SELECT id, number, balance FROM tbl_account WHERE user_id = :userId")
+				.bind("userId", userId)
+				.map(row -> Account.builder()
+						.id(row.get("id", Long.class))
+						.number(row.get("number", Long.class))
+						.balance(row.get("balance", Long.class))
+						.build())
+				.all();
+	}
+
+	public Mono<AccountProjection> findProjectionByNumber(Long number) {
+		return databaseClient.sql("SELECT id, number, user_id, password, balance FROM tbl_account WHERE number = :number")
+				.bind("number", number)
+				.map(row -> new AccountProjection(
+						row.get("id", Long.class),
+						row.get("number", Long.class),
+						row.get("user_id", Long.class),
+						row.get("password", Long.class),
+						row.get("balance", Long.class)))
+				.one();
+	}
+
+	/*
+	 * OFFSET 페이지네이션 (Id 역순, 순서는 TransactionRepositoryImpl 참고)
+	 * */
+	public Mono<List<TransactionProjection>> findTransactionProjectionList(Long accountId, TransactionFilter type, int page, int size) {
+		int offset = page * size;
+		if (TransactionRepositoryImpl.isAll(type)) {
+			return findAllPage(accountId, Long.MAX_VALUE, offset, size);
+		}
+		return findRange(type, accountId, Long.MAX_VALUE, offset, size);
+	}
+
+	/*
+	 * 키셋(seek) 페이지네이션 (Id 역순), lastId 가 null 이면 첫 페이지
+	 * */
+	public Mono<List<TransactionProjection>> findTransactionProjectionListAfter(Long accountId, TransactionFilter type, Long lastId, int size) {
+		long beforeId = lastId == null ? Long.MAX_VALUE : lastId;
+		if (TransactionRepositoryImpl.isAll(type)) {
+			return findAllPage(accountId, beforeId, 0, size);
+		}
+		return findRange(type, accountId, beforeId, 0, size);
+	}
+
+	private Mono<List<TransactionProjection>> findAllPage(Long accountId, long beforeId, int offset, int size) {
+		return databaseClient.sql(TransactionRepositoryImpl.FIND_ALL_PROJECTION_PAGE)
+				.bind("accountId", accountId)
+				.bind("beforeId", beforeId)
+				.bind("scanSize", offset + size)
+				.bind("size", size)
+				.bind("offset", offset)
+				.map(ReactiveReadRepository::toTransactionProjection)
+				.all()
+				.collectList();
+	}
+
+	private Mono<List<TransactionProjection>> findRange(TransactionFilter type, Long accountId, long beforeId, int offset, int size) {
+		return databaseClient.sql(type == TransactionFilter.DEPOSIT ? FIND_DEPOSIT_RANGE : FIND_WITHDRAW_RANGE)
+				.bind("accountId", accountId)
+				.bind("beforeId", beforeId)
+				.bind("size", size)
+				.bind("offset", offset)
+				.map(ReactiveReadRepository::toTransactionProjection)
+				.all()
+				.collectList();
+	}
+
+	private static TransactionProjection toTransactionProjection(Readable row) {
+		return new TransactionProjection(
+				row.get("id", Long.class),
+				TransactionEnum.valueOf(row.get("type", String.class)),
+				row.get("amount", Long.class),
+				row.get("tx_sender", String.class),
+				row.get("tx_receiver", String.class),
+				row.get("tx_tel", String.class),
+				row.get("balance", Long.class));
+	}
+
+}
@@ -0,0 +1,34 @@
+package com.example.banksample.repository;
+
+import com.example.banksample.domain.token.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+	Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+	/**
+	 * 아직 사용하지 않았고 폐기되지 않은 토큰만 사용 처리한다.
+	 * 같은 토큰으로 동시에 재발급을 요청하면 한 요청만 1 을 반환한다.
+	 */
+	@Modifying
+	@Query("UPDATE RefreshToken r SET r.used = true, r.modifiedAt = :modifiedAt WHERE r.id = :id AND r.used = false AND r.revoked = false")
+	int markUsed(@Param("id") Long id, @Param("modifiedAt") LocalDateTime modifiedAt);
+
+	@Modifying
+	@Query("UPDATE RefreshToken r SET r.revoked = true, r.modifiedAt = :modifiedAt WHERE r.familyId = :familyId AND r.revoked = false")
+	int revokeFamily(@Param("familyId") String familyId, @Param("modifiedAt") LocalDateTime modifiedAt);
+
+	@Modifying
+	@Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+	int deleteExpired(@Param("now") LocalDateTime now);
+
+}
@@ -1,19 +1,47 @@
 package com.example.banksample.repository;
 
 import com.example.banksample.domain.transaction.Transaction;
+import com.example.banksample.domain.transaction.TransactionEnum;
+import com.example.banksample.dto.transaction.TransactionFilter;
+import com.example.banksample.repository.projection.TransactionProjection;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 interface TransactionDAO {
 	List<Transaction> findTransactionList(
 			@Param("accountId") Long accountId,
-			@Param("type") String type,
-			@Param("page") Integer page
+			@Param("type") TransactionFilter type,
+			@Param("page") Integer page,
+			@Param("size") Integer size
 	);
+
+	List<Transaction> findTransactionListAfter(
+			@Param("accountId") Long accountId,
+			@Param("type") TransactionFilter type,
+			@Param("lastId") Long lastId,
+			@Param("size") Integer size
+	);
+
+	List<TransactionProjection> findTransactionProjectionList(
+			@Param("accountId") Long accountId,
+			@Param("type") TransactionFilter type,
+			@Param("page") Integer page,
+			@Param("size") Integer size
+	);
+
+	List<TransactionProjection> findTransactionProjectionListAfter(
+			@Param("accountId") Long accountId,
+			@Param("type") TransactionFilter type,
+			@Param("lastId") Long lastId,
+			@Param("size") Integer size
+	);
+
+	Stream<TransactionProjection> streamProjectionByAccountId(@Param("accountId") Long accountId);
 }
 
 
@@ -23,56 +51,194 @@ interface TransactionDAO {
 @RequiredArgsConstructor
 public class TransactionRepositoryImpl implements TransactionDAO {
 
+	private static final String WITHDRAW_PROJECTION_COLUMNS = "id, type, amount, tx_sender, tx_receiver, tx_tel, withdraw_balance AS balance";
+	private static final String DEPOSIT_PROJECTION_COLUMNS = "id, type, amount, tx_sender, tx_receiver, tx_tel, deposit_balance AS balance";
+
+	/*
+	 * 출금 계좌, 입금 계좌 인덱스를 각각 역순으로 scanSize 개까지만 범위 스캔하고, DB 에서 UNION ALL 로 합쳐 한 페이지를 자른다.
+	 * OR 조건 하나로 조회하면 두 인덱스를 함께 사용할 수 없어 전체 스캔 + 정렬이 발생한다.
+	 * 각 범위에서 앞쪽 offset + size 개를 가져오면 합친 결과의 앞쪽 offset + size 개가 정확히 구해지므로 scanSize = offset + size 로 둔다.
+	 * 출금 계좌와 입금 계좌가 같은 거래내역은 출금 쪽에서만 가져온다.
+	 * ReactiveReadRepository 도 같은 쿼리를 사용한다.
+	 * */
+	static final String FIND_ALL_PROJECTION_PAGE = unionAllPage(WITHDRAW_PROJECTION_COLUMNS, DEPOSIT_PROJECTION_COLUMNS);
+	// 엔티티 조회는 Id 만 자른 뒤 FIND_LIST_BY_IDS 로 계좌와 함께 가져온다.
+	private static final String FIND_ALL_ID_PAGE = unionAllPage("id", "id");
+
+	/*
+	 * 내보내기용: afterId 다음부터 Id 순으로 size 개
+	 * 출금 계좌, 입금 계좌 인덱스를 각각 정순으로 size 개까지만 범위 스캔하고 UNION ALL 로 합친다.
+	 * */
+	private static final String FIND_ALL_PROJECTION_CHUNK = "SELECT * FROM (" +
+			"(SELECT " + WITHDRAW_PROJECTION_COLUMNS + " FROM tbl_transaction " +
+			"WHERE withdraw_account_id = :accountId AND id > :afterId ORDER BY id LIMIT :size) " +
+			"UNION ALL " +
+			"(SELECT " + DEPOSIT_PROJECTION_COLUMNS + " FROM tbl_transaction " +
+			"WHERE deposit_account_id = :accountId AND id > :afterId " +
+			"AND (withdraw_account_id IS NULL OR withdraw_account_id <> :accountId) ORDER BY id LIMIT :size)" +
+			") t ORDER BY id LIMIT :size";
+	static final int EXPORT_CHUNK_SIZE = 500;
+
+	// 엔티티 조회
+	private static final ListQuery<Transaction> ENTITY_QUERY = new ListQuery<>(
+			Transaction.FIND_WITHDRAW_LIST, Transaction.FIND_DEPOSIT_LIST, Transaction.class);
+	// 응답에 필요한 컬럼만 조회
+	private static final ListQuery<TransactionProjection> PROJECTION_QUERY = new ListQuery<>(
+			Transaction.FIND_WITHDRAW_PROJECTION_LIST, Transaction.FIND_DEPOSIT_PROJECTION_LIST, TransactionProjection.class);
+
 	private final EntityManager em;
 
 
+	@Override
+	public List<Transaction> findTransactionList(Long accountId, TransactionFilter type, Integer page, Integer size) {
+		if (isAll(type)) {
+			return findEntities(findAllPage(FIND_ALL_ID_PAGE, accountId, Long.MAX_VALUE, page * size, size));
+		}
+		return findRange(ENTITY_QUERY, type, accountId, Long.MAX_VALUE, page * size, size);
+	}
+
+	@Override
+	public List<Transaction> findTransactionListAfter(Long accountId, TransactionFilter type, Long lastId, Integer size) {
+		if (isAll(type)) {
+			return findEntities(findAllPage(FIND_ALL_ID_PAGE, accountId, beforeIdOf(lastId), 0, size));
+		}
+		return findRange(ENTITY_QUERY, type, accountId, beforeIdOf(lastId), 0, size);
+	}
+
 	/*
-	 * JPQL 동적쿼리 생성
+	 * 영속성 컨텍스트에 아무것도 올리지 않는 읽기 전용 조회
+	 * OFFSET 페이지네이션 (Id 역순)
+	 * 앞 페이지의 row 를 인덱스에서 모두 읽고 버리기 때문에 페이지가 뒤로 갈수록 느려진다.
 	 * */
 	@Override
-	public List<Transaction> findTransactionList(Long accountId, String type, Integer page) {
-		// type 별로 쿼리문 작성을 별도의 메서드로 분리
-		String sql = getString(type);
-		TypedQuery<Transaction> query = em.createQuery(sql, Transaction.class);
-
-		switch (type) {
-			case "WITHDRAW" -> query = query.setParameter("withdrawAccountId", accountId);
-			case "DEPOSIT" -> query = query.setParameter("depositAccountId", accountId);
-			default -> {
-				query = query.setParameter("withdrawAccountId", accountId);
-				query = query.setParameter("depositAccountId", accountId);
-			}
+	public List<TransactionProjection> findTransactionProjectionList(Long accountId, TransactionFilter type, Integer page, Integer size) {
+		if (isAll(type)) {
+			return toProjections(findAllPage(FIND_ALL_PROJECTION_PAGE, accountId, Long.MAX_VALUE, page * size, size));
 		}
+		return findRange(PROJECTION_QUERY, type, accountId, Long.MAX_VALUE, page * size, size);
+	}
 
-		// 페이지 설정
-		query.setFirstResult(page * 5);
-		query.setMaxResults(5);
+	/*
+	 * 키셋(seek) 페이지네이션 (Id 역순)
+	 * 마지막으로 조회한 Id 보다 작은 것부터 인덱스를 타고 size 개만 읽기 때문에, 얼마나 뒤쪽을 조회하든 비용이 같다.
+	 * Id 는 중복되지 않으므로 페이지 사이에 빠지거나 겹치는 거래내역은 없다.
+	 * 다만 Id 는 시퀀스를 50 개씩 미리 받아서(pooled) 채번하므로, 노드가 여러 개이거나 재시작한 경우 Id 순서는 저장 순서와 다를 수 있다.
+	 * 따라서 Id 역순은 대략적인 최신순이다. 정확한 시각 순서가 필요하면 occurredAt 을 사용한다.
+	 * lastId 가 null 이면 첫 페이지를 조회한다.
+	 * */
+	@Override
+	public List<TransactionProjection> findTransactionProjectionListAfter(Long accountId, TransactionFilter type, Long lastId, Integer size) {
+		if (isAll(type)) {
+			return toProjections(findAllPage(FIND_ALL_PROJECTION_PAGE, accountId, beforeIdOf(lastId), 0, size));
+		}
+		return findRange(PROJECTION_QUERY, type, accountId, beforeIdOf(lastId), 0, size);
+	}
+
+	/*
+	 * 계좌의 전체 거래내역을 Id 순으로 EXPORT_CHUNK_SIZE 개씩 키셋으로 이어서 읽는다.
+	 * 묶음마다 쿼리가 끝나므로 결과 집합을 열어둔 채로 쓰지 않고, 메모리에는 한 묶음만 올라간다.
+	 * (MySQL, MariaDB 드라이버는 useCursorFetch 없이는 fetchSize 를 따르지 않는다.)
+	 * 트랜잭션 안에서 사용해야 묶음 사이에 같은 스냅샷을 읽는다.
+	 * */
+	@Override
+	public Stream<TransactionProjection> streamProjectionByAccountId(Long accountId) {
+		return streamProjectionByAccountId(accountId, EXPORT_CHUNK_SIZE);
+	}
+
+	Stream<TransactionProjection> streamProjectionByAccountId(Long accountId, int chunkSize) {
+		return Stream.iterate(
+						findAllChunk(accountId, 0L, chunkSize),
+						chunk -> !chunk.isEmpty(),
+						chunk -> chunk.size() < chunkSize
+								? List.of()
+								: findAllChunk(accountId, chunk.get(chunk.size() - 1).getId(), chunkSize))
+				.flatMap(List::stream);
+	}
+
+	/*
+	 * 출금 계좌 또는 입금 계좌 한쪽 조건으로만 조회한다.
+	 * (withdraw_account_id, id), (deposit_account_id, id) 인덱스를 역순으로 범위 스캔하므로 정렬 비용이 없다.
+	 * 쿼리는 Transaction 에 NamedQuery 로 선언되어 있어 애플리케이션 시작 시점에 한 번만 파싱된다.
+	 * */
+	private <T> List<T> findRange(ListQuery<T> listQuery, TransactionFilter type, Long accountId, long beforeId, int offset, int size) {
+		String queryName = type == TransactionFilter.DEPOSIT ? listQuery.depositQueryName : listQuery.withdrawQueryName;
+		TypedQuery<T> query = em.createNamedQuery(queryName, listQuery.resultClass);
+		query.setParameter("accountId", accountId);
+		query.setParameter("beforeId", beforeId);
+		query.setFirstResult(offset);
+		query.setMaxResults(size);
 
 		return query.getResultList();
 	}
 
-	private static String getString(String type) {
-		String sql = "";
-		sql += "SELECT t FROM Transaction t ";
-
-		switch (type) {
-			case "WITHDRAW" -> {
-				sql += "JOIN FETCH t.withdrawAccount wa ";
-				sql += "WHERE t.withdrawAccount.id = :withdrawAccountId";
-			}
-			case "DEPOSIT" -> {
-				sql += "JOIN FETCH t.depositAccount da ";
-				sql += "WHERE t.depositAccount.id = :depositAccountId";
-			}
-			default -> {
-				sql += "LEFT JOIN FETCH t.withdrawAccount wa ";
-				sql += "LEFT JOIN FETCH t.depositAccount da ";
-				sql += "WHERE t.withdrawAccount.id = :withdrawAccountId ";
-				sql += "OR ";
-				sql += "t.depositAccount.id = :depositAccountId";
-			}
+	@SuppressWarnings("unchecked")
+	private <T> List<T> findAllPage(String sql, Long accountId, long beforeId, int offset, int size) {
+		return em.createNativeQuery(sql)
+				.setParameter("accountId", accountId)
+				.setParameter("beforeId", beforeId)
+				.setParameter("scanSize", offset + size)
+				.setParameter("size", size)
+				.setParameter("offset", offset)
+				.getResultList();
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<TransactionProjection> findAllChunk(Long accountId, long afterId, int size) {
+		return toProjections(em.createNativeQuery(FIND_ALL_PROJECTION_CHUNK)
+				.setParameter("accountId", accountId)
+				.setParameter("afterId", afterId)
+				.setParameter("size", size)
+				.getResultList());
+	}
+
+	private List<Transaction> findEntities(List<Number> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
 		}
+		return em.createNamedQuery(Transaction.FIND_LIST_BY_IDS, Transaction.class)
+				.setParameter("ids", ids.stream().map(Number::longValue).toList())
+				.getResultList();
+	}
+
+	private static List<TransactionProjection> toProjections(List<Object[]> rows) {
+		return rows.stream()
+				.map(row -> new TransactionProjection(
+						((Number) row[0]).longValue(),
+						TransactionEnum.valueOf((String) row[1]),
+						((Number) row[2]).longValue(),
+						(String) row[3],
+						(String) row[4],
+						(String) row[5],
+						row[6] == null ? null : ((Number) row[6]).longValue()))
+				.toList();
+	}
+
+	private static String unionAllPage(String withdrawColumns, String depositColumns) {
+		return "SELECT * FROM (" +
+				"(SELECT " + withdrawColumns + " FROM tbl_transaction " +
+				"WHERE withdraw_account_id = :accountId AND id < :beforeId ORDER BY id DESC LIMIT :scanSize) " +
+				"UNION ALL " +
+				"(SELECT " + depositColumns + " FROM tbl_transaction " +
+				"WHERE deposit_account_id = :accountId AND id < :beforeId " +
+				"AND (withdraw_account_id IS NULL OR withdraw_account_id <> :accountId) ORDER BY id DESC LIMIT :scanSize)" +
+				") t ORDER BY id DESC LIMIT :size OFFSET :offset";
+	}
+
+	private static long beforeIdOf(Long lastId) {
+		return lastId == null ? Long.MAX_VALUE : lastId;
+	}
+
+	static boolean isAll(TransactionFilter type) {
+		return type == null || type == TransactionFilter.ALL;
+	}
 
-		return sql;
+	/**
+	 * 출금/입금 쪽 NamedQuery 이름과 결과 타입 묶음
+	 */
+	@RequiredArgsConstructor
+	private static final class ListQuery<T> {
+		private final String withdrawQueryName;
+		private final String depositQueryName;
+		private final Class<T> resultClass;
 	}
 }
@@ -1,10 +1,15 @@
 package com.example.banksample.repository;
 
 import com.example.banksample.domain.user.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -14,4 +19,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     * */
     Optional<User> findByUsername(String username);
 
+    /*
+    SELECT username FROM tbl_user
+    중복 확인 필터(UniqueKeyFilter)를 채울 때 사용한다. 트랜잭션 안에서 사용하고 Stream 을 닫아야 한다.
+    * */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.username FROM User u")
+    Stream<String> streamAllUsernames();
+
 }
@@ -0,0 +1,48 @@
+package com.example.banksample.repository.projection;
+
+import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.account.AccountOwnership;
+import lombok.Getter;
+
+/**
+ * 계좌 엔티티 대신 필요한 컬럼만 조회할 때 사용한다.
+ * 영속성 컨텍스트에 올라가지 않기 때문에 스냅샷, 더티 체킹 비용이 없다.
+ * user 는 FK 컬럼(user_id)만 읽기 때문에 조인이 발생하지 않는다.
+ */
+@Getter
+public class AccountProjection {
+
+	private final Long id;
+	private final Long number;
+	private final Long ownerId;
+	private final Long password;
+	private final Long balance;
+
+	public AccountProjection(Long id, Long number, Long ownerId, Long password, Long balance) {
+		this.id = id;
+		this.number = number;
+		this.ownerId = ownerId;
+		this.password = password;
+		this.balance = balance;
+	}
+
+	public void checkOwner(Long userId) {
+		AccountOwnership.checkOwner(this.ownerId, userId);
+	}
+
+	public void checkPassword(Long password) {
+		AccountOwnership.checkPassword(this.password, password);
+	}
+
+	/**
+	 * 응답 DTO 생성용 비영속 Account
+	 */
+	public Account toAccount() {
+		return Account.builder()
+				.id(id)
+				.number(number)
+				.balance(balance)
+				.build();
+	}
+
+}
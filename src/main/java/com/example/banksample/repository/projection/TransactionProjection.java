@@ -0,0 +1,31 @@
+package com.example.banksample.repository.projection;
+
+import com.example.banksample.domain.transaction.TransactionEnum;
+import lombok.Getter;
+
+/**
+ * 거래내역 목록 응답에 필요한 컬럼만 조회할 때 사용한다.
+ * balance 는 조회한 계좌 기준 거래 후 잔액으로, 쿼리에서 입금/출금 계좌 중 어느 쪽인지 판단해서 채운다.
+ */
+@Getter
+public class TransactionProjection {
+
+	private final Long id;
+	private final TransactionEnum type;
+	private final Long amount;
+	private final String sender;
+	private final String receiver;
+	private final String tel;
+	private final Long balance;
+
+	public TransactionProjection(Long id, TransactionEnum type, Long amount, String sender, String receiver, String tel, Long balance) {
+		this.id = id;
+		this.type = type;
+		this.amount = amount;
+		this.sender = sender;
+		this.receiver = receiver;
+		this.tel = tel;
+		this.balance = balance;
+	}
+
+}
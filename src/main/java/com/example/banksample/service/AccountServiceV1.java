@@ -1,20 +1,34 @@
 package com.example.banksample.service;
 
+import com.example.banksample.config.AccountProperties;
 import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.account.AccountOwnership;
 import com.example.banksample.domain.transaction.Transaction;
 import com.example.banksample.domain.transaction.TransactionEnum;
 import com.example.banksample.domain.user.User;
+import com.example.banksample.dto.transaction.TransactionFilter;
+import com.example.banksample.handler.aop.RetryOnConflict;
 import com.example.banksample.handler.exception.CustomApiException;
 import com.example.banksample.repository.AccountRepository;
 import com.example.banksample.repository.TransactionRepository;
 import com.example.banksample.repository.UserRepository;
+import com.example.banksample.repository.projection.AccountProjection;
+import com.example.banksample.repository.projection.TransactionProjection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 
 import static com.example.banksample.dto.account.AccountRequestDTO.*;
 import static com.example.banksample.dto.account.AccountResponseDTO.*;
@@ -25,21 +39,33 @@ import static com.example.banksample.dto.account.AccountResponseDTO.*;
 @Transactional(readOnly = true)
 public class AccountServiceV1 {
 
+	// 계좌 상세보기 거래내역 페이지 크기
+	public static final int DETAILS_PAGE_SIZE = 5;
+
 	private final UserRepository userRepository;
 	private final AccountRepository accountRepository;
 	private final TransactionRepository transactionRepository;
+	private final AccountProperties accountProperties;
+	private final InMemoryBalanceEngine inMemoryBalanceEngine;
+	private final UniqueKeyFilter uniqueKeyFilter;
+	private final LedgerRecorder ledgerRecorder;
+	private final DailyBalanceService dailyBalanceService;
+	private final AccountSummaryCache accountSummaryCache;
 
 
 	/*
 	 * 사용자 Id 로 계좌를 조회한다.
+	 * 캐시에 없을 때만 조회하고, 계좌 등록, 삭제, 잔액 변경 시 캐시에서 제거된다.
 	 */
-	@Transactional
+	@Transactional(readOnly = true)
 	public AccountListResponseDTO getAccountsByUser(Long userId) {
-		User userPS = userRepository.findById(userId).orElseThrow(() -> new CustomApiException("해당 유저를 찾을 수 없습니다."));
+		return accountSummaryCache.get(userId, id -> {
+			User userPS = userRepository.findById(id).orElseThrow(() -> new CustomApiException("해당 유저를 찾을 수 없습니다."));
 
-		// 유저의 모든 계좌 목록
-		List<Account> accountListPS = accountRepository.findByUser_id(userId);
-		return new AccountListResponseDTO(userPS, accountListPS);
+			// 유저의 모든 계좌 목록
+			List<Account> accountListPS = accountRepository.findByUser_id(id);
+			return new AccountListResponseDTO(userPS, accountListPS);
+		});
 	}
 
 
@@ -50,13 +76,22 @@ public class AccountServiceV1 {
 	public AccountSaveResponseDTO registerAccount(AccountSaveRequestDTO accountSaveRequestDTO, Long userId) {
 		// 사용자가 DB 에 존재하는지 확인
 		User userPS = userRepository.findById(userId).orElseThrow(() -> new CustomApiException("해당 유저를 찾을 수 없습니다."));
-		// 해당 계좌가 DB 에 존재하는지 여부 확인
-		Optional<Account> accountOP = accountRepository.findByNumber(accountSaveRequestDTO.getAccountNumber());
-		if (accountOP.isPresent()) {
+		// 해당 계좌가 DB 에 존재하는지 여부 확인 (필터에 없는 계좌번호면 조회하지 않는다.)
+		if (uniqueKeyFilter.mightContainAccountNumber(accountSaveRequestDTO.getAccountNumber())
+				&& accountRepository.findByNumber(accountSaveRequestDTO.getAccountNumber()).isPresent()) {
 			throw new CustomApiException("해당 계좌가 이미 존재합니다.");
 		}
 		// 계좌 등록
-		Account accountPS = accountRepository.save(accountSaveRequestDTO.toEntity(userPS));
+		Account accountPS;
+		try {
+			accountPS = accountRepository.save(accountSaveRequestDTO.toEntity(userPS));
+			// unique 제약조건 위반을 이 메서드 안에서 받기 위해 바로 INSERT 한다.
+			accountRepository.flush();
+		} catch (DataIntegrityViolationException e) {
+			throw new CustomApiException("해당 계좌가 이미 존재합니다.");
+		}
+		uniqueKeyFilter.putAccountNumber(accountPS.getNumber());
+		accountSummaryCache.invalidate(userId);
 
 		// DTO 응답
 		return new AccountSaveResponseDTO(accountPS);
@@ -67,18 +102,24 @@ public class AccountServiceV1 {
 	 */
 	@Transactional
 	public void deleteAccount(Long number, Long userId) {
-		// 1. 계좌 확인
-		Account accountPS = accountRepository.findByNumber(number).orElseThrow(() ->
-				new CustomApiException("계좌를 찾을 수 없습니다."));
-		// 2. 계좌 소유자 확인
-		accountPS.checkOwner(userId);
-		// 3. 계좌 삭제
-		accountRepository.deleteById(accountPS.getId());
+		// 1. 소유자 확인 + 계좌 삭제 (한 문장), 스냅샷은 계좌보다 먼저 삭제한다.
+		dailyBalanceService.deleteByAccount(number, userId);
+		if (accountRepository.deleteByNumberAndUserId(number, userId) == 0) {
+			// 2. 삭제되지 않은 경우에만 원인을 확인한다.
+			throw new CustomApiException(accountRepository.existsByNumber(number)
+					? AccountOwnership.NOT_OWNER
+					: "계좌를 찾을 수 없습니다.");
+		}
+		if (accountProperties.isInMemoryTransfer()) {
+			inMemoryBalanceEngine.evict(number);
+		}
+		accountSummaryCache.invalidate(userId);
 	}
 
 	/**
 	 * 계좌에 입금한다.
 	 */
+	@RetryOnConflict
 	@Transactional
 	public AccountDepositResponseDTO depositAccount(AccountDepositRequestDTO accountDepositRequestDTO) {
 		// 0원 체크
@@ -86,10 +127,18 @@ public class AccountServiceV1 {
 			throw new CustomApiException("0원 이하의 금액을 입금할 수 없습니다");
 		}
 
+		// 인메모리 모드에서는 엔진이 잔액을 관리한다.
+		if (accountProperties.isInMemoryTransfer()) {
+			return inMemoryBalanceEngine.deposit(accountDepositRequestDTO.getNumber(), accountDepositRequestDTO.getAmount(), accountDepositRequestDTO.getTel());
+		}
+
+		// 단일 UPDATE 문으로 잔액을 변경한다.
+		if (accountProperties.isAtomicUpdate()) {
+			return depositAtomically(accountDepositRequestDTO);
+		}
+
 		// 입금계좌 확인
-		Account depositAccountPS = accountRepository.findByNumber(accountDepositRequestDTO.getNumber())
-				.orElseThrow(
-						() -> new CustomApiException("해당 계좌를 찾을 수 없습니다."));
+		Account depositAccountPS = findAccountForUpdate(accountDepositRequestDTO.getNumber());
 
 		// 입금
 		// 해당 계좌의 balance 를 조정한다.
@@ -109,7 +158,7 @@ public class AccountServiceV1 {
 				.tel(accountDepositRequestDTO.getTel())
 				.build();
 
-		Transaction transactionPS = transactionRepository.save(transaction);
+		Transaction transactionPS = ledgerRecorder.record(transaction, List.of(depositAccountPS.getUser().getId()));
 		return new AccountDepositResponseDTO(depositAccountPS, transactionPS);
 	}
 
@@ -117,6 +166,7 @@ public class AccountServiceV1 {
 	/**
 	 * 계좌에서 돈을 인출한다.
 	 */
+	@RetryOnConflict
 	@Transactional
 	public TransferAccountResponseDTO withdrawAccount(WithdrawAccountRequestDTO withdrawAccountRequestDTO, Long userId) {
 		// 0원 체크
@@ -124,10 +174,18 @@ public class AccountServiceV1 {
 			throw new CustomApiException("0원 이하의 금액을 출금 할 수 없습니다");
 		}
 
+		// 인메모리 모드에서는 엔진이 잔액을 관리한다.
+		if (accountProperties.isInMemoryTransfer()) {
+			return inMemoryBalanceEngine.withdraw(withdrawAccountRequestDTO.getNumber(), withdrawAccountRequestDTO.getPassword(), withdrawAccountRequestDTO.getAmount(), userId);
+		}
+
+		// 단일 UPDATE 문으로 소유자, 비밀번호, 잔액을 검사하고 잔액을 변경한다.
+		if (accountProperties.isAtomicUpdate()) {
+			return withdrawAtomically(withdrawAccountRequestDTO, userId);
+		}
+
 		// 출금 확인
-		Account withdrawAccountPS = accountRepository.findByNumber(withdrawAccountRequestDTO.getNumber())
-				.orElseThrow(
-						() -> new CustomApiException("해당 계좌를 찾을 수 없습니다."));
+		Account withdrawAccountPS = findAccountForUpdate(withdrawAccountRequestDTO.getNumber());
 
 		// 출금 소유자 확인
 		withdrawAccountPS.checkOwner(userId);
@@ -151,7 +209,7 @@ public class AccountServiceV1 {
 				.receiver("ATM")
 				.build();
 
-		Transaction transactionPS = transactionRepository.save(transaction);
+		Transaction transactionPS = ledgerRecorder.record(transaction, List.of(userId));
 
 		// DTO 응답
 		return new TransferAccountResponseDTO(withdrawAccountPS, transactionPS);
@@ -161,6 +219,7 @@ public class AccountServiceV1 {
 	 * A 가 B 에게 입금한다.
 	 */
 
+	@RetryOnConflict
 	@Transactional
 	public TransferAccountResponseDTO transferAccount(TransferAccountRequestDTO transferAccountRequestDTO, Long userId) {
 
@@ -174,14 +233,27 @@ public class AccountServiceV1 {
 			throw new CustomApiException("0원 이하의 금액을 입금할 수 없습니다");
 		}
 
-		// 출금 계좌 확인
-		Account withdrawAccountPS = accountRepository.findByNumber(transferAccountRequestDTO.getWithdrawNumber())
-				.orElseThrow(
-						() -> new CustomApiException("해당 계좌를 찾을 수 없습니다."));
-		// 입금 계좌 확인
-		Account depositAccountPS = accountRepository.findByNumber(transferAccountRequestDTO.getDepositNumber())
-				.orElseThrow(
-						() -> new CustomApiException("해당 계좌를 찾을 수 없습니다."));
+		// 인메모리 모드에서는 계좌 잠금 순서에 맞춰 메모리에서 이체하고, DB 에는 비동기로 반영한다.
+		if (accountProperties.isInMemoryTransfer()) {
+			return inMemoryBalanceEngine.transfer(
+					transferAccountRequestDTO.getWithdrawNumber(),
+					transferAccountRequestDTO.getDepositNumber(),
+					transferAccountRequestDTO.getWithdrawPassword(),
+					transferAccountRequestDTO.getAmount(),
+					userId);
+		}
+
+		// 출금 계좌, 입금 계좌 확인
+		// 비관적 잠금 모드에서 교착 상태를 막기 위해 항상 계좌번호가 작은 쪽부터 조회(잠금)한다.
+		Account withdrawAccountPS;
+		Account depositAccountPS;
+		if (transferAccountRequestDTO.getWithdrawNumber() < transferAccountRequestDTO.getDepositNumber()) {
+			withdrawAccountPS = findAccountForUpdate(transferAccountRequestDTO.getWithdrawNumber());
+			depositAccountPS = findAccountForUpdate(transferAccountRequestDTO.getDepositNumber());
+		} else {
+			depositAccountPS = findAccountForUpdate(transferAccountRequestDTO.getDepositNumber());
+			withdrawAccountPS = findAccountForUpdate(transferAccountRequestDTO.getWithdrawNumber());
+		}
 
 		// 출금 소유자 확인 (로그인 된 사용자와 일치하는 지 여부)
 		withdrawAccountPS.checkOwner(userId);
@@ -205,12 +277,81 @@ public class AccountServiceV1 {
 				.receiver(String.valueOf(transferAccountRequestDTO.getDepositNumber()))
 				.build();
 
-		Transaction transactionPS = transactionRepository.save(transaction);
+		Transaction transactionPS = ledgerRecorder.record(transaction, List.of(userId, depositAccountPS.getUser().getId()));
 
 		// DTO 응답
 		return new TransferAccountResponseDTO(withdrawAccountPS, transactionPS);
 	}
 
+	/**
+	 * 여러 건의 이체를 하나의 트랜잭션에서 처리한다.
+	 * 1. 관련 계좌를 IN 쿼리 한 번으로 조회한다. (비관적 잠금 모드에서는 계좌번호 순서로 잠근다.)
+	 * 2. 요청 순서대로 이체를 적용한다. 실패한 건은 건너뛰고 사유를 기록한다.
+	 * 3. 성공한 건의 거래내역을 한 번에 저장한다. (시퀀스 채번 + Hibernate batch insert)
+	 * 잔액은 트랜잭션 종료 시점에 계좌별로 한 번씩만 UPDATE 된다.
+	 */
+	@RetryOnConflict
+	@Transactional
+	public BatchTransferAccountResponseDTO transferAccounts(BatchTransferAccountRequestDTO batchTransferAccountRequestDTO, Long userId) {
+		List<TransferAccountRequestDTO> transfers = batchTransferAccountRequestDTO.getTransfers();
+		List<BatchTransferResultDTO> results = new ArrayList<>(transfers.size());
+
+		// 인메모리 모드에서는 건별로 엔진에 위임한다.
+		if (accountProperties.isInMemoryTransfer()) {
+			for (int i = 0; i < transfers.size(); i++) {
+				TransferAccountRequestDTO transfer = transfers.get(i);
+				try {
+					checkTransferRequest(transfer);
+					TransferAccountResponseDTO responseDTO = inMemoryBalanceEngine.transfer(transfer.getWithdrawNumber(), transfer.getDepositNumber(),
+							transfer.getWithdrawPassword(), transfer.getAmount(), userId);
+					results.add(new BatchTransferResultDTO(i, transfer.getWithdrawNumber(), transfer.getDepositNumber(), transfer.getAmount(), responseDTO.getBalance()));
+				} catch (CustomApiException e) {
+					results.add(new BatchTransferResultDTO(i, transfer.getWithdrawNumber(), transfer.getDepositNumber(), transfer.getAmount(), e.getMessage()));
+				}
+			}
+			return new BatchTransferAccountResponseDTO(results);
+		}
+
+		// 1. 관련 계좌 일괄 조회
+		Set<Long> numbers = new TreeSet<>();
+		for (TransferAccountRequestDTO transfer : transfers) {
+			numbers.add(transfer.getWithdrawNumber());
+			numbers.add(transfer.getDepositNumber());
+		}
+		List<Account> accountListPS = accountProperties.isPessimisticLock()
+				? accountRepository.findAllByNumberInForUpdate(numbers)
+				: accountRepository.findAllByNumberIn(numbers);
+		Map<Long, Account> accountByNumber = new HashMap<>();
+		for (Account account : accountListPS) {
+			accountByNumber.put(account.getNumber(), account);
+		}
+
+		// 2. 요청 순서대로 이체
+		List<Transaction> transactions = new ArrayList<>(transfers.size());
+		for (int i = 0; i < transfers.size(); i++) {
+			TransferAccountRequestDTO transfer = transfers.get(i);
+			try {
+				Transaction transaction = applyTransfer(transfer, accountByNumber, userId);
+				transactions.add(transaction);
+				results.add(new BatchTransferResultDTO(i, transfer.getWithdrawNumber(), transfer.getDepositNumber(), transfer.getAmount(), transaction.getWithdrawAccountBalance()));
+			} catch (CustomApiException e) {
+				results.add(new BatchTransferResultDTO(i, transfer.getWithdrawNumber(), transfer.getDepositNumber(), transfer.getAmount(), e.getMessage()));
+			}
+		}
+
+		// 3. 거래내역 일괄 저장
+		if (!transactions.isEmpty()) {
+			Set<Long> ownerIds = new HashSet<>();
+			ownerIds.add(userId);
+			for (Transaction transaction : transactions) {
+				ownerIds.add(transaction.getDepositAccount().getUser().getId());
+			}
+			ledgerRecorder.recordAll(transactions, ownerIds);
+		}
+
+		return new BatchTransferAccountResponseDTO(results);
+	}
+
 	/**
 	 * 계좌 상세보기
 	 */
@@ -220,20 +361,134 @@ public class AccountServiceV1 {
 		 * 특정 계좌 전체 거래내역을 조회하기 때문에
 		 * 거래 유형은 ALL 로 고정
 		 * */
-		String type = "ALL";
+		TransactionFilter type = TransactionFilter.ALL;
 
-		// 계좌 조회
-		Account accountPS = accountRepository.findByNumber(accountNumber).orElseThrow(() -> new CustomApiException("해당 계좌를 찾을 수 없습니다."));
+		// 계좌 조회 (엔티티 대신 필요한 컬럼만 조회)
+		AccountProjection accountPS = accountRepository.findProjectionByNumber(accountNumber).orElseThrow(() -> new CustomApiException("해당 계좌를 찾을 수 없습니다."));
 
 		// 계좌 소유자 확인
 		accountPS.checkOwner(userId);
 
-		// 입출금 목록 확인
-		List<Transaction> transactionList = transactionRepository.findTransactionList(accountPS.getId(), type, page);
+		// 입출금 목록 확인 (읽기 전용 프로젝션)
+		List<TransactionProjection> transactionList = transactionRepository.findTransactionProjectionList(accountPS.getId(), type, page, DETAILS_PAGE_SIZE);
 
 		// DTO 반환
 		return new AccountDetailsResponseDTO(accountPS, transactionList);
 	}
 
+	/**
+	 * 잔액을 변경할 계좌를 조회한다.
+	 * 비관적 잠금 모드에서는 SELECT ... FOR UPDATE 로 조회해서 트랜잭션이 끝날 때까지 row 를 잠근다.
+	 * 낙관적 잠금 모드에서는 잠그지 않고 조회하고, 충돌은 갱신 시점에 감지한다.
+	 */
+	private Account findAccountForUpdate(Long number) {
+		Optional<Account> accountOP = accountProperties.isPessimisticLock()
+				? accountRepository.findByNumberForUpdate(number)
+				: accountRepository.findByNumber(number);
+		return accountOP.orElseThrow(() -> new CustomApiException("해당 계좌를 찾을 수 없습니다."));
+	}
+
+	/**
+	 * 이체 요청 자체의 유효성 확인 (동일 계좌, 0원)
+	 */
+	private void checkTransferRequest(TransferAccountRequestDTO transfer) {
+		if (transfer.getWithdrawNumber().longValue() == transfer.getDepositNumber().longValue()) {
+			throw new CustomApiException("입금 계좌와 출금 계좌가 동일할 수 없습니다.");
+		}
+		if (transfer.getAmount() <= 0L) {
+			throw new CustomApiException("0원 이하의 금액을 입금할 수 없습니다");
+		}
+	}
+
+	/**
+	 * 이미 조회한 계좌로 이체 1건을 적용하고, 저장할 거래내역을 반환한다.
+	 * 모든 확인을 통과한 뒤에 잔액을 변경하므로, 실패한 건은 잔액에 영향을 주지 않는다.
+	 */
+	private Transaction applyTransfer(TransferAccountRequestDTO transfer, Map<Long, Account> accountByNumber, Long userId) {
+		checkTransferRequest(transfer);
+
+		Account withdrawAccountPS = accountByNumber.get(transfer.getWithdrawNumber());
+		Account depositAccountPS = accountByNumber.get(transfer.getDepositNumber());
+		if (withdrawAccountPS == null || depositAccountPS == null) {
+			throw new CustomApiException("해당 계좌를 찾을 수 없습니다.");
+		}
+
+		withdrawAccountPS.checkOwner(userId);
+		withdrawAccountPS.checkPassword(transfer.getWithdrawPassword());
+		withdrawAccountPS.withdraw(transfer.getAmount());
+		depositAccountPS.deposit(transfer.getAmount());
+
+		return Transaction.builder()
+				.depositAccount(depositAccountPS)
+				.withdrawAccount(withdrawAccountPS)
+				.depositAccountBalance(depositAccountPS.getBalance())
+				.withdrawAccountBalance(withdrawAccountPS.getBalance())
+				.amount(transfer.getAmount())
+				.type(TransactionEnum.TRANSFER)
+				.sender(String.valueOf(transfer.getWithdrawNumber()))
+				.receiver(String.valueOf(transfer.getDepositNumber()))
+				.build();
+	}
+
+	/**
+	 * 계좌 엔티티를 조회하지 않고 UPDATE ... SET balance = balance + ? 로 입금한다.
+	 * UPDATE 가 잡은 row 잠금은 트랜잭션이 끝날 때까지 유지되므로, 바로 뒤에 조회한 잔액은 이번 입금이 반영된 값이다.
+	 */
+	private AccountDepositResponseDTO depositAtomically(AccountDepositRequestDTO accountDepositRequestDTO) {
+		Long number = accountDepositRequestDTO.getNumber();
+		if (accountRepository.increaseBalance(number, accountDepositRequestDTO.getAmount(), LocalDateTime.now()) == 0) {
+			throw new CustomApiException("해당 계좌를 찾을 수 없습니다.");
+		}
+		AccountProjection depositAccount = accountRepository.findProjectionByNumber(number)
+				.orElseThrow(() -> new CustomApiException("해당 계좌를 찾을 수 없습니다."));
+
+		// 거래내역의 FK 는 프록시로 채운다. (추가 조회 없음)
+		Transaction transaction = Transaction.builder()
+				.depositAccount(accountRepository.getReferenceById(depositAccount.getId()))
+				.withdrawAccount(null)
+				.depositAccountBalance(depositAccount.getBalance())
+				.withdrawAccountBalance(null)
+				.amount(accountDepositRequestDTO.getAmount())
+				.type(TransactionEnum.DEPOSIT)
+				.sender("ATM")
+				.receiver(String.valueOf(number))
+				.tel(accountDepositRequestDTO.getTel())
+				.build();
+
+		Transaction transactionPS = ledgerRecorder.record(transaction, List.of(depositAccount.getOwnerId()));
+		return new AccountDepositResponseDTO(depositAccount.toAccount(), transactionPS);
+	}
+
+	/**
+	 * 소유자, 비밀번호, 잔액 조건을 WHERE 절에 넣은 UPDATE 한 문장으로 출금한다.
+	 * 갱신된 row 가 없을 때만 계좌를 다시 조회해서 실패 사유를 판단한다.
+	 */
+	private TransferAccountResponseDTO withdrawAtomically(WithdrawAccountRequestDTO withdrawAccountRequestDTO, Long userId) {
+		Long number = withdrawAccountRequestDTO.getNumber();
+		int updated = accountRepository.decreaseBalance(
+				number, userId, withdrawAccountRequestDTO.getPassword(), withdrawAccountRequestDTO.getAmount(), LocalDateTime.now());
+		AccountProjection withdrawAccount = accountRepository.findProjectionByNumber(number)
+				.orElseThrow(() -> new CustomApiException("해당 계좌를 찾을 수 없습니다."));
+		if (updated == 0) {
+			withdrawAccount.checkOwner(userId);
+			withdrawAccount.checkPassword(withdrawAccountRequestDTO.getPassword());
+			throw new CustomApiException(AccountOwnership.INSUFFICIENT_BALANCE);
+		}
+
+		Transaction transaction = Transaction.builder()
+				.depositAccount(null)
+				.withdrawAccount(accountRepository.getReferenceById(withdrawAccount.getId()))
+				.depositAccountBalance(null)
+				.withdrawAccountBalance(withdrawAccount.getBalance())
+				.amount(withdrawAccountRequestDTO.getAmount())
+				.type(TransactionEnum.WITHDRAW)
+				.sender(String.valueOf(number))
+				.receiver("ATM")
+				.build();
+
+		Transaction transactionPS = ledgerRecorder.record(transaction, List.of(userId));
+		return new TransferAccountResponseDTO(withdrawAccount.toAccount(), transactionPS);
+	}
+
 
 }
@@ -0,0 +1,88 @@
+package com.example.banksample.service;
+
+import com.example.banksample.config.AccountProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.example.banksample.dto.account.AccountResponseDTO.AccountListResponseDTO;
+
+/**
+ * 사용자 Id 로 조회한 계좌 목록(AccountListResponseDTO)을 캐시한다.
+ * 크기를 넘으면 Caffeine 의 W-TinyLFU 정책으로 자주 조회되지 않는 사용자부터 제거한다.
+ * <p>
+ * 계좌 등록, 삭제, 잔액 변경 시 {@link #invalidate(Collection)} 로 관련 사용자(계좌 소유자)를 제거한다.
+ * 같은 키를 적재하는 중에 제거하면 적재가 끝날 때까지 기다렸다가 제거하므로, 커밋 후 제거하면 이전 잔액이 남지 않는다.
+ * 캐시에 보관한 DTO 는 setter 로 바뀔 수 있으므로, 조회할 때마다 복사본을 반환한다.
+ * 적중률, 제거 횟수는 cache.gets{cache=account.summary}, cache.evictions{cache=account.summary} 로 집계한다.
+ */
+@Component
+public class AccountSummaryCache {
+
+	private final boolean enabled;
+	private final Cache<Long, AccountListResponseDTO> summaries;
+
+	public AccountSummaryCache(AccountProperties accountProperties, MeterRegistry meterRegistry) {
+		AccountProperties.SummaryCache properties = accountProperties.getSummaryCache();
+		this.enabled = properties.isEnabled();
+		this.summaries = Caffeine.newBuilder()
+				.maximumSize(properties.getMaximumSize())
+				.expireAfterWrite(Duration.ofMillis(properties.getTtlMs()))
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, summaries, "account.summary");
+	}
+
+	/**
+	 * 캐시에 없으면 loader 로 조회한다.
+	 * loader 가 예외를 던지면 캐시하지 않는다.
+	 */
+	public AccountListResponseDTO get(Long userId, Function<Long, AccountListResponseDTO> loader) {
+		if (!enabled) {
+			return loader.apply(userId);
+		}
+		return new AccountListResponseDTO(summaries.get(userId, loader));
+	}
+
+	public void invalidate(Long userId) {
+		invalidate(List.of(userId));
+	}
+
+	/**
+	 * 바로 제거하고, 트랜잭션 안이라면 커밋 후에 한 번 더 제거한다.
+	 * 커밋 전에 다른 요청이 이전 잔액을 다시 캐시하는 경우를 막는다.
+	 */
+	public void invalidate(Collection<Long> userIds) {
+		if (!enabled || userIds.isEmpty()) {
+			return;
+		}
+		summaries.invalidateAll(userIds);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					summaries.invalidateAll(userIds);
+				}
+			});
+		}
+	}
+
+	public void invalidateAll() {
+		summaries.invalidateAll();
+	}
+
+	public long size() {
+		return summaries.estimatedSize();
+	}
+
+}
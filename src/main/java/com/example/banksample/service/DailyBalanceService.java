@@ -0,0 +1,167 @@
+package com.example.banksample.service;
+
+import com.example.banksample.config.DailyBalanceProperties;
+import com.example.banksample.domain.balance.DailyBalance;
+import com.example.banksample.domain.balance.DailyBalanceId;
+import com.example.banksample.domain.transaction.Transaction;
+import com.example.banksample.domain.transaction.TransactionEnum;
+import com.example.banksample.handler.exception.CustomApiException;
+import com.example.banksample.repository.AccountRepository;
+import com.example.banksample.repository.DailyBalanceJdbcRepository;
+import com.example.banksample.repository.DailyBalanceJdbcRepository.BalanceDelta;
+import com.example.banksample.repository.DailyBalanceRepository;
+import com.example.banksample.repository.projection.AccountProjection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static com.example.banksample.dto.transaction.TransactionResponseDTO.BalanceAtResponseDTO;
+import static com.example.banksample.dto.transaction.TransactionResponseDTO.DailyBalanceListResponseDTO;
+
+/**
+ * 계좌별 일별 잔액 스냅샷을 갱신하고, 스냅샷으로 특정 시각의 잔액을 조회한다.
+ * <p>
+ * 갱신: 거래내역을 저장하는 트랜잭션에서 거래 1건당 관련 계좌마다 upsert 1번
+ * 조회: 그날 스냅샷이 있으면 그날의 거래내역 Id 범위만, 없으면 이전 스냅샷의 마감 잔액 1행만 읽는다.
+ * 스냅샷이 없는 구간(기능 도입 전 거래만 있는 계좌 등)은 거래내역에서 직접 찾는다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class DailyBalanceService {
+
+	private final DailyBalanceRepository dailyBalanceRepository;
+	private final DailyBalanceJdbcRepository dailyBalanceJdbcRepository;
+	private final AccountRepository accountRepository;
+	private final boolean enabled;
+	private final int maxRangeDays;
+
+	public DailyBalanceService(
+			DailyBalanceRepository dailyBalanceRepository,
+			DailyBalanceJdbcRepository dailyBalanceJdbcRepository,
+			AccountRepository accountRepository,
+			DailyBalanceProperties dailyBalanceProperties
+	) {
+		this.dailyBalanceRepository = dailyBalanceRepository;
+		this.dailyBalanceJdbcRepository = dailyBalanceJdbcRepository;
+		this.accountRepository = accountRepository;
+		this.enabled = dailyBalanceProperties.isEnabled();
+		this.maxRangeDays = dailyBalanceProperties.getMaxRangeDays();
+	}
+
+	/**
+	 * 저장된(Id 가 채번된) 거래내역 1건을 거래 시각(occurredAt)의 스냅샷에 반영한다.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void record(Transaction transaction) {
+		recordAll(List.of(transaction));
+	}
+
+	/**
+	 * 저장된 거래내역 여러 건을 순서대로 스냅샷에 반영한다.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void recordAll(Collection<Transaction> transactions) {
+		if (!enabled || transactions.isEmpty()) {
+			return;
+		}
+		List<BalanceDelta> deltas = new ArrayList<>(transactions.size() * 2);
+		for (Transaction transaction : transactions) {
+			LocalDate date = transaction.getOccurredAt().toLocalDate();
+			boolean transfer = transaction.getType() == TransactionEnum.TRANSFER;
+			long amount = transaction.getAmount();
+			if (transaction.getWithdrawAccount() != null) {
+				deltas.add(new BalanceDelta(transaction.getWithdrawAccount().getId(), date, transaction.getId(),
+						transaction.getWithdrawAccountBalance(), 0, transfer ? 0 : amount, 0, transfer ? amount : 0));
+			}
+			if (transaction.getDepositAccount() != null) {
+				deltas.add(new BalanceDelta(transaction.getDepositAccount().getId(), date, transaction.getId(),
+						transaction.getDepositAccountBalance(), transfer ? 0 : amount, 0, transfer ? amount : 0, 0));
+			}
+		}
+		dailyBalanceJdbcRepository.upsert(deltas);
+	}
+
+	/**
+	 * 삭제하는 계좌의 스냅샷을 삭제한다. 계좌를 삭제하기 전에 같은 트랜잭션에서 호출한다.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void deleteByAccount(Long number, Long userId) {
+		dailyBalanceRepository.deleteByAccountNumberAndUserId(number, userId);
+	}
+
+	/**
+	 * 특정 시각의 잔액
+	 */
+	public BalanceAtResponseDTO getBalanceAt(Long userId, Long accountNumber, LocalDateTime at) {
+		AccountProjection accountPS = findOwnedAccount(userId, accountNumber);
+		return new BalanceAtResponseDTO(accountPS.getNumber(), at, balanceAt(accountPS, at));
+	}
+
+	/**
+	 * 기간별 일별 잔액 (from, to 포함)
+	 */
+	public DailyBalanceListResponseDTO getDailyBalances(Long userId, Long accountNumber, LocalDate from, LocalDate to) {
+		if (from.isAfter(to)) {
+			throw new CustomApiException("조회 시작일이 종료일보다 늦을 수 없습니다.");
+		}
+		if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+			throw new CustomApiException("최대 " + maxRangeDays + "일까지 조회할 수 있습니다.");
+		}
+		AccountProjection accountPS = findOwnedAccount(userId, accountNumber);
+		return new DailyBalanceListResponseDTO(accountPS.getNumber(), dailyBalanceRepository.findRange(accountPS.getId(), from, to));
+	}
+
+	long balanceAt(AccountProjection account, LocalDateTime at) {
+		Long accountId = account.getId();
+		LocalDate date = at.toLocalDate();
+		if (!enabled) {
+			return findBalanceFromTransactions(account, at);
+		}
+
+		// 1. 그날 거래가 있었으면 그날의 거래내역 Id 범위에서 at 이전 마지막 거래를 찾는다.
+		Optional<DailyBalance> today = dailyBalanceRepository.findById(new DailyBalanceId(accountId, date));
+		if (today.isPresent()) {
+			DailyBalance snapshot = today.get();
+			return dailyBalanceJdbcRepository
+					.findLastBalance(accountId, snapshot.getFirstTransactionId(), snapshot.getLastTransactionId(), at)
+					.orElse(snapshot.getOpeningBalance());
+		}
+
+		// 2. 그날 거래가 없었으면 직전 스냅샷의 마감 잔액
+		List<DailyBalance> before = dailyBalanceRepository.findLatestBefore(accountId, date, PageRequest.ofSize(1));
+		if (!before.isEmpty()) {
+			return before.get(0).getClosingBalance();
+		}
+
+		// 3. 스냅샷이 없는 구간은 거래내역에서 직접 찾는다.
+		return findBalanceFromTransactions(account, at);
+	}
+
+	/**
+	 * at 이전 마지막 거래 직후 잔액, 없으면 at 이후 첫 거래 직전 잔액, 거래가 없으면 현재 잔액
+	 */
+	private long findBalanceFromTransactions(AccountProjection account, LocalDateTime at) {
+		return dailyBalanceJdbcRepository.findLastBalance(account.getId(), 0L, Long.MAX_VALUE, at)
+				.or(() -> dailyBalanceJdbcRepository.findFirstBalanceAfter(account.getId(), at))
+				.orElse(account.getBalance());
+	}
+
+	private AccountProjection findOwnedAccount(Long userId, Long accountNumber) {
+		AccountProjection accountPS = accountRepository.findProjectionByNumber(accountNumber)
+				.orElseThrow(() -> new CustomApiException("해당 계좌를 찾을 수 없습니다."));
+		accountPS.checkOwner(userId);
+		return accountPS;
+	}
+
+}
@@ -0,0 +1,505 @@
+package com.example.banksample.service;
+
+import com.example.banksample.config.AccountProperties;
+import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.account.AccountOwnership;
+import com.example.banksample.domain.transaction.Transaction;
+import com.example.banksample.domain.transaction.TransactionEnum;
+import com.example.banksample.handler.exception.CustomApiException;
+import com.example.banksample.repository.AccountRepository;
+import com.example.banksample.repository.LedgerJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.example.banksample.dto.account.AccountResponseDTO.AccountDepositResponseDTO;
+import static com.example.banksample.dto.account.AccountResponseDTO.TransferAccountResponseDTO;
+
+/**
+ * {@code bank.account.transfer-mode=in-memory} 인 경우 사용하는 잔액 엔진.
+ * <p>
+ * 계좌 잔액을 메모리에 올려두고, 계좌번호를 해시한 잠금 스트라이프로 동시성을 제어한다.
+ * 이체처럼 두 계좌를 잠가야 하는 경우에는 항상 스트라이프 인덱스가 작은 쪽부터 잠가서 교착 상태를 막는다.
+ * 잔액 변경과 거래내역은 큐에 쌓아두었다가 주기적으로 batch 로 DB 에 반영한다.
+ * 잔액은 JDBC batch update 로, 거래내역은 시퀀스로 Id 를 채번한 뒤 Hibernate batch insert 로 저장한다.
+ * <p>
+ * 응답 시점에는 거래내역이 저장되지 않았으므로 거래내역 Id 는 null 이다.
+ */
+@Slf4j
+@Component
+public class InMemoryBalanceEngine {
+
+	private final AccountRepository accountRepository;
+	private final LedgerJdbcRepository ledgerJdbcRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final LedgerRecorder ledgerRecorder;
+	private final int batchSize;
+	private final int maxFlushAttempts;
+	private final Counter flushFailures;
+	private final Counter deadLettered;
+
+	private final ReentrantLock[] stripes;
+	private final Map<Long, BalanceSlot> slots = new ConcurrentHashMap<>();
+	private final LinkedBlockingDeque<Transaction> pending = new LinkedBlockingDeque<>();
+	// 반영에 끝내 실패한 거래내역과, 그 거래내역에 관련된 계좌번호
+	private final Queue<Transaction> deadLetters = new ConcurrentLinkedQueue<>();
+	private final Set<Long> quarantined = ConcurrentHashMap.newKeySet();
+	// 스케줄러 스레드에서만 읽고 쓴다.
+	private int failedAttempts;
+
+	public InMemoryBalanceEngine(
+			AccountRepository accountRepository,
+			LedgerJdbcRepository ledgerJdbcRepository,
+			TransactionTemplate transactionTemplate,
+			LedgerRecorder ledgerRecorder,
+			AccountProperties accountProperties,
+			MeterRegistry meterRegistry
+	) {
+		this.accountRepository = accountRepository;
+		this.ledgerJdbcRepository = ledgerJdbcRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.ledgerRecorder = ledgerRecorder;
+		this.batchSize = accountProperties.getInMemory().getBatchSize();
+		this.maxFlushAttempts = Math.max(1, accountProperties.getInMemory().getMaxFlushAttempts());
+		this.flushFailures = meterRegistry.counter("bank.in-memory.flush.failures");
+		this.deadLettered = meterRegistry.counter("bank.in-memory.dead-letter");
+		meterRegistry.gaugeCollectionSize("bank.in-memory.quarantined", List.of(), quarantined);
+
+		int size = Integer.highestOneBit(Math.max(1, accountProperties.getInMemory().getStripes()));
+		this.stripes = new ReentrantLock[size];
+		for (int i = 0; i < size; i++) {
+			stripes[i] = new ReentrantLock();
+		}
+	}
+
+	/**
+	 * 이체
+	 */
+	public TransferAccountResponseDTO transfer(Long withdrawNumber, Long depositNumber, Long password, Long amount, Long userId) {
+		BalanceSlot withdrawSlot = slot(withdrawNumber);
+		BalanceSlot depositSlot = slot(depositNumber);
+
+		// 출금 소유자, 비밀번호 확인 (변하지 않는 값이라 잠그지 않는다.)
+		withdrawSlot.checkOwner(userId);
+		withdrawSlot.checkPassword(password);
+
+		int first = stripeOf(withdrawNumber);
+		int second = stripeOf(depositNumber);
+		if (first > second) {
+			int temp = first;
+			first = second;
+			second = temp;
+		}
+
+		stripes[first].lock();
+		if (second != first) {
+			stripes[second].lock();
+		}
+		try {
+			withdrawSlot.withdraw(amount);
+			depositSlot.deposit(amount);
+
+			Account withdrawAccount = withdrawSlot.toAccount();
+			Transaction transaction = Transaction.builder()
+					.depositAccount(depositSlot.toAccount())
+					.withdrawAccount(withdrawAccount)
+					.depositAccountBalance(depositSlot.balance)
+					.withdrawAccountBalance(withdrawSlot.balance)
+					.amount(amount)
+					.type(TransactionEnum.TRANSFER)
+					.sender(String.valueOf(withdrawNumber))
+					.receiver(String.valueOf(depositNumber))
+					.build();
+
+			// 잠금을 쥔 채로 큐에 넣어야 계좌별 반영 순서가 보장된다.
+			pending.offer(transaction);
+			return new TransferAccountResponseDTO(withdrawAccount, transaction);
+		} finally {
+			if (second != first) {
+				stripes[second].unlock();
+			}
+			stripes[first].unlock();
+		}
+	}
+
+	/**
+	 * 입금
+	 */
+	public AccountDepositResponseDTO deposit(Long number, Long amount, String tel) {
+		BalanceSlot depositSlot = slot(number);
+		ReentrantLock lock = stripes[stripeOf(number)];
+
+		lock.lock();
+		try {
+			depositSlot.deposit(amount);
+
+			Account depositAccount = depositSlot.toAccount();
+			Transaction transaction = Transaction.builder()
+					.depositAccount(depositAccount)
+					.withdrawAccount(null)
+					.depositAccountBalance(depositSlot.balance)
+					.withdrawAccountBalance(null)
+					.amount(amount)
+					.type(TransactionEnum.DEPOSIT)
+					.sender("ATM")
+					.receiver(String.valueOf(number))
+					.tel(tel)
+					.build();
+
+			pending.offer(transaction);
+			return new AccountDepositResponseDTO(depositAccount, transaction);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 출금
+	 */
+	public TransferAccountResponseDTO withdraw(Long number, Long password, Long amount, Long userId) {
+		BalanceSlot withdrawSlot = slot(number);
+		withdrawSlot.checkOwner(userId);
+		withdrawSlot.checkPassword(password);
+		ReentrantLock lock = stripes[stripeOf(number)];
+
+		lock.lock();
+		try {
+			withdrawSlot.withdraw(amount);
+
+			Account withdrawAccount = withdrawSlot.toAccount();
+			Transaction transaction = Transaction.builder()
+					.depositAccount(null)
+					.withdrawAccount(withdrawAccount)
+					.depositAccountBalance(null)
+					.withdrawAccountBalance(withdrawSlot.balance)
+					.amount(amount)
+					.type(TransactionEnum.WITHDRAW)
+					.sender(String.valueOf(number))
+					.receiver("ATM")
+					.build();
+
+			pending.offer(transaction);
+			return new TransferAccountResponseDTO(withdrawAccount, transaction);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 계좌가 삭제된 경우 메모리에서 제거한다.
+	 */
+	public void evict(Long number) {
+		slots.remove(number);
+	}
+
+	/**
+	 * DB 에 아직 반영되지 않은 거래내역 개수
+	 */
+	public int getPendingCount() {
+		return pending.size();
+	}
+
+	/**
+	 * 반영에 끝내 실패해서 DB 에 저장되지 않은 거래내역 개수
+	 */
+	public int getDeadLetterCount() {
+		return deadLetters.size();
+	}
+
+	/**
+	 * 반영에 실패해서 격리된 계좌인지 여부
+	 */
+	public boolean isQuarantined(Long number) {
+		return number != null && quarantined.contains(number);
+	}
+
+	/**
+	 * 원인을 해결한 뒤 격리를 해제한다.
+	 * 메모리의 잔액은 버리고, 다음 사용 시점에 DB 에서 다시 읽는다.
+	 */
+	public void release(Long number) {
+		slots.remove(number);
+		quarantined.remove(number);
+	}
+
+	/**
+	 * 쌓여있는 거래내역을 batchSize 단위로 DB 에 반영한다.
+	 * 거래내역은 {@link LedgerRecorder} 로 잔액과 같은 트랜잭션에서 저장한다.
+	 * <p>
+	 * 반영에 실패한 묶음은 큐의 앞쪽으로 되돌려서 다음 주기에 다시 시도한다.
+	 * 일시적이지 않은 오류로 maxFlushAttempts 번 연속 실패하면 한 건씩 반영하고,
+	 * 혼자서도 실패하는 거래내역은 dead letter 로 옮긴 뒤 관련 계좌를 격리한다.
+	 * 격리된 계좌의 이후 거래내역도 dead letter 로 옮기므로, 격리되지 않은 계좌의 잔액은 거래내역과 어긋나지 않는다.
+	 */
+	@Scheduled(fixedDelayString = "${bank.account.in-memory.flush-interval-ms:100}")
+	public void flush() {
+		while (!pending.isEmpty()) {
+			List<Transaction> drained = new ArrayList<>(batchSize);
+			pending.drainTo(drained, batchSize);
+			if (drained.isEmpty()) {
+				return;
+			}
+			// 격리 확인에서 예외가 나도 꺼낸 거래내역을 잃지 않도록 같은 실패 처리 안에서 거른다.
+			List<Transaction> batch = drained;
+			try {
+				batch = withoutQuarantined(drained);
+				if (batch.isEmpty()) {
+					continue;
+				}
+				write(batch);
+				failedAttempts = 0;
+			} catch (RuntimeException e) {
+				flushFailures.increment();
+				if (isTransient(e) || ++failedAttempts < maxFlushAttempts) {
+					log.error("[에러] 잔액 반영 실패 ({}/{}), 다음 주기에 재시도합니다. -> {}", failedAttempts, maxFlushAttempts, e.getMessage());
+					requeue(batch);
+					return;
+				}
+				log.error("[에러] 잔액 반영이 {} 번 연속 실패해서 한 건씩 반영합니다. -> {}", failedAttempts, e.getMessage());
+				failedAttempts = 0;
+				if (!writeOneByOne(batch)) {
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 묶음을 한 건씩 반영한다. 일시적인 오류가 나면 남은 거래내역을 되돌리고 false 를 반환한다.
+	 */
+	private boolean writeOneByOne(List<Transaction> batch) {
+		for (int i = 0; i < batch.size(); i++) {
+			Transaction transaction = unsavedCopy(batch.get(i));
+			if (touchesQuarantined(transaction)) {
+				deadLetter(transaction);
+				continue;
+			}
+			try {
+				write(List.of(transaction));
+			} catch (RuntimeException e) {
+				flushFailures.increment();
+				if (isTransient(e)) {
+					requeue(batch.subList(i, batch.size()));
+					return false;
+				}
+				log.error("[에러] 거래내역을 반영하지 못해 계좌를 격리합니다. 출금: {}, 입금: {} -> {}",
+						numberOf(transaction.getWithdrawAccount()), numberOf(transaction.getDepositAccount()), e.getMessage());
+				deadLetter(transaction);
+			}
+		}
+		return true;
+	}
+
+	private void write(List<Transaction> batch) {
+		// 같은 계좌가 여러 번 등장하면 마지막 잔액만 반영한다.
+		Map<Long, Long> balanceByAccountId = new LinkedHashMap<>();
+		Set<Long> ownerIds = new HashSet<>();
+		for (Transaction transaction : batch) {
+			if (transaction.getWithdrawAccount() != null) {
+				balanceByAccountId.put(transaction.getWithdrawAccount().getId(), transaction.getWithdrawAccountBalance());
+				addOwnerId(ownerIds, transaction.getWithdrawAccount());
+			}
+			if (transaction.getDepositAccount() != null) {
+				balanceByAccountId.put(transaction.getDepositAccount().getId(), transaction.getDepositAccountBalance());
+				addOwnerId(ownerIds, transaction.getDepositAccount());
+			}
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		transactionTemplate.executeWithoutResult(status -> {
+			ledgerJdbcRepository.updateBalances(balanceByAccountId, now);
+			ledgerRecorder.recordAll(batch, ownerIds);
+		});
+	}
+
+	/**
+	 * persist 시점에 Id 가 채번되므로, 다시 저장할 때 merge 되지 않도록 Id 없는 사본을 큐의 앞쪽으로 되돌린다.
+	 */
+	private void requeue(List<Transaction> batch) {
+		for (int i = batch.size() - 1; i >= 0; i--) {
+			pending.offerFirst(unsavedCopy(batch.get(i)));
+		}
+	}
+
+	/**
+	 * 격리된 계좌의 거래내역을 dead letter 로 옮기고 나머지를 반환한다.
+	 * 모두 나눈 뒤에 옮기므로, 나누는 중에 예외가 나면 아무것도 옮기지 않는다.
+	 */
+	private List<Transaction> withoutQuarantined(List<Transaction> drained) {
+		if (quarantined.isEmpty()) {
+			return drained;
+		}
+		List<Transaction> batch = new ArrayList<>(drained.size());
+		List<Transaction> rejected = new ArrayList<>();
+		for (Transaction transaction : drained) {
+			if (touchesQuarantined(transaction)) {
+				rejected.add(transaction);
+			} else {
+				batch.add(transaction);
+			}
+		}
+		rejected.forEach(this::deadLetter);
+		return batch;
+	}
+
+	/**
+	 * 입금, 출금 거래내역은 한쪽 계좌가 없다. (ConcurrentHashMap 의 key set 은 null 을 조회하면 예외가 발생한다.)
+	 */
+	private boolean touchesQuarantined(Transaction transaction) {
+		return isQuarantined(numberOf(transaction.getWithdrawAccount()))
+				|| isQuarantined(numberOf(transaction.getDepositAccount()));
+	}
+
+	/**
+	 * 거래내역을 dead letter 로 옮기고 관련 계좌를 격리한다.
+	 * 격리된 계좌는 메모리에서 제거되어 새 거래를 받지 않는다.
+	 */
+	private void deadLetter(Transaction transaction) {
+		for (Account account : new Account[]{transaction.getWithdrawAccount(), transaction.getDepositAccount()}) {
+			if (account != null) {
+				quarantined.add(account.getNumber());
+				slots.remove(account.getNumber());
+			}
+		}
+		deadLetters.add(transaction);
+		deadLettered.increment();
+	}
+
+	private static Long numberOf(Account account) {
+		return account == null ? null : account.getNumber();
+	}
+
+	/**
+	 * DB 연결 실패, 잠금 대기 시간 초과처럼 다시 시도하면 성공할 수 있는 오류
+	 */
+	private static boolean isTransient(RuntimeException e) {
+		return e instanceof TransientDataAccessException
+				|| e instanceof RecoverableDataAccessException
+				|| e instanceof CannotCreateTransactionException;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		flush();
+		if (!pending.isEmpty()) {
+			log.error("[에러] 종료 시점에 DB 에 반영하지 못한 거래내역이 {} 건 있습니다.", pending.size());
+		}
+	}
+
+	private static Transaction unsavedCopy(Transaction transaction) {
+		return Transaction.builder()
+				.withdrawAccount(transaction.getWithdrawAccount())
+				.depositAccount(transaction.getDepositAccount())
+				.withdrawAccountBalance(transaction.getWithdrawAccountBalance())
+				.depositAccountBalance(transaction.getDepositAccountBalance())
+				.amount(transaction.getAmount())
+				.type(transaction.getType())
+				.sender(transaction.getSender())
+				.receiver(transaction.getReceiver())
+				.tel(transaction.getTel())
+				.occurredAt(transaction.getOccurredAt())
+				.build();
+	}
+
+	/**
+	 * 계좌 목록 캐시에서 제거할 소유자 Id
+	 * 메모리에서 제거된 계좌는 삭제되면서 이미 캐시에서 제거되었다.
+	 */
+	private void addOwnerId(Set<Long> ownerIds, Account account) {
+		BalanceSlot slot = slots.get(account.getNumber());
+		if (slot != null) {
+			ownerIds.add(slot.ownerId);
+		}
+	}
+
+	private BalanceSlot slot(Long number) {
+		if (quarantined.contains(number)) {
+			throw new CustomApiException("잔액 반영에 실패한 계좌라 일시적으로 사용할 수 없습니다.");
+		}
+		BalanceSlot slot = slots.get(number);
+		if (slot != null) {
+			return slot;
+		}
+		// DB 조회는 computeIfAbsent 밖에서 한다. 동시에 적재되면 먼저 들어간 값을 사용한다.
+		Account accountPS = accountRepository.findByNumber(number)
+				.orElseThrow(() -> new CustomApiException("해당 계좌를 찾을 수 없습니다."));
+		BalanceSlot loaded = new BalanceSlot(accountPS);
+		BalanceSlot existing = slots.putIfAbsent(number, loaded);
+		return existing == null ? loaded : existing;
+	}
+
+	private int stripeOf(Long number) {
+		int h = number.hashCode();
+		h ^= (h >>> 16);
+		return h & (stripes.length - 1);
+	}
+
+	/**
+	 * 메모리에 올라간 계좌 1건
+	 * balance 는 해당 계좌의 스트라이프 잠금을 쥔 상태에서만 읽고 쓴다.
+	 */
+	private static final class BalanceSlot {
+		private final Long accountId;
+		private final Long number;
+		private final Long ownerId;
+		private final Long password;
+		private long balance;
+
+		private BalanceSlot(Account account) {
+			this.accountId = account.getId();
+			this.number = account.getNumber();
+			this.ownerId = account.getUser().getId();
+			this.password = account.getPassword();
+			this.balance = account.getBalance();
+		}
+
+		private void checkOwner(Long userId) {
+			AccountOwnership.checkOwner(ownerId, userId);
+		}
+
+		private void checkPassword(Long password) {
+			AccountOwnership.checkPassword(this.password, password);
+		}
+
+		private void deposit(long amount) {
+			balance += amount;
+		}
+
+		private void withdraw(long amount) {
+			AccountOwnership.checkBalance(balance, amount);
+			balance -= amount;
+		}
+
+		/**
+		 * 응답 DTO, 거래내역 생성용 비영속 Account
+		 */
+		private Account toAccount() {
+			return Account.builder()
+					.id(accountId)
+					.number(number)
+					.balance(balance)
+					.build();
+		}
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.example.banksample.service;
+
+import com.example.banksample.domain.transaction.Transaction;
+import com.example.banksample.outbox.LedgerOutboxWriter;
+import com.example.banksample.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 잔액을 변경한 트랜잭션 안에서 거래내역을 저장하고, 거래내역에 딸린 기록을 함께 남긴다.
+ * <p>
+ * 1. 거래내역 저장
+ * 2. 원장 이벤트(outbox), 일별 잔액 스냅샷 저장 (같은 트랜잭션)
+ * 3. 계좌 소유자의 계좌 목록 캐시 제거 (커밋 후)
+ * <p>
+ * 잔액을 변경하는 곳은 모두 이 클래스로 거래내역을 저장한다.
+ * 계좌가 프록시이거나 사용자 없이 만들어진 경우가 있으므로, 계좌 소유자 Id 는 호출하는 쪽에서 넘긴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class LedgerRecorder {
+
+	private final TransactionRepository transactionRepository;
+	private final LedgerOutboxWriter ledgerOutboxWriter;
+	private final DailyBalanceService dailyBalanceService;
+	private final AccountSummaryCache accountSummaryCache;
+
+	/**
+	 * 거래내역 1건
+	 *
+	 * @param ownerIds 잔액이 변경된 계좌의 소유자 Id
+	 * @return 저장된 거래내역
+	 */
+	public Transaction record(Transaction transaction, Collection<Long> ownerIds) {
+		Transaction transactionPS = transactionRepository.save(transaction);
+		ledgerOutboxWriter.append(transactionPS);
+		dailyBalanceService.record(transactionPS);
+		accountSummaryCache.invalidate(ownerIds);
+		return transactionPS;
+	}
+
+	/**
+	 * 거래내역 여러 건 (Hibernate batch insert)
+	 *
+	 * @param ownerIds 잔액이 변경된 계좌의 소유자 Id
+	 */
+	public void recordAll(List<Transaction> transactions, Collection<Long> ownerIds) {
+		if (transactions.isEmpty()) {
+			return;
+		}
+		transactionRepository.saveAll(transactions);
+		ledgerOutboxWriter.appendAll(transactions);
+		dailyBalanceService.recordAll(transactions);
+		accountSummaryCache.invalidate(ownerIds);
+	}
+
+}
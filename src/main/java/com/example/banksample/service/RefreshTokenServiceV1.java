@@ -0,0 +1,126 @@
+package com.example.banksample.service;
+
+import com.example.banksample.auth.LoginUser;
+import com.example.banksample.config.JwtProperties;
+import com.example.banksample.domain.token.RefreshToken;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.handler.exception.CustomApiException;
+import com.example.banksample.jwt.JwtProcess;
+import com.example.banksample.repository.RefreshTokenRepository;
+import com.example.banksample.repository.UserRepository;
+import com.example.banksample.util.CustomDateUtil;
+import com.example.banksample.util.TokenHashUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static com.example.banksample.dto.token.TokenResponseDTO.RefreshTokenResponseDTO;
+
+/**
+ * 리프레시 토큰 발급, 재발급(rotation), 폐기
+ * <p>
+ * 재발급은 사용자 Id 로 PK 조회만 하고 비밀번호(BCrypt)는 비교하지 않는다.
+ * 따라서 액세스 토큰이 만료될 때마다 로그인하는 것보다 훨씬 가볍다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenServiceV1 {
+
+	private final RefreshTokenRepository refreshTokenRepository;
+	private final UserRepository userRepository;
+	private final JwtProcess jwtProcess;
+	private final JwtProperties jwtProperties;
+
+	/**
+	 * 로그인에 성공한 사용자에게 새 family 의 리프레시 토큰을 발급한다.
+	 */
+	@Transactional
+	public String issue(User user) {
+		return issue(user.getId(), UUID.randomUUID().toString(), LocalDateTime.now()).token;
+	}
+
+	/**
+	 * 리프레시 토큰으로 액세스 토큰과 새 리프레시 토큰을 발급한다.
+	 * 사용한 리프레시 토큰은 다시 사용할 수 없다.
+	 * 이미 사용한 토큰이 다시 들어오면 같은 family 를 모두 폐기한다. (폐기는 예외가 발생해도 커밋한다.)
+	 * 로그아웃으로 폐기된 토큰은 유효하지 않은 토큰으로만 응답한다.
+	 */
+	@Transactional(noRollbackFor = CustomApiException.class)
+	public RefreshTokenResponseDTO refresh(String refreshToken) {
+		LocalDateTime now = LocalDateTime.now();
+		RefreshToken refreshTokenPS = refreshTokenRepository.findByTokenHash(TokenHashUtil.sha256(refreshToken))
+				.orElseThrow(() -> new CustomApiException("유효하지 않은 리프레시 토큰입니다."));
+
+		if (refreshTokenPS.isExpired(now)) {
+			throw new CustomApiException("만료된 리프레시 토큰입니다.");
+		}
+		// 로그아웃했거나 이미 family 가 폐기된 경우, 재사용으로 보지 않는다.
+		if (refreshTokenPS.isRevoked()) {
+			throw new CustomApiException("유효하지 않은 리프레시 토큰입니다.");
+		}
+		// 이미 사용했거나, 동시에 들어온 다른 요청이 먼저 사용한 경우
+		if (refreshTokenPS.isUsed() || refreshTokenRepository.markUsed(refreshTokenPS.getId(), now) == 0) {
+			int revoked = refreshTokenRepository.revokeFamily(refreshTokenPS.getFamilyId(), now);
+			log.warn("[경고] 리프레시 토큰 재사용 감지, userId -> {}, 폐기한 토큰 -> {}", refreshTokenPS.getUserId(), revoked);
+			throw new CustomApiException("이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
+		}
+
+		User userPS = userRepository.findById(refreshTokenPS.getUserId())
+				.orElseThrow(() -> new CustomApiException("해당 유저를 찾을 수 없습니다."));
+
+		IssuedToken issuedToken = issue(userPS.getId(), refreshTokenPS.getFamilyId(), now);
+		String accessToken = jwtProcess.createToken(new LoginUser(userPS));
+		return new RefreshTokenResponseDTO(accessToken, issuedToken.token, CustomDateUtil.toStringFormat(issuedToken.expiresAt));
+	}
+
+	/**
+	 * 로그아웃, 리프레시 토큰과 같은 family 의 토큰을 모두 폐기한다.
+	 */
+	@Transactional
+	public void revoke(String refreshToken) {
+		refreshTokenRepository.findByTokenHash(TokenHashUtil.sha256(refreshToken))
+				.ifPresent(refreshTokenPS -> refreshTokenRepository.revokeFamily(refreshTokenPS.getFamilyId(), LocalDateTime.now()));
+	}
+
+	/**
+	 * 만료된 리프레시 토큰을 1시간마다 삭제한다.
+	 */
+	@Scheduled(fixedDelay = 3_600_000, initialDelay = 60_000)
+	@Transactional
+	public void purgeExpired() {
+		int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+		if (deleted > 0) {
+			log.info("[*] 만료된 리프레시 토큰 {} 건을 삭제했습니다.", deleted);
+		}
+	}
+
+	private IssuedToken issue(Long userId, String familyId, LocalDateTime now) {
+		String token = TokenHashUtil.randomToken();
+		LocalDateTime expiresAt = now.plus(jwtProperties.getRefresh().getTtlMs(), ChronoUnit.MILLIS);
+		refreshTokenRepository.save(RefreshToken.builder()
+				.userId(userId)
+				.tokenHash(TokenHashUtil.sha256(token))
+				.familyId(familyId)
+				.expiresAt(expiresAt)
+				.build());
+		return new IssuedToken(token, expiresAt);
+	}
+
+	private static final class IssuedToken {
+		private final String token;
+		private final LocalDateTime expiresAt;
+
+		private IssuedToken(String token, LocalDateTime expiresAt) {
+			this.token = token;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+}
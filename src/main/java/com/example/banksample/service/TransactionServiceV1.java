@@ -1,16 +1,25 @@
 package com.example.banksample.service;
 
-import com.example.banksample.domain.account.Account;
-import com.example.banksample.domain.transaction.Transaction;
+import com.example.banksample.config.TransactionProperties;
+import com.example.banksample.dto.transaction.TransactionExportFormat;
+import com.example.banksample.dto.transaction.TransactionFilter;
 import com.example.banksample.handler.exception.CustomApiException;
 import com.example.banksample.repository.AccountRepository;
 import com.example.banksample.repository.TransactionRepository;
+import com.example.banksample.repository.projection.AccountProjection;
+import com.example.banksample.repository.projection.TransactionProjection;
+import com.example.banksample.util.CursorUtil;
+import com.example.banksample.util.TransactionExportWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static com.example.banksample.dto.transaction.TransactionResponseDTO.TransactionListResponseDTO;
 
@@ -22,16 +31,59 @@ public class TransactionServiceV1 {
 
 	private final TransactionRepository transactionRepository;
 	private final AccountRepository accountRepository;
+	private final TransactionProperties transactionProperties;
 
-	public TransactionListResponseDTO findTransactions(Long userid, Long accountNumber, String transactionType, int page) {
-		// 1. 계좌 존재 여부 확인
-		Account accountPS = accountRepository.findByNumber(accountNumber).orElseThrow(() -> new CustomApiException("해당 계좌를 찾을 수 없습니다."));
+	public TransactionListResponseDTO findTransactions(Long userid, Long accountNumber, TransactionFilter transactionType, int page) {
+		return findTransactions(userid, accountNumber, transactionType, page, null, null);
+	}
+
+	/**
+	 * cursor 가 있으면 키셋 방식으로, 없으면 page 로 조회한다.
+	 * 두 방식 모두 다음 페이지 조회용 커서를 응답에 포함한다.
+	 */
+	public TransactionListResponseDTO findTransactions(Long userid, Long accountNumber, TransactionFilter transactionType, int page, String cursor, Integer size) {
+		int pageSize = transactionProperties.resolvePageSize(size);
+		// 1. 계좌 존재 여부 확인 (엔티티 대신 필요한 컬럼만 조회)
+		AccountProjection accountPS = accountRepository.findProjectionByNumber(accountNumber).orElseThrow(() -> new CustomApiException("해당 계좌를 찾을 수 없습니다."));
 		// 2. 계좌 소유 여부 확인
 		accountPS.checkOwner(userid);
 		// 3. 거래내역 리스트 찾기
-		List<Transaction> transactionList = transactionRepository.findTransactionList(accountPS.getId(), transactionType, page);
-		// 4. DTO 반환
-		return new TransactionListResponseDTO(accountPS, transactionList);
+		List<TransactionProjection> transactionList = cursor == null
+				? transactionRepository.findTransactionProjectionList(accountPS.getId(), transactionType, page, pageSize)
+				: transactionRepository.findTransactionProjectionListAfter(accountPS.getId(), transactionType, CursorUtil.decode(cursor), pageSize);
+		// 4. 페이지가 가득 찼으면 다음 페이지가 있을 수 있다.
+		String nextCursor = transactionList.size() < pageSize
+				? null
+				: CursorUtil.encode(transactionList.get(transactionList.size() - 1).getId());
+		// 5. DTO 반환
+		return new TransactionListResponseDTO(transactionList, nextCursor);
+	}
+
+	/**
+	 * 계좌의 전체 거래내역을 format 형식으로 내보낸다.
+	 * 소유자 확인이 끝난 뒤에 target 을 열기 때문에, 확인에 실패하면 아무것도 쓰지 않는다.
+	 */
+	public void exportTransactions(Long userid, Long accountNumber, TransactionExportFormat format, ExportTarget target) throws IOException {
+		// 1. 계좌 존재 여부 확인
+		AccountProjection accountPS = accountRepository.findProjectionByNumber(accountNumber).orElseThrow(() -> new CustomApiException("해당 계좌를 찾을 수 없습니다."));
+		// 2. 계좌 소유 여부 확인
+		accountPS.checkOwner(userid);
+		// 3. 한 건씩 읽어서 바로 쓴다.
+		try (Stream<TransactionProjection> transactions = transactionRepository.streamProjectionByAccountId(accountPS.getId());
+			 TransactionExportWriter writer = new TransactionExportWriter(format, target.open())) {
+			Iterator<TransactionProjection> iterator = transactions.iterator();
+			while (iterator.hasNext()) {
+				writer.write(iterator.next());
+			}
+		}
+	}
+
+	/**
+	 * 내보내기 결과를 쓸 대상 (응답 헤더 설정 후 출력 스트림을 반환한다.)
+	 */
+	@FunctionalInterface
+	public interface ExportTarget {
+		OutputStream open() throws IOException;
 	}
 
 
@@ -0,0 +1,93 @@
+package com.example.banksample.service;
+
+import com.example.banksample.config.UniqueKeyFilterProperties;
+import com.example.banksample.repository.AccountRepository;
+import com.example.banksample.repository.UserRepository;
+import com.example.banksample.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * 이미 사용 중인 사용자명, 계좌번호를 Bloom filter 로 보관한다.
+ * mightContain 이 false 이면 중복이 아니므로 중복 확인 SELECT 를 생략한다.
+ * <p>
+ * 중복 여부는 DB 의 unique 제약조건이 최종적으로 판단한다.
+ * 필터에 빠진 값(다른 노드에서 추가, 직접 INSERT 등)은 INSERT 시 제약조건 위반으로 걸러진다.
+ * 삭제된 값은 필터에서 지울 수 없지만, 오탐이 되어 SELECT 로 확인할 뿐이다.
+ * 시작 시 두 컬럼을 스트리밍해서 채우고, 채우기 전까지는 항상 SELECT 로 확인한다.
+ */
+@Slf4j
+@Component
+public class UniqueKeyFilter {
+
+	private final UserRepository userRepository;
+	private final AccountRepository accountRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final boolean enabled;
+	private final BloomFilter usernames;
+	private final BloomFilter accountNumbers;
+	private volatile boolean ready;
+
+	public UniqueKeyFilter(
+			UserRepository userRepository,
+			AccountRepository accountRepository,
+			TransactionTemplate transactionTemplate,
+			UniqueKeyFilterProperties properties
+	) {
+		this.userRepository = userRepository;
+		this.accountRepository = accountRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.enabled = properties.isEnabled();
+		this.usernames = new BloomFilter(properties.getExpectedUsernames(), properties.getFalsePositiveRate());
+		this.accountNumbers = new BloomFilter(properties.getExpectedAccountNumbers(), properties.getFalsePositiveRate());
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		if (!enabled) {
+			return;
+		}
+		long[] counts = new long[2];
+		transactionTemplate.executeWithoutResult(status -> {
+			try (Stream<String> stream = userRepository.streamAllUsernames()) {
+				stream.forEach(username -> {
+					usernames.put(username);
+					counts[0]++;
+				});
+			}
+			try (Stream<Long> stream = accountRepository.streamAllNumbers()) {
+				stream.forEach(number -> {
+					accountNumbers.put(number);
+					counts[1]++;
+				});
+			}
+		});
+		ready = true;
+		log.info("[*] 중복 확인 필터 준비 완료. 사용자명 -> {}, 계좌번호 -> {}", counts[0], counts[1]);
+	}
+
+	public boolean mightContainUsername(String username) {
+		return !ready || usernames.mightContain(username);
+	}
+
+	public boolean mightContainAccountNumber(Long number) {
+		return !ready || accountNumbers.mightContain(number);
+	}
+
+	/**
+	 * INSERT 직후 호출한다. 롤백되더라도 오탐이 될 뿐이다.
+	 */
+	public void putUsername(String username) {
+		usernames.put(username);
+	}
+
+	public void putAccountNumber(Long number) {
+		accountNumbers.put(number);
+	}
+
+}
@@ -1,16 +1,16 @@
 package com.example.banksample.service;
 
+import com.example.banksample.auth.LoginUserCache;
 import com.example.banksample.domain.user.User;
 import com.example.banksample.handler.exception.CustomApiException;
 import com.example.banksample.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
-
 import static com.example.banksample.dto.user.UserRequestDTO.JoinRequestDTO;
 import static com.example.banksample.dto.user.UserResponseDTO.JoinResponseDTO;
 
@@ -20,7 +20,9 @@ import static com.example.banksample.dto.user.UserResponseDTO.JoinResponseDTO;
 public class UserServiceImplV1 implements UserServiceV1 {
 
 	private final UserRepository userRepository;
-	private final BCryptPasswordEncoder bCryptPasswordEncoder;
+	private final PasswordEncoder passwordEncoder;
+	private final LoginUserCache loginUserCache;
+	private final UniqueKeyFilter uniqueKeyFilter;
 
 	/**
 	 * 서비스 레이어에서는 DTO 를 요청받고, DTO 로 응답한다.
@@ -30,14 +32,23 @@ public class UserServiceImplV1 implements UserServiceV1 {
 	@Override
 	@Transactional
 	public JoinResponseDTO signUp(JoinRequestDTO joinRequestDTO) {
-		// 1. 동일한 사용자 이름이 존재하는지 검사
-		Optional<User> userOptional = userRepository.findByUsername(joinRequestDTO.getUsername());
-		// 사용자 이름이 중복된 경우
-		if (userOptional.isPresent()) {
+		// 1. 동일한 사용자 이름이 존재하는지 검사 (필터에 없는 사용자 이름이면 조회하지 않는다.)
+		if (uniqueKeyFilter.mightContainUsername(joinRequestDTO.getUsername())
+			&& userRepository.findByUsername(joinRequestDTO.getUsername()).isPresent()) {
 			throw new CustomApiException("동일한 사용자 이름이 존재합니다.");
 		}
 		// 2. 패스워드 인코딩 + 회원가입 진행
-		User userPS = userRepository.save(joinRequestDTO.toEntity(bCryptPasswordEncoder));
+		User userPS;
+		try {
+			userPS = userRepository.save(joinRequestDTO.toEntity(passwordEncoder));
+			// unique 제약조건 위반을 이 메서드 안에서 받기 위해 바로 INSERT 한다.
+			userRepository.flush();
+		} catch (DataIntegrityViolationException e) {
+			throw new CustomApiException("동일한 사용자 이름이 존재합니다.");
+		}
+		uniqueKeyFilter.putUsername(userPS.getUsername());
+		// 가입 전에 로그인을 시도해서 '존재하지 않는 사용자'로 캐시된 경우를 제거한다.
+		loginUserCache.invalidate(userPS.getUsername());
 		// 3. DTO 응답
 		return new JoinResponseDTO(userPS);
 	}
@@ -0,0 +1,95 @@
+package com.example.banksample.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 여러 스레드가 잠금 없이 추가, 조회할 수 있는 Bloom filter
+ * mightContain 이 false 이면 추가된 적이 없는 값이고, true 이면 추가된 적이 있을 수도 있는 값이다.
+ * 값을 제거할 수는 없다.
+ */
+public class BloomFilter {
+
+	private final AtomicLongArray words;
+	private final long bitSize;
+	private final int hashCount;
+
+	/**
+	 * @param expectedInsertions 추가할 값의 예상 개수
+	 * @param falsePositiveRate  expectedInsertions 개를 추가했을 때의 오탐률 (0 ~ 1)
+	 */
+	public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+		long n = Math.max(1, expectedInsertions);
+		long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) / 64));
+		this.words = new AtomicLongArray(wordCount);
+		this.bitSize = wordCount * 64L;
+		this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+	}
+
+	public void put(String value) {
+		put(hash(value));
+	}
+
+	public void put(long value) {
+		put(mix(value));
+	}
+
+	public boolean mightContain(String value) {
+		return mightContain(hash(value));
+	}
+
+	public boolean mightContain(long value) {
+		return mightContain(mix(value));
+	}
+
+	private void put(long hash) {
+		long h1 = hash;
+		long h2 = mix(hash ^ 0x9E3779B97F4A7C15L);
+		for (int i = 0; i < hashCount; i++) {
+			long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+			int word = (int) (index >>> 6);
+			long mask = 1L << index;
+			long current = words.get(word);
+			while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+				current = words.get(word);
+			}
+		}
+	}
+
+	private boolean mightContain(long hash) {
+		long h1 = hash;
+		long h2 = mix(hash ^ 0x9E3779B97F4A7C15L);
+		for (int i = 0; i < hashCount; i++) {
+			long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+			if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * FNV-1a 64bit
+	 */
+	private static long hash(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		return mix(hash);
+	}
+
+	/**
+	 * MurmurHash3 fmix64
+	 */
+	private static long mix(long value) {
+		value ^= value >>> 33;
+		value *= 0xff51afd7ed558ccdL;
+		value ^= value >>> 33;
+		value *= 0xc4ceb3fe1a85ec53L;
+		value ^= value >>> 33;
+		return value;
+	}
+
+}
@@ -0,0 +1,43 @@
+package com.example.banksample.util;
+
+import com.example.banksample.handler.exception.CustomApiException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션에 사용하는 커서를 만든다.
+ * 클라이언트는 커서의 내용을 해석하지 않고, 응답으로 받은 값을 그대로 다음 요청에 전달한다.
+ */
+public class CursorUtil {
+
+	private static final String PREFIX = "tx:";
+
+	private CursorUtil() {
+
+	}
+
+	/**
+	 * 마지막으로 조회한 거래내역 Id -> 커서
+	 */
+	public static String encode(Long lastId) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 커서 -> 마지막으로 조회한 거래내역 Id
+	 */
+	public static Long decode(String cursor) {
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			if (!decoded.startsWith(PREFIX)) {
+				throw new IllegalArgumentException(decoded);
+			}
+			return Long.parseLong(decoded.substring(PREFIX.length()));
+		} catch (IllegalArgumentException e) {
+			throw new CustomApiException("잘못된 커서입니다.");
+		}
+	}
+
+}
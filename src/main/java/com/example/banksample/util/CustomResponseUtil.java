@@ -1,31 +1,73 @@
 package com.example.banksample.util;
 
 import com.example.banksample.dto.ResponseDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
+/**
+ * 시큐리티 필터에서 컨트롤러를 거치지 않고 직접 응답을 작성한다.
+ * 스프링 컨텍스트의 ObjectMapper 로 만든 ObjectWriter 를 공유하고, 응답 스트림에 바로 쓴다.
+ * 메시지가 고정된 인증 실패 응답은 미리 직렬화한 바이트를 그대로 쓴다.
+ */
 @Slf4j
+@Component
 public class CustomResponseUtil {
 
-	private CustomResponseUtil() {
+	public static final String LOGIN_REQUIRED = "로그인이 필요합니다.";
+	public static final String ADMIN_REQUIRED = "관리자 권한이 필요합니다.";
+	public static final String LOGIN_FAILED = "로그인에 실패했습니다.";
+	public static final String TOO_MANY_LOGIN_ATTEMPTS = "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+	private static final String CONTENT_TYPE = "application/json; charset=utf-8";
+
+	// 응답 스트림을 닫으면 이후 필터에서 헤더를 추가할 수 없으므로 닫지 않는다.
+	private final ObjectWriter writer;
+	private final Map<String, byte[]> fixedFailures;
+
+	public CustomResponseUtil(ObjectMapper objectMapper) {
+		this.writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		this.fixedFailures = Map.of(
+			LOGIN_REQUIRED, failureBody(LOGIN_REQUIRED),
+			ADMIN_REQUIRED, failureBody(ADMIN_REQUIRED),
+			LOGIN_FAILED, failureBody(LOGIN_FAILED),
+			TOO_MANY_LOGIN_ATTEMPTS, failureBody(TOO_MANY_LOGIN_ATTEMPTS)
+		);
+	}
+
+	private byte[] failureBody(String message) {
+		try {
+			return writer.writeValueAsBytes(new ResponseDTO<>(-1, message, null));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
 	}
 
+	/**
+	 * 실패 응답 본문 (고정 메시지는 미리 직렬화한 값)
+	 * 서블릿 응답이 아닌 곳(WebFlux 필터)에서 사용한다.
+	 */
+	public byte[] failurePayload(String message) {
+		byte[] body = fixedFailures.get(message);
+		return body != null ? body : failureBody(message);
+	}
 
-	public static void loginSuccess(HttpServletResponse response, Object dto) {
+	public void loginSuccess(HttpServletResponse response, Object dto) {
 
 		/**
 		 * 파싱 관련 에러가 나면, 여기선 할 수 있는게 없다.
 		 * */
 		try {
-			ObjectMapper objectMapper = new ObjectMapper();
-			ResponseDTO<?> responseDTO = new ResponseDTO<>(1, "로그인에 성공했습니다.", dto);
-			String responseBody = objectMapper.writeValueAsString(responseDTO);
-
-			response.setContentType("application/json; charset=utf-8");
+			response.setContentType(CONTENT_TYPE);
 			response.setStatus(200);
-			response.getWriter().println(responseBody);
+			writer.writeValue(response.getOutputStream(), new ResponseDTO<>(1, "로그인에 성공했습니다.", dto));
 		}
 		// TODO: Logback.xml 파일 설정해서 에러 상황 파일로 남기기
 		catch (Exception e) {
@@ -34,19 +76,22 @@ public class CustomResponseUtil {
 
 	}
 
-	public static void authFailed(HttpServletResponse response, String message, HttpStatus statusCode) {
+	public void authFailed(HttpServletResponse response, String message, HttpStatus statusCode) {
 
 		/**
 		 * 파싱 관련 에러가 나면, 여기선 할 수 있는게 없다.
 		 * */
 		try {
-			ObjectMapper objectMapper = new ObjectMapper();
-			ResponseDTO<?> responseDTO = new ResponseDTO<>(-1, message, null);
-			String responseBody = objectMapper.writeValueAsString(responseDTO);
-
-			response.setContentType("application/json; charset=utf-8");
+			response.setContentType(CONTENT_TYPE);
 			response.setStatus(statusCode.value());
-			response.getWriter().println(responseBody);
+
+			byte[] body = fixedFailures.get(message);
+			if (body != null) {
+				response.setContentLength(body.length);
+				response.getOutputStream().write(body);
+				return;
+			}
+			writer.writeValue(response.getOutputStream(), new ResponseDTO<>(-1, message, null));
 		} catch (Exception e) {
 			log.error("[에러] -> {}", e.getMessage());
 		}
@@ -0,0 +1,41 @@
+package com.example.banksample.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 토큰 원문을 저장하거나 캐시 키로 쓰지 않도록 해시로 바꾼다.
+ */
+public class TokenHashUtil {
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	private TokenHashUtil() {
+
+	}
+
+	/**
+	 * SHA-256 해시를 base64url(43자) 로 반환한다.
+	 */
+	public static String sha256(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 추측할 수 없는 임의의 토큰 (256 bit, base64url)
+	 */
+	public static String randomToken() {
+		byte[] bytes = new byte[32];
+		RANDOM.nextBytes(bytes);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+
+}
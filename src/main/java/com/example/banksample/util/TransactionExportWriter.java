@@ -0,0 +1,101 @@
+package com.example.banksample.util;
+
+import com.example.banksample.dto.transaction.TransactionDTO;
+import com.example.banksample.dto.transaction.TransactionExportFormat;
+import com.example.banksample.repository.projection.TransactionProjection;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 거래내역을 한 건씩 출력 스트림에 쓴다.
+ * 목록을 만들지 않고 바로 쓰기 때문에 거래내역 건수와 관계없이 메모리 사용량이 일정하다.
+ * 필드 구성은 거래내역 목록 응답(TransactionDTO)과 같다.
+ */
+public class TransactionExportWriter implements Closeable {
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+	private static final String CSV_HEADER = "id,type,amount,sender,receiver,tel,balance";
+
+	private final TransactionExportFormat format;
+	private final Writer writer;
+	private final JsonGenerator jsonGenerator;
+
+	public TransactionExportWriter(TransactionExportFormat format, OutputStream outputStream) throws IOException {
+		this.format = format;
+		this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+		if (format == TransactionExportFormat.NDJSON) {
+			// 한 건마다 줄바꿈으로 구분하고, 스트림은 writer 가 닫는다.
+			// 최상위 값 사이에 기본으로 넣는 공백(" ")을 쓰지 않는다. (줄 앞에 공백이 붙지 않도록)
+			this.jsonGenerator = JSON_FACTORY.createGenerator(writer);
+			this.jsonGenerator.setRootValueSeparator(null);
+			this.jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		} else {
+			this.jsonGenerator = null;
+			writer.write(CSV_HEADER);
+			writer.write('\n');
+		}
+	}
+
+	public void write(TransactionProjection transaction) throws IOException {
+		String tel = TransactionDTO.telOf(transaction.getTel());
+
+		if (format == TransactionExportFormat.NDJSON) {
+			jsonGenerator.writeStartObject();
+			jsonGenerator.writeNumberField("id", transaction.getId());
+			jsonGenerator.writeStringField("type", String.valueOf(transaction.getType()));
+			jsonGenerator.writeNumberField("amount", transaction.getAmount());
+			jsonGenerator.writeStringField("sender", transaction.getSender());
+			jsonGenerator.writeStringField("receiver", transaction.getReceiver());
+			jsonGenerator.writeStringField("tel", tel);
+			jsonGenerator.writeNumberField("balance", transaction.getBalance());
+			jsonGenerator.writeEndObject();
+			jsonGenerator.writeRaw('\n');
+			return;
+		}
+
+		writer.write(String.valueOf(transaction.getId()));
+		writer.write(',');
+		writer.write(String.valueOf(transaction.getType()));
+		writer.write(',');
+		writer.write(String.valueOf(transaction.getAmount()));
+		writer.write(',');
+		writer.write(csv(transaction.getSender()));
+		writer.write(',');
+		writer.write(csv(transaction.getReceiver()));
+		writer.write(',');
+		writer.write(csv(tel));
+		writer.write(',');
+		writer.write(String.valueOf(transaction.getBalance()));
+		writer.write('\n');
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (jsonGenerator != null) {
+			jsonGenerator.close();
+		}
+		writer.close();
+	}
+
+	/**
+	 * 쉼표, 따옴표, 줄바꿈이 포함된 값은 따옴표로 감싼다. (RFC 4180)
+	 */
+	private static String csv(String value) {
+		if (value == null) {
+			return "";
+		}
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+			return value;
+		}
+		return '"' + value.replace("\"", "\"\"") + '"';
+	}
+
+}
@@ -108,6 +108,19 @@ public class AccountController {
         return new ResponseEntity<>(new ResponseDTO<>(1, "계좌 출금이 완료되었습니다.", transferAccountResponseDTO), HttpStatus.CREATED);
     }
 
+    /**
+     * 여러 건의 이체를 한 번에 처리한다. 건별 처리 결과를 요청 순서대로 반환한다.
+     */
+    @PostMapping("/test/account/transfer/batch")
+    public ResponseEntity<?> transferAccounts(@RequestBody @Valid BatchTransferAccountRequestDTO batchTransferAccountRequestDTO,
+                                              BindingResult bindingResult,
+                                              @AuthenticationPrincipal LoginUser loginUser) {
+        BatchTransferAccountResponseDTO batchTransferAccountResponseDTO = accountServiceV1.transferAccounts(batchTransferAccountRequestDTO,
+                loginUser.getUser().getId());
+
+        return new ResponseEntity<>(new ResponseDTO<>(1, "일괄 이체가 완료되었습니다.", batchTransferAccountResponseDTO), HttpStatus.CREATED);
+    }
+
     @GetMapping("/test/account/{number}")
     public ResponseEntity<?> getAccountDetails(
             @PathVariable Long number,
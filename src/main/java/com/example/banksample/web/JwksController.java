@@ -0,0 +1,33 @@
+package com.example.banksample.web;
+
+import com.example.banksample.jwt.JwtKeyRing;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 토큰 검증용 공개키를 JWKS 표준 형식 그대로 내보낸다. (ResponseDTO 로 감싸지 않는다.)
+ * 검증만 하는 노드나 외부 서비스는 이 목록을 받아서 kid 로 검증 키를 찾는다.
+ * HS512 모드에서는 빈 목록을 반환한다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+	private final JwtKeyRing jwtKeyRing;
+
+	@Operation(summary = "토큰 검증용 공개키 목록 (JWKS)")
+	@GetMapping("/.well-known/jwks.json")
+	public ResponseEntity<Map<String, Object>> jwks() {
+		return ResponseEntity.ok()
+				.cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+				.body(jwtKeyRing.toJwks());
+	}
+
+}
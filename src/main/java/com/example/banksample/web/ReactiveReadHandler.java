@@ -0,0 +1,120 @@
+package com.example.banksample.web;
+
+import com.example.banksample.config.TransactionProperties;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.dto.ResponseDTO;
+import com.example.banksample.dto.transaction.TransactionFilter;
+import com.example.banksample.handler.exception.CustomApiException;
+import com.example.banksample.jwt.JwtWebFilter;
+import com.example.banksample.repository.ReactiveReadRepository;
+import com.example.banksample.repository.projection.TransactionProjection;
+import com.example.banksample.service.AccountServiceV1;
+import com.example.banksample.util.CursorUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static com.example.banksample.dto.account.AccountResponseDTO.AccountDetailsResponseDTO;
+import static com.example.banksample.dto.account.AccountResponseDTO.AccountListResponseDTO;
+import static com.example.banksample.dto.transaction.TransactionResponseDTO.TransactionListResponseDTO;
+
+/**
+ * 논블로킹 조회 API 핸들러
+ * AccountController, TransactionController 의 조회 API 와 경로, 파라미터, 응답 형식이 같다.
+ * 서비스 계층의 검증(존재 여부, 소유자 확인)도 같은 순서, 같은 메시지로 처리한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveReadHandler {
+
+	private final ReactiveReadRepository reactiveReadRepository;
+	private final TransactionProperties transactionProperties;
+
+	/**
+	 * GET /api/test/account/login-user
+	 */
+	public Mono<ServerResponse> findUserAccount(ServerRequest request) {
+		Long userId = JwtWebFilter.loginUser(request.exchange()).getUser().getId();
+		return reactiveReadRepository.findFullnameByUserId(userId)
+				.switchIfEmpty(Mono.error(() -> new CustomApiException("해당 유저를 찾을 수 없습니다.")))
+				.zipWith(reactiveReadRepository.findAccountsByUserId(userId).collectList())
+				.map(result -> new AccountListResponseDTO(User.builder().id(userId).fullname(result.getT1()).build(), result.getT2()))
+				.flatMap(dto -> ok("계좌 조회에 성공했습니다.", dto))
+				.onErrorResume(CustomApiException.class, ReactiveReadHandler::badRequest);
+	}
+
+	/**
+	 * GET /api/test/account/{number}?page=
+	 */
+	public Mono<ServerResponse> getAccountDetails(ServerRequest request) {
+		Long userId = JwtWebFilter.loginUser(request.exchange()).getUser().getId();
+		return Mono.defer(() -> {
+					Long number = Long.valueOf(request.pathVariable("number"));
+					int page = request.queryParam("page").map(Integer::valueOf).orElse(0);
+					return reactiveReadRepository.findProjectionByNumber(number)
+							.switchIfEmpty(Mono.error(() -> new CustomApiException("해당 계좌를 찾을 수 없습니다.")))
+							.doOnNext(accountPS -> accountPS.checkOwner(userId))
+							.flatMap(accountPS -> reactiveReadRepository
+									.findTransactionProjectionList(accountPS.getId(), TransactionFilter.ALL, page, AccountServiceV1.DETAILS_PAGE_SIZE)
+									.map(transactionList -> new AccountDetailsResponseDTO(accountPS, transactionList)));
+				})
+				.flatMap(dto -> ok("계좌 상세보기에 성공했습니다.", dto))
+				.onErrorResume(CustomApiException.class, ReactiveReadHandler::badRequest)
+				.onErrorResume(IllegalArgumentException.class, e -> badRequest(new CustomApiException("잘못된 요청입니다.")));
+	}
+
+	/**
+	 * GET /api/test/account/{number}/transaction?type=&page=&cursor=&size=
+	 */
+	public Mono<ServerResponse> findTransactions(ServerRequest request) {
+		Long userId = JwtWebFilter.loginUser(request.exchange()).getUser().getId();
+		return Mono.defer(() -> {
+					Long number = Long.valueOf(request.pathVariable("number"));
+					TransactionFilter type = request.queryParam("type").map(TransactionFilter::valueOf).orElse(TransactionFilter.ALL);
+					int page = request.queryParam("page").map(Integer::parseInt).orElse(0);
+					String cursor = request.queryParam("cursor").orElse(null);
+					int pageSize = transactionProperties.resolvePageSize(request.queryParam("size").map(Integer::valueOf).orElse(null));
+					return reactiveReadRepository.findProjectionByNumber(number)
+							.switchIfEmpty(Mono.error(() -> new CustomApiException("해당 계좌를 찾을 수 없습니다.")))
+							.doOnNext(accountPS -> accountPS.checkOwner(userId))
+							.flatMap(accountPS -> cursor == null
+									? reactiveReadRepository.findTransactionProjectionList(accountPS.getId(), type, page, pageSize)
+									: reactiveReadRepository.findTransactionProjectionListAfter(accountPS.getId(), type, CursorUtil.decode(cursor), pageSize))
+							.map(transactionList -> new TransactionListResponseDTO(transactionList, nextCursor(transactionList, pageSize)));
+				})
+				.flatMap(dto -> ok("거래내역을 조회했습니다.", dto))
+				.onErrorResume(CustomApiException.class, ReactiveReadHandler::badRequest)
+				.onErrorResume(IllegalArgumentException.class, e -> badRequest(new CustomApiException("잘못된 요청입니다.")));
+	}
+
+	/**
+	 * TransactionServiceV1 과 동일, 페이지가 가득 찼으면 다음 페이지가 있을 수 있다.
+	 */
+	private static String nextCursor(List<TransactionProjection> transactionList, int pageSize) {
+		return transactionList.size() < pageSize
+				? null
+				: CursorUtil.encode(transactionList.get(transactionList.size() - 1).getId());
+	}
+
+	private static Mono<ServerResponse> ok(String message, Object dto) {
+		return ServerResponse.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(new ResponseDTO<>(1, message, dto));
+	}
+
+	/**
+	 * CustomExceptionHandler 와 같은 형식
+	 */
+	private static Mono<ServerResponse> badRequest(CustomApiException e) {
+		log.error("error -> {}", e.getMessage());
+		return ServerResponse.badRequest()
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(new ResponseDTO<>(-1, e.getMessage(), null));
+	}
+
+}
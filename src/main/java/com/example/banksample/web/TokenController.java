@@ -0,0 +1,50 @@
+package com.example.banksample.web;
+
+import com.example.banksample.dto.ResponseDTO;
+import com.example.banksample.jwt.JwtTokenVO;
+import com.example.banksample.service.RefreshTokenServiceV1;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.example.banksample.dto.token.TokenRequestDTO.RefreshTokenRequestDTO;
+import static com.example.banksample.dto.token.TokenResponseDTO.RefreshTokenResponseDTO;
+
+@RequestMapping("/api/token")
+@RestController
+@RequiredArgsConstructor
+public class TokenController {
+
+	private final RefreshTokenServiceV1 refreshTokenServiceV1;
+
+	/**
+	 * 리프레시 토큰으로 액세스 토큰을 재발급한다. (로그인 없이, 비밀번호 비교 없이)
+	 * 요청에 사용한 리프레시 토큰은 폐기되고, 응답의 새 리프레시 토큰을 다음 재발급에 사용한다.
+	 */
+	@Operation(summary = "액세스 토큰 재발급")
+	@PostMapping("/refresh")
+	public ResponseEntity<?> refresh(@RequestBody @Valid RefreshTokenRequestDTO refreshTokenRequestDTO, BindingResult bindingResult) {
+		RefreshTokenResponseDTO refreshTokenResponseDTO = refreshTokenServiceV1.refresh(refreshTokenRequestDTO.getRefreshToken());
+		return ResponseEntity.ok()
+				.header(JwtTokenVO.TOKEN_HEADER, refreshTokenResponseDTO.getAccessToken())
+				.body(new ResponseDTO<>(1, "토큰 재발급에 성공했습니다.", refreshTokenResponseDTO));
+	}
+
+	/**
+	 * 로그아웃, 리프레시 토큰을 폐기한다.
+	 */
+	@Operation(summary = "리프레시 토큰 폐기")
+	@PostMapping("/revoke")
+	public ResponseEntity<?> revoke(@RequestBody @Valid RefreshTokenRequestDTO refreshTokenRequestDTO, BindingResult bindingResult) {
+		refreshTokenServiceV1.revoke(refreshTokenRequestDTO.getRefreshToken());
+		return new ResponseEntity<>(new ResponseDTO<>(1, "리프레시 토큰을 폐기했습니다.", null), HttpStatus.OK);
+	}
+
+}
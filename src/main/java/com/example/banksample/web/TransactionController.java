@@ -2,14 +2,27 @@ package com.example.banksample.web;
 
 import com.example.banksample.auth.LoginUser;
 import com.example.banksample.dto.ResponseDTO;
+import com.example.banksample.dto.transaction.TransactionExportFormat;
+import com.example.banksample.dto.transaction.TransactionFilter;
+import com.example.banksample.service.DailyBalanceService;
 import com.example.banksample.service.TransactionServiceV1;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static com.example.banksample.dto.transaction.TransactionResponseDTO.BalanceAtResponseDTO;
+import static com.example.banksample.dto.transaction.TransactionResponseDTO.DailyBalanceListResponseDTO;
 import static com.example.banksample.dto.transaction.TransactionResponseDTO.TransactionListResponseDTO;
 
 @RestController
@@ -19,18 +32,76 @@ import static com.example.banksample.dto.transaction.TransactionResponseDTO.Tran
 public class TransactionController {
 
 	private final TransactionServiceV1 transactionServiceV1;
+	private final DailyBalanceService dailyBalanceService;
 
+	/**
+	 * 거래내역을 Id 역순으로 조회한다. cursor 가 있으면 키셋 방식으로, 없으면 page 로 조회한다.
+	 * Id 는 노드마다 묶음으로 채번하므로 Id 역순은 대략적인 최신순이며, 거래 시각 순서와 다를 수 있다.
+	 */
+	@Operation(summary = "거래내역 조회", description = "Id 역순(대략적인 최신순)으로 조회합니다. 여러 서버가 Id 를 묶음으로 채번하므로 거래 시각 순서와 다를 수 있습니다. "
+			+ "다음 페이지는 응답의 next_cursor 를 cursor 로 전달합니다.")
 	@GetMapping("/test/account/{number}/transaction")
 	public ResponseEntity<?> findTransactions(
 			@PathVariable("number") Long accountNumber,
-			@RequestParam(value = "type", defaultValue = "ALL") String type,
+			@RequestParam(value = "type", defaultValue = "ALL") TransactionFilter type,
 			@RequestParam(value = "page", defaultValue = "0") int page,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", required = false) Integer size,
 			@AuthenticationPrincipal LoginUser loginUser
 	) {
-		TransactionListResponseDTO transactions = transactionServiceV1.findTransactions(loginUser.getUser().getId(), accountNumber, type, page);
+		TransactionListResponseDTO transactions = transactionServiceV1.findTransactions(loginUser.getUser().getId(), accountNumber, type, page, cursor, size);
 
 		return new ResponseEntity<>(new ResponseDTO<>(1, "거래내역을 조회했습니다.", transactions), HttpStatus.OK);
 	}
 
+	/**
+	 * 계좌의 전체 거래내역을 NDJSON 또는 CSV 로 내려받는다.
+	 * 응답 본문을 만들지 않고 조회 결과를 바로 출력 스트림에 쓴다.
+	 */
+	@GetMapping("/test/account/{number}/transaction/export")
+	public void exportTransactions(
+			@PathVariable("number") Long accountNumber,
+			@RequestParam(value = "format", defaultValue = "NDJSON") TransactionExportFormat format,
+			@AuthenticationPrincipal LoginUser loginUser,
+			HttpServletResponse response
+	) throws IOException {
+		transactionServiceV1.exportTransactions(loginUser.getUser().getId(), accountNumber, format, () -> {
+			response.setContentType(format.getContentType());
+			response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+					"attachment; filename=\"transactions-" + accountNumber + "." + format.getExtension() + "\"");
+			return response.getOutputStream();
+		});
+	}
+
+	/**
+	 * 특정 시각의 잔액을 일별 잔액 스냅샷으로 조회한다.
+	 * 예) ?at=2023-11-01T09:30:00
+	 */
+	@GetMapping("/test/account/{number}/balance")
+	public ResponseEntity<?> findBalanceAt(
+			@PathVariable("number") Long accountNumber,
+			@RequestParam("at") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,
+			@AuthenticationPrincipal LoginUser loginUser
+	) {
+		BalanceAtResponseDTO balance = dailyBalanceService.getBalanceAt(loginUser.getUser().getId(), accountNumber, at);
+
+		return new ResponseEntity<>(new ResponseDTO<>(1, "잔액을 조회했습니다.", balance), HttpStatus.OK);
+	}
+
+	/**
+	 * 기간별 일별 잔액 (거래가 있었던 날만)
+	 * 예) ?from=2023-11-01&to=2023-11-30
+	 */
+	@GetMapping("/test/account/{number}/daily-balance")
+	public ResponseEntity<?> findDailyBalances(
+			@PathVariable("number") Long accountNumber,
+			@RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+			@AuthenticationPrincipal LoginUser loginUser
+	) {
+		DailyBalanceListResponseDTO dailyBalances = dailyBalanceService.getDailyBalances(loginUser.getUser().getId(), accountNumber, from, to);
+
+		return new ResponseEntity<>(new ResponseDTO<>(1, "일별 잔액을 조회했습니다.", dailyBalances), HttpStatus.OK);
+	}
 
 }
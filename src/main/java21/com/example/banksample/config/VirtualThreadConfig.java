@@ -0,0 +1,54 @@
+package com.example.banksample.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+
+import java.util.concurrent.Executors;
+
+/**
+ * virtual 프로필에서 요청, 비동기 작업(@Async, MVC 비동기), 스케줄 작업을 가상 스레드에서 실행한다.
+ * Java 21 이 필요하므로 -PvirtualThreads 로 빌드할 때만 컴파일된다.
+ * <p>
+ * 요청 수만큼 스레드가 생기므로 동시 DB 작업 수는 커넥션 풀 크기(spring.datasource.hikari.maximum-pool-size)로 제한된다.
+ * BCrypt 처럼 CPU 만 쓰는 작업은 가상 스레드로 빨라지지 않으므로 bank.password.offload 를 함께 켜는 것이 좋다.
+ */
+@Slf4j
+@Profile("virtual")
+@Configuration
+public class VirtualThreadConfig {
+
+	/**
+	 * Tomcat 요청 처리 스레드 풀을 요청마다 가상 스레드를 만드는 executor 로 교체한다.
+	 */
+	@Bean
+	public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+		log.info("[*] Tomcat 요청을 가상 스레드에서 처리합니다.");
+		return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+	}
+
+	@Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+	public AsyncTaskExecutor applicationTaskExecutor() {
+		return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+	}
+
+	/**
+	 * 스케줄 작업은 poolSize 개의 가상 스레드가 나눠서 실행한다. (기본값 4 는 @Scheduled 작업 수)
+	 * 스레드가 1개이면 잔액 반영, outbox relay 같은 작업이 서로를 기다리므로 작업 수만큼 둔다.
+	 * 실행할 때마다 새 가상 스레드에 넘기지 않는 이유는 fixedDelay 가 이전 실행이 끝난 시점부터 재야 하기 때문이다.
+	 * (넘기는 시점부터 재면 같은 작업이 겹쳐서 실행된다.)
+	 */
+	@Bean
+	public TaskScheduler taskScheduler(@Value("${spring.task.scheduling.pool.size:4}") int poolSize) {
+		return new ConcurrentTaskScheduler(Executors.newScheduledThreadPool(poolSize, Thread.ofVirtual().name("scheduling-", 0).factory()));
+	}
+
+}
@@ -0,0 +1,37 @@
+-- 운영(MariaDB 10.3+) 배포 전에 한 번 실행한다. (prod 는 ddl-auto: none)
+-- Id 채번을 IDENTITY 에서 SEQUENCE(allocationSize 50, pooled) 로 바꾸면서 필요한 시퀀스를 만든다.
+--
+-- pooled 방식은 nextval 값 v 를 받으면 (v - 49) ~ v 를 사용한다.
+-- 따라서 START WITH 를 MAX(id) + 50 으로 두어야 처음 채번하는 Id 가 MAX(id) + 1 이상이 된다.
+-- 이미 시퀀스가 있으면 건너뛴다. (다시 실행해도 된다.)
+
+SET @ddl = CONCAT('CREATE SEQUENCE IF NOT EXISTS tbl_user_seq START WITH ',
+                  (SELECT COALESCE(MAX(id), 0) + 50 FROM tbl_user), ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = CONCAT('CREATE SEQUENCE IF NOT EXISTS tbl_account_seq START WITH ',
+                  (SELECT COALESCE(MAX(id), 0) + 50 FROM tbl_account), ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = CONCAT('CREATE SEQUENCE IF NOT EXISTS tbl_transaction_seq START WITH ',
+                  (SELECT COALESCE(MAX(id), 0) + 50 FROM tbl_transaction), ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 아래 두 테이블은 처음부터 SEQUENCE 로 채번하므로, 테이블을 만든 직후라면 50 부터 시작한다.
+SET @ddl = CONCAT('CREATE SEQUENCE IF NOT EXISTS tbl_refresh_token_seq START WITH ',
+                  (SELECT COALESCE(MAX(id), 0) + 50 FROM tbl_refresh_token), ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = CONCAT('CREATE SEQUENCE IF NOT EXISTS tbl_ledger_outbox_seq START WITH ',
+                  (SELECT COALESCE(MAX(id), 0) + 50 FROM tbl_ledger_outbox), ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
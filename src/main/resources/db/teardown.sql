@@ -2,4 +2,7 @@ SET REFERENTIAL_INTEGRITY FALSE;
 TRUNCATE TABLE tbl_transaction;
 TRUNCATE TABLE tbl_account;
 TRUNCATE TABLE tbl_user;
+TRUNCATE TABLE tbl_refresh_token;
+TRUNCATE TABLE tbl_ledger_outbox;
+TRUNCATE TABLE tbl_daily_balance;
 SET REFERENTIAL_INTEGRITY TRUE;
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.example.banksample.auth;
+
+import com.example.banksample.config.LoginUserCacheProperties;
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Mockito 환경에서 실제 LoginUserCache 를 사용해서 조회 횟수를 확인한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class LoginServiceTest extends DummyObject {
+
+	@Mock
+	private UserRepository userRepository;
+
+	private SimpleMeterRegistry meterRegistry;
+	private LoginUserCache loginUserCache;
+	private LoginService loginService;
+
+	@BeforeEach
+	void init() {
+		meterRegistry = new SimpleMeterRegistry();
+		loginUserCache = new LoginUserCache(new LoginUserCacheProperties(), meterRegistry);
+		loginService = new LoginService(userRepository, loginUserCache);
+	}
+
+	@Test
+	@DisplayName("존재하는 사용자 캐시")
+	void load_user_cache_hit_test() {
+		// given
+		when(userRepository.findByUsername("jeongjin")).thenReturn(Optional.of(newMockUser(1L, "jeongjin", "kim jeongjin")));
+
+		// when
+		UserDetails first = loginService.loadUserByUsername("jeongjin");
+		UserDetails second = loginService.loadUserByUsername("jeongjin");
+
+		// then
+		Assertions.assertThat(second).isSameAs(first);
+		verify(userRepository, times(1)).findByUsername("jeongjin");
+		Assertions.assertThat(meterRegistry.get("cache.gets").tag("cache", "login.user").tag("result", "hit").functionCounter().count())
+			.isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 사용자 캐시")
+	void load_missing_user_cache_test() {
+		// given
+		when(userRepository.findByUsername("nobody")).thenReturn(Optional.empty());
+
+		// when
+		for (int i = 0; i < 3; i++) {
+			Assertions.assertThatThrownBy(() -> loginService.loadUserByUsername("nobody"))
+				.isInstanceOf(InternalAuthenticationServiceException.class);
+		}
+
+		// then
+		verify(userRepository, times(1)).findByUsername("nobody");
+	}
+
+	/**
+	 * 존재하지 않는 사용자로 캐시된 뒤 회원가입하면, 제거된 후 다시 조회한다.
+	 */
+	@Test
+	@DisplayName("회원가입 후 캐시 제거")
+	void invalidate_after_sign_up_test() {
+		// given
+		when(userRepository.findByUsername("jeongjin"))
+			.thenReturn(Optional.empty())
+			.thenReturn(Optional.of(newMockUser(1L, "jeongjin", "kim jeongjin")));
+		Assertions.assertThatThrownBy(() -> loginService.loadUserByUsername("jeongjin"))
+			.isInstanceOf(InternalAuthenticationServiceException.class);
+
+		// when
+		loginUserCache.invalidate("jeongjin");
+
+		// then
+		Assertions.assertThat(loginService.loadUserByUsername("jeongjin").getUsername()).isEqualTo("jeongjin");
+		verify(userRepository, times(2)).findByUsername("jeongjin");
+	}
+
+}
@@ -0,0 +1,114 @@
+package com.example.banksample.benchmark;
+
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.repository.AccountRepository;
+import com.example.banksample.repository.UserRepository;
+import com.example.banksample.service.AccountServiceV1;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 소유자 확인이 필요한 조회, 삭제의 요청 1회당 쿼리 수, 엔티티 로딩 수, 지연 시간을 비교한다.
+ * read-entity: findByNumber (User JOIN FETCH) + Account.checkOwner (변경 전)
+ * read-projection: findProjectionByNumber + AccountProjection.checkOwner
+ * delete-entity: findByNumber + checkOwner + deleteById (변경 전)
+ * delete-statement: deleteByNumberAndUserId 한 문장 (AccountServiceV1.deleteAccount)
+ * <p>
+ * 실행: ./gradlew benchmark --tests '*AccountOwnershipBenchmark' -Dbench.iterations=2000
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+		"logging.level.com.example.banksample=warn",
+		"logging.level.org.hibernate=warn",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Sql("classpath:db/teardown.sql")
+class AccountOwnershipBenchmark extends DummyObject {
+
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private AccountServiceV1 accountServiceV1;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void ownership_check_benchmark() throws Exception {
+		int iterations = BenchmarkSupport.intProperty("iterations", 2_000);
+		int warmup = Math.max(1, iterations / 10);
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		User user = userRepository.save(newUser("bench", "bench user"));
+		Long userId = user.getId();
+		// 조회용 1개 + 삭제 방식별 (warmup + iterations) 개
+		long readNumber = 100_000L;
+		long entityBase = 200_000L;
+		long statementBase = 300_000L;
+		List<Account> accounts = new ArrayList<>();
+		accounts.add(newAccount(readNumber, user));
+		for (int i = 0; i < warmup + iterations; i++) {
+			accounts.add(newAccount(entityBase + i, user));
+			accounts.add(newAccount(statementBase + i, user));
+		}
+		accountRepository.saveAll(accounts);
+
+		run("read-entity", warmup, iterations, statistics, (t, i) ->
+				transactionTemplate.executeWithoutResult(status ->
+						accountRepository.findByNumber(readNumber).orElseThrow().checkOwner(userId)));
+		run("read-projection", warmup, iterations, statistics, (t, i) ->
+				transactionTemplate.executeWithoutResult(status ->
+						accountRepository.findProjectionByNumber(readNumber).orElseThrow().checkOwner(userId)));
+
+		// measure 는 워밍업부터 iteration 을 0 으로 다시 세므로, 워밍업과 측정이 다른 계좌를 쓰도록 호출 순서로 번호를 매긴다.
+		long[] entitySequence = {entityBase};
+		run("delete-entity", warmup, iterations, statistics, (t, i) ->
+				transactionTemplate.executeWithoutResult(status -> {
+					Account accountPS = accountRepository.findByNumber(entitySequence[0]++).orElseThrow();
+					accountPS.checkOwner(userId);
+					accountRepository.deleteById(accountPS.getId());
+				}));
+		long[] statementSequence = {statementBase};
+		run("delete-statement", warmup, iterations, statistics, (t, i) ->
+				accountServiceV1.deleteAccount(statementSequence[0]++, userId));
+	}
+
+	private void run(String name, int warmup, int iterations, Statistics statistics, BenchmarkSupport.Task task) throws Exception {
+		statistics.clear();
+		BenchmarkSupport.Result result = BenchmarkSupport.measure(name, warmup, iterations, task);
+		int calls = warmup + iterations;
+		log.warn("[벤치마크] {}: statements/op={}, entityLoads/op={}, p50={}us, p99={}us", name,
+				String.format("%.2f", (double) statistics.getPrepareStatementCount() / calls),
+				String.format("%.2f", (double) statistics.getEntityLoadCount() / calls),
+				result.percentileMicros(50), result.percentileMicros(99));
+	}
+
+	private static Account newAccount(long number, User user) {
+		return Account.builder()
+				.number(number)
+				.password(1234L)
+				.balance(1000L)
+				.user(user)
+				.build();
+	}
+
+}
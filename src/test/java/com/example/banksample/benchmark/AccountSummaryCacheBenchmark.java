@@ -0,0 +1,122 @@
+package com.example.banksample.benchmark;
+
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.domain.user.UserEnum;
+import com.example.banksample.handler.exception.CustomApiException;
+import com.example.banksample.repository.AccountRepository;
+import com.example.banksample.repository.UserRepository;
+import com.example.banksample.service.AccountServiceV1;
+import com.example.banksample.service.AccountSummaryCache;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.example.banksample.dto.account.AccountResponseDTO.AccountListResponseDTO;
+
+/**
+ * 대시보드의 계좌 목록 조회(getAccountsByUser) 지연시간(p50, p99)을 비교한다.
+ * read-write: 변경 전처럼 읽기 쓰기 트랜잭션에서 사용자, 계좌 목록을 조회한다. (flush, 스냅샷 비교 발생)
+ * read-only: 매번 캐시에서 제거한 뒤 조회한다. (readOnly 트랜잭션, 캐시 미적중)
+ * cached: 캐시에 적재된 뒤 조회한다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests '*AccountSummaryCacheBenchmark' -Dbench.users=200 -Dbench.accounts=5 -Dbench.threads=8
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+		"logging.level.com.example.banksample=warn",
+		"logging.level.org.hibernate=warn",
+		"bank.account.summary-cache.enabled=true"
+})
+@Sql("classpath:db/teardown.sql")
+class AccountSummaryCacheBenchmark extends DummyObject {
+
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private AccountServiceV1 accountServiceV1;
+	@Autowired
+	private AccountSummaryCache accountSummaryCache;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void dashboard_benchmark() throws Exception {
+		int users = BenchmarkSupport.intProperty("users", 200);
+		int accounts = BenchmarkSupport.intProperty("accounts", 5);
+		int threads = BenchmarkSupport.intProperty("threads", 8);
+		int opsPerThread = BenchmarkSupport.intProperty("iterations", 2_000);
+		List<Long> userIds = insertUsers(users, accounts);
+		accountSummaryCache.invalidateAll();
+
+		BenchmarkSupport.Result readWrite = BenchmarkSupport.runConcurrently("dashboard-read-write", threads, opsPerThread,
+				(t, i) -> transactionTemplate.execute(status -> load(randomUser(userIds))));
+		BenchmarkSupport.Result readOnly = BenchmarkSupport.runConcurrently("dashboard-read-only", threads, opsPerThread, (t, i) -> {
+			Long userId = randomUser(userIds);
+			accountSummaryCache.invalidate(userId);
+			accountServiceV1.getAccountsByUser(userId);
+		});
+		for (Long userId : userIds) {
+			accountServiceV1.getAccountsByUser(userId);
+		}
+		BenchmarkSupport.Result cached = BenchmarkSupport.runConcurrently("dashboard-cached", threads, opsPerThread,
+				(t, i) -> accountServiceV1.getAccountsByUser(randomUser(userIds)));
+
+		Assertions.assertThat(readWrite.getErrors() + readOnly.getErrors() + cached.getErrors()).isZero();
+		Assertions.assertThat(accountServiceV1.getAccountsByUser(userIds.get(0)).getAccounts()).hasSize(accounts);
+	}
+
+	/**
+	 * 변경 전 getAccountsByUser 의 본문
+	 */
+	private AccountListResponseDTO load(Long userId) {
+		User userPS = userRepository.findById(userId).orElseThrow(() -> new CustomApiException("해당 유저를 찾을 수 없습니다."));
+		return new AccountListResponseDTO(userPS, accountRepository.findByUser_id(userId));
+	}
+
+	private static Long randomUser(List<Long> userIds) {
+		return userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+	}
+
+	/**
+	 * BCrypt 비용을 줄이기 위해 암호화된 비밀번호 하나를 모든 사용자가 같이 쓴다.
+	 */
+	private List<Long> insertUsers(int users, int accounts) {
+		String password = newUser("bench", "bench user").getPassword();
+		List<Long> userIds = new ArrayList<>(users);
+		long number = 1_000L;
+		for (int u = 0; u < users; u++) {
+			User user = userRepository.save(User.builder()
+					.username("bench" + u)
+					.email("bench@nate.com")
+					.password(password)
+					.fullname("bench user " + u)
+					.role(UserEnum.CUSTOMER)
+					.build());
+			List<Account> accountList = new ArrayList<>(accounts);
+			for (int a = 0; a < accounts; a++) {
+				accountList.add(newAccount(number++, user));
+			}
+			accountRepository.saveAll(accountList);
+			userIds.add(user.getId());
+		}
+		log.info("[벤치마크] 사용자 {} 명, 계좌 {} 개 생성", users, users * accounts);
+		return userIds;
+	}
+
+}
@@ -0,0 +1,135 @@
+package com.example.banksample.benchmark;
+
+import com.example.banksample.config.AccountProperties;
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.repository.AccountRepository;
+import com.example.banksample.repository.UserRepository;
+import com.example.banksample.service.AccountServiceV1;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import static com.example.banksample.dto.account.AccountRequestDTO.AccountDepositRequestDTO;
+import static com.example.banksample.dto.account.AccountRequestDTO.WithdrawAccountRequestDTO;
+
+/**
+ * 입금, 출금 시 엔티티 조회 + 더티 체킹 방식과 단일 UPDATE 방식의 처리량을 비교한다.
+ * single: 단일 스레드 지연시간
+ * hot: 여러 스레드가 같은 계좌 1개에 동시에 입금
+ * <p>
+ * 실행: ./gradlew benchmark --tests '*AtomicBalanceUpdateBenchmark' -Dbench.threads=16 -Dbench.ops=200
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(properties = "bank.account.transfer-mode=jpa")
+@Sql("classpath:db/teardown.sql")
+class AtomicBalanceUpdateBenchmark extends DummyObject {
+
+	private static final long INITIAL_BALANCE = 1_000_000_000L;
+
+	@Autowired
+	private AccountServiceV1 accountServiceV1;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private AccountProperties accountProperties;
+
+	@AfterEach
+	void reset() {
+		accountProperties.setAtomicUpdate(false);
+	}
+
+	@Test
+	void single_thread_deposit_benchmark() throws Exception {
+		int iterations = BenchmarkSupport.intProperty("iterations", 2000);
+		prepare(2);
+
+		accountProperties.setAtomicUpdate(false);
+		BenchmarkSupport.measure("deposit-entity", 200, iterations, (t, i) -> accountServiceV1.depositAccount(depositDTO(5000L)));
+
+		accountProperties.setAtomicUpdate(true);
+		BenchmarkSupport.measure("deposit-atomic", 200, iterations, (t, i) -> accountServiceV1.depositAccount(depositDTO(5001L)));
+
+		// 워밍업 포함 입금 횟수만큼 잔액이 늘어나야 한다.
+		long expected = INITIAL_BALANCE + 200L + iterations;
+		log.info("[벤치마크] 잔액 확인 entity -> {}, atomic -> {}, 기대값 -> {}",
+				balance(5000L), balance(5001L), expected);
+	}
+
+	@Test
+	void single_thread_withdraw_benchmark() throws Exception {
+		int iterations = BenchmarkSupport.intProperty("iterations", 2000);
+		User user = prepare(2);
+
+		accountProperties.setAtomicUpdate(false);
+		BenchmarkSupport.measure("withdraw-entity", 200, iterations, (t, i) -> accountServiceV1.withdrawAccount(withdrawDTO(5000L), user.getId()));
+
+		accountProperties.setAtomicUpdate(true);
+		BenchmarkSupport.measure("withdraw-atomic", 200, iterations, (t, i) -> accountServiceV1.withdrawAccount(withdrawDTO(5001L), user.getId()));
+	}
+
+	@Test
+	void hot_account_deposit_benchmark() throws Exception {
+		int threads = BenchmarkSupport.intProperty("threads", 16);
+		int ops = BenchmarkSupport.intProperty("ops", 200);
+		prepare(2);
+
+		accountProperties.setAtomicUpdate(false);
+		BenchmarkSupport.Result entity = BenchmarkSupport.runConcurrently("hot-deposit-entity", threads, ops,
+				(t, i) -> accountServiceV1.depositAccount(depositDTO(5000L)));
+
+		accountProperties.setAtomicUpdate(true);
+		BenchmarkSupport.Result atomic = BenchmarkSupport.runConcurrently("hot-deposit-atomic", threads, ops,
+				(t, i) -> accountServiceV1.depositAccount(depositDTO(5001L)));
+
+		// 성공한 입금 수만큼 잔액이 늘어나야 한다. (갱신 유실이 없어야 한다.)
+		log.info("[벤치마크] entity 갱신 유실 -> {}", INITIAL_BALANCE + entity.getOperations() - entity.getErrors() - balance(5000L));
+		log.info("[벤치마크] atomic 갱신 유실 -> {}", INITIAL_BALANCE + atomic.getOperations() - atomic.getErrors() - balance(5001L));
+	}
+
+	private User prepare(int accountCount) {
+		User user = userRepository.save(newUser("bench", "bench user"));
+		for (int i = 0; i < accountCount; i++) {
+			accountRepository.save(Account.builder()
+					.number(5000L + i)
+					.password(1234L)
+					.balance(INITIAL_BALANCE)
+					.user(user)
+					.build());
+		}
+		return user;
+	}
+
+	private long balance(Long number) {
+		return accountRepository.findByNumber(number).orElseThrow().getBalance();
+	}
+
+	private static AccountDepositRequestDTO depositDTO(Long number) {
+		AccountDepositRequestDTO dto = new AccountDepositRequestDTO();
+		dto.setNumber(number);
+		dto.setAmount(1L);
+		dto.setType("DEPOSIT");
+		dto.setTel("010-0000-0000");
+		return dto;
+	}
+
+	private static WithdrawAccountRequestDTO withdrawDTO(Long number) {
+		WithdrawAccountRequestDTO dto = new WithdrawAccountRequestDTO();
+		dto.setNumber(number);
+		dto.setPassword(1234L);
+		dto.setAmount(1L);
+		dto.setType("WITHDRAW");
+		return dto;
+	}
+
+}
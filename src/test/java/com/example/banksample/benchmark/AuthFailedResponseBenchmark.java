@@ -0,0 +1,44 @@
+package com.example.banksample.benchmark;
+
+import com.example.banksample.dto.ResponseDTO;
+import com.example.banksample.util.CustomResponseUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * 인증 실패(401) 응답 1건을 작성하는 비용을 비교한다.
+ * per-call: 변경 전처럼 호출마다 ObjectMapper 를 만들고 String 으로 직렬화한 뒤 Writer 로 쓴다.
+ * fixed: 미리 직렬화한 바이트를 응답 스트림에 바로 쓴다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests '*AuthFailedResponseBenchmark' -Dbench.iterations=200000
+ */
+@Tag("benchmark")
+class AuthFailedResponseBenchmark {
+
+	@Test
+	void auth_failed_benchmark() throws Exception {
+		int iterations = BenchmarkSupport.intProperty("iterations", 100_000);
+		CustomResponseUtil customResponseUtil = new CustomResponseUtil(new ObjectMapper());
+
+		BenchmarkSupport.measure("auth-failed-per-call", 10_000, iterations, (t, i) -> {
+			MockHttpServletResponse response = new MockHttpServletResponse();
+			String responseBody = new ObjectMapper().writeValueAsString(new ResponseDTO<>(-1, CustomResponseUtil.LOGIN_REQUIRED, null));
+			response.setContentType("application/json; charset=utf-8");
+			response.setStatus(HttpStatus.UNAUTHORIZED.value());
+			response.getWriter().println(responseBody);
+		});
+		BenchmarkSupport.measure("auth-failed-fixed", 10_000, iterations, (t, i) ->
+				customResponseUtil.authFailed(new MockHttpServletResponse(), CustomResponseUtil.LOGIN_REQUIRED, HttpStatus.UNAUTHORIZED));
+
+		// 미리 직렬화한 응답도 같은 JSON 이어야 한다.
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		customResponseUtil.authFailed(response, CustomResponseUtil.LOGIN_REQUIRED, HttpStatus.UNAUTHORIZED);
+		Assertions.assertThat(response.getContentAsString())
+				.isEqualTo(new ObjectMapper().writeValueAsString(new ResponseDTO<>(-1, CustomResponseUtil.LOGIN_REQUIRED, null)));
+	}
+
+}
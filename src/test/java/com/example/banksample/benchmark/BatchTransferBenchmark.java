@@ -0,0 +1,91 @@
+package com.example.banksample.benchmark;
+
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.repository.AccountRepository;
+import com.example.banksample.repository.UserRepository;
+import com.example.banksample.service.AccountServiceV1;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.banksample.dto.account.AccountRequestDTO.BatchTransferAccountRequestDTO;
+import static com.example.banksample.dto.account.AccountRequestDTO.TransferAccountRequestDTO;
+
+/**
+ * 급여 지급처럼 한 계좌에서 N 개 계좌로 이체할 때, 단건 이체 N 번과 일괄 이체 1 번의 처리량을 비교한다.
+ * 서비스 계층을 직접 호출하므로 JWT 검증, 유효성 검사 AOP 비용은 포함되지 않는다. (일괄 이체에서는 N 번이 1 번으로 줄어든다.)
+ * <p>
+ * 실행: ./gradlew benchmark --tests '*BatchTransferBenchmark' -Dbench.payees=200 -Dbench.iterations=20
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+		"bank.account.transfer-mode=jpa",
+		"logging.level.org.hibernate=warn"
+})
+@Sql("classpath:db/teardown.sql")
+class BatchTransferBenchmark extends DummyObject {
+
+	private static final long PAYER_NUMBER = 5000L;
+
+	@Autowired
+	private AccountServiceV1 accountServiceV1;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Test
+	void single_vs_batch_transfer_benchmark() throws Exception {
+		int payees = BenchmarkSupport.intProperty("payees", 200);
+		int iterations = BenchmarkSupport.intProperty("iterations", 20);
+
+		User user = userRepository.save(newUser("bench", "bench user"));
+		accountRepository.save(Account.builder()
+				.number(PAYER_NUMBER)
+				.password(1234L)
+				.balance(1_000_000_000L)
+				.user(user)
+				.build());
+		List<TransferAccountRequestDTO> transfers = new ArrayList<>();
+		for (int i = 1; i <= payees; i++) {
+			accountRepository.save(newAccount(PAYER_NUMBER + i, user));
+			transfers.add(transferRequest(PAYER_NUMBER + i));
+		}
+		BatchTransferAccountRequestDTO batch = new BatchTransferAccountRequestDTO();
+		batch.setTransfers(transfers);
+
+		BenchmarkSupport.Result single = BenchmarkSupport.measure("single-x" + payees, 2, iterations, (t, i) -> {
+			for (TransferAccountRequestDTO transfer : transfers) {
+				accountServiceV1.transferAccount(transfer, user.getId());
+			}
+		});
+		BenchmarkSupport.Result batched = BenchmarkSupport.measure("batch-x" + payees, 2, iterations,
+				(t, i) -> accountServiceV1.transferAccounts(batch, user.getId()));
+
+		log.info("[벤치마크] 이체 처리량 single -> {} transfers/s, batch -> {} transfers/s",
+				String.format("%.1f", single.getOpsPerSecond() * payees),
+				String.format("%.1f", batched.getOpsPerSecond() * payees));
+	}
+
+	private static TransferAccountRequestDTO transferRequest(Long depositNumber) {
+		TransferAccountRequestDTO dto = new TransferAccountRequestDTO();
+		dto.setWithdrawNumber(PAYER_NUMBER);
+		dto.setDepositNumber(depositNumber);
+		dto.setWithdrawPassword(1234L);
+		dto.setAmount(1L);
+		dto.setType("TRANSFER");
+		return dto;
+	}
+
+}
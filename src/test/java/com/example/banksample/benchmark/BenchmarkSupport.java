@@ -0,0 +1,191 @@
+package com.example.banksample.benchmark;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * 벤치마크 테스트에서 공통으로 사용하는 측정 도구.
+ * JMH 없이 JUnit 안에서 처리량, 지연시간 분포, 스레드별 할당량을 측정한다.
+ * 측정 규모는 {@code -Dbench.xxx} 시스템 프로퍼티로 조절한다.
+ */
+@Slf4j
+public final class BenchmarkSupport {
+
+	private BenchmarkSupport() {
+	}
+
+	@FunctionalInterface
+	public interface Task {
+		void run(int threadIndex, int iteration) throws Exception;
+	}
+
+	public static int intProperty(String name, int defaultValue) {
+		return Integer.getInteger("bench." + name, defaultValue);
+	}
+
+	/**
+	 * threads 개의 스레드가 동시에 opsPerThread 번씩 task 를 실행한다.
+	 * 예외가 발생한 호출은 errors 로 집계한다.
+	 */
+	public static Result runConcurrently(String name, int threads, int opsPerThread, Task task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicLong errors = new AtomicLong();
+		long[] latencies = new long[threads * opsPerThread];
+
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				int threadIndex = t;
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < opsPerThread; i++) {
+						long begin = System.nanoTime();
+						try {
+							task.run(threadIndex, i);
+						} catch (Exception e) {
+							errors.incrementAndGet();
+						}
+						latencies[threadIndex * opsPerThread + i] = System.nanoTime() - begin;
+					}
+					return null;
+				}));
+			}
+
+			long begin = System.nanoTime();
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+			long elapsed = System.nanoTime() - begin;
+
+			Result result = new Result(name, latencies.length, errors.get(), elapsed, latencies);
+			log.info("[벤치마크] {}", result);
+			return result;
+		} finally {
+			executor.shutdownNow();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+	}
+
+	/**
+	 * 비동기 HttpClient 로 동시에 clients 개의 요청이 진행 중이도록 유지하면서 total 번 요청한다.
+	 * 동시 요청 수만큼 스레드를 만들지 않으므로 수천 개의 클라이언트를 흉내 낼 수 있다.
+	 * 2xx 가 아닌 응답과 예외는 errors 로 집계한다.
+	 */
+	public static Result runHttp(String name, HttpClient httpClient, int clients, int total, IntFunction<HttpRequest> requestFactory) throws Exception {
+		Semaphore inFlight = new Semaphore(clients);
+		long[] latencies = new long[total];
+		AtomicLong errors = new AtomicLong();
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[total];
+
+		long begin = System.nanoTime();
+		for (int i = 0; i < total; i++) {
+			int index = i;
+			inFlight.acquire();
+			long start = System.nanoTime();
+			futures[i] = httpClient.sendAsync(requestFactory.apply(i), HttpResponse.BodyHandlers.discarding())
+					.handle((response, e) -> {
+						latencies[index] = System.nanoTime() - start;
+						if (e != null || response.statusCode() / 100 != 2) {
+							errors.incrementAndGet();
+						}
+						inFlight.release();
+						return null;
+					});
+		}
+		CompletableFuture.allOf(futures).join();
+		long elapsed = System.nanoTime() - begin;
+
+		return new Result(name, total, errors.get(), elapsed, latencies);
+	}
+
+	/**
+	 * 현재 스레드가 지금까지 할당한 바이트 수 (HotSpot 전용)
+	 */
+	public static long allocatedBytes() {
+		return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+	}
+
+	/**
+	 * 현재 스레드가 지금까지 사용한 CPU 시간(ns)
+	 */
+	public static long cpuTimeNanos() {
+		return ManagementFactory.getThreadMXBean().getCurrentThreadCpuTime();
+	}
+
+	/**
+	 * 단일 스레드에서 iterations 번 실행하고, 1회당 평균 시간(ns)과 할당량(byte)을 기록한다.
+	 */
+	public static Result measure(String name, int warmup, int iterations, Task task) throws Exception {
+		for (int i = 0; i < warmup; i++) {
+			task.run(0, i);
+		}
+
+		long[] latencies = new long[iterations];
+		long allocatedBefore = allocatedBytes();
+		long begin = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			long start = System.nanoTime();
+			task.run(0, i);
+			latencies[i] = System.nanoTime() - start;
+		}
+		long elapsed = System.nanoTime() - begin;
+		long allocated = allocatedBytes() - allocatedBefore;
+
+		Result result = new Result(name, iterations, 0, elapsed, latencies);
+		log.info("[벤치마크] {}, bytes/op={}", result, allocated / iterations);
+		return result;
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	public static class Result {
+		private final String name;
+		private final long operations;
+		private final long errors;
+		private final long elapsedNanos;
+		private final long[] latencies;
+
+		public double getOpsPerSecond() {
+			return operations * 1_000_000_000.0 / elapsedNanos;
+		}
+
+		public double getErrorRate() {
+			return operations == 0 ? 0 : (double) errors / operations;
+		}
+
+		public long percentileMicros(double percentile) {
+			long[] sorted = latencies.clone();
+			Arrays.sort(sorted);
+			int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+			return sorted[Math.max(0, index)] / 1_000;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s: ops=%d, errors=%d (%.2f%%), throughput=%.1f ops/s, p50=%dus, p99=%dus",
+					name, operations, errors, getErrorRate() * 100, getOpsPerSecond(),
+					percentileMicros(50), percentileMicros(99));
+		}
+	}
+
+}
@@ -0,0 +1,122 @@
+package com.example.banksample.benchmark;
+
+import com.example.banksample.auth.LoginUser;
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.jwt.JwtProcess;
+import com.example.banksample.jwt.JwtTokenVO;
+import com.example.banksample.repository.AccountRepository;
+import com.example.banksample.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static com.example.banksample.dto.account.AccountRequestDTO.TransferAccountRequestDTO;
+
+/**
+ * 동시 접속 클라이언트 수(1k, 5k, 10k)별 이체, 거래내역 조회 API 의 처리량과 p99 를 측정한다.
+ * 클라이언트는 비동기 HttpClient 로 흉내 내므로 동시 요청 수만큼 스레드를 만들지 않는다.
+ * 요청 처리 스레드 방식(플랫폼 스레드, 가상 스레드)별로 하위 클래스를 나눈다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests '*ConcurrentClientsLoadBenchmark' -Dbench.requestsPerClient=5
+ * 가상 스레드: ./gradlew benchmark -PvirtualThreads --tests 'VirtualThread*'
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@Sql("classpath:db/teardown.sql")
+abstract class ConcurrentClientsLoadBenchmark extends DummyObject {
+
+	private static final int[] CLIENTS = {1_000, 5_000, 10_000};
+	private static final int ACCOUNT_PAIRS = 100;
+
+	@LocalServerPort
+	private int port;
+	@Autowired
+	private ObjectMapper om;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private JwtProcess jwtProcess;
+
+	private final HttpClient httpClient = HttpClient.newBuilder()
+			.connectTimeout(Duration.ofSeconds(30))
+			.build();
+
+	protected abstract String mode();
+
+	@Test
+	void transfer_and_history_load_benchmark() throws Exception {
+		int requestsPerClient = BenchmarkSupport.intProperty("requestsPerClient", 5);
+		log.warn("[벤치마크] {} java.version={}", mode(), Runtime.version());
+
+		User user = userRepository.save(newUser("bench", "bench user"));
+		List<Account> accounts = new ArrayList<>();
+		for (int i = 0; i < ACCOUNT_PAIRS * 2; i++) {
+			accounts.add(Account.builder()
+					.number(5000L + i)
+					.password(1234L)
+					.balance(1_000_000_000L)
+					.user(user)
+					.build());
+		}
+		accountRepository.saveAll(accounts);
+		String accessToken = jwtProcess.createToken(new LoginUser(user));
+
+		// 클라이언트마다 다른 계좌 쌍을 사용해서 같은 계좌에 대한 잠금 경합을 줄인다.
+		IntFunction<HttpRequest> transfer = i -> {
+			long withdrawNumber = 5000L + (i % ACCOUNT_PAIRS) * 2;
+			TransferAccountRequestDTO dto = new TransferAccountRequestDTO();
+			dto.setWithdrawNumber(withdrawNumber);
+			dto.setDepositNumber(withdrawNumber + 1);
+			dto.setWithdrawPassword(1234L);
+			dto.setAmount(1L);
+			dto.setType("TRANSFER");
+			try {
+				return request("/api/test/account/transfer", accessToken)
+						.header("Content-Type", "application/json")
+						.POST(HttpRequest.BodyPublishers.ofString(om.writeValueAsString(dto)))
+						.build();
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		};
+		IntFunction<HttpRequest> history = i -> request("/api/test/account/" + (5000L + (i % ACCOUNT_PAIRS) * 2) + "/transaction", accessToken)
+				.GET()
+				.build();
+
+		for (int clients : CLIENTS) {
+			run("transfer", clients, requestsPerClient, transfer);
+			run("history", clients, requestsPerClient, history);
+		}
+	}
+
+	private HttpRequest.Builder request(String path, String accessToken) {
+		return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+				.timeout(Duration.ofSeconds(60))
+				.header(JwtTokenVO.TOKEN_HEADER, accessToken);
+	}
+
+	private void run(String endpoint, int clients, int requestsPerClient, IntFunction<HttpRequest> requestFactory) throws Exception {
+		BenchmarkSupport.Result result = BenchmarkSupport.runHttp(mode() + "-" + endpoint + "-" + clients + "clients",
+				httpClient, clients, clients * requestsPerClient, requestFactory);
+		log.warn("[벤치마크] {}", result);
+	}
+
+}
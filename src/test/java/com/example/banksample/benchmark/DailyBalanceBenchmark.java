@@ -0,0 +1,189 @@
+package com.example.banksample.benchmark;
+
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.repository.AccountRepository;
+import com.example.banksample.repository.DailyBalanceJdbcRepository;
+import com.example.banksample.repository.UserRepository;
+import com.example.banksample.service.DailyBalanceService;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 계좌 1개에 거래내역이 많이 쌓였을 때 특정 시각의 잔액을 구하는 세 가지 방법의 지연시간을 비교한다.
+ * replay: 처음부터 at 까지의 거래 금액을 모두 더한다.
+ * scan: at 이전 마지막 거래를 occurred_at 순으로 찾는다. (스냅샷이 없는 경우의 조회)
+ * snapshot: 그날 스냅샷의 거래내역 Id 범위만 읽거나, 직전 스냅샷의 마감 잔액 1행을 읽는다.
+ * <p>
+ * 하루 transactions / days 건씩 시간 순서대로 거래내역을 넣고, 같은 값으로 계산한 스냅샷을 함께 넣는다.
+ * 세 방법의 결과가 모두 같은지 확인한다.
+ * 실행: ./gradlew benchmark --tests '*DailyBalanceBenchmark' -Dbench.transactions=1000000 -Dbench.days=1000
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(properties = "logging.level.org.hibernate=warn")
+@Sql("classpath:db/teardown.sql")
+class DailyBalanceBenchmark extends DummyObject {
+
+	private static final int BATCH_SIZE = 10_000;
+	// 시퀀스로 채번되는 Id 와 겹치지 않도록 큰 값부터 직접 부여한다.
+	private static final long FIRST_ID = 1_000_000_000L;
+
+	private static final String REPLAY = "SELECT " +
+			"COALESCE(SUM(CASE WHEN deposit_account_id = ? THEN amount ELSE 0 END), 0) - " +
+			"COALESCE(SUM(CASE WHEN withdraw_account_id = ? THEN amount ELSE 0 END), 0) " +
+			"FROM tbl_transaction WHERE (deposit_account_id = ? OR withdraw_account_id = ?) AND occurred_at <= ?";
+
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private DailyBalanceJdbcRepository dailyBalanceJdbcRepository;
+	@Autowired
+	private DailyBalanceService dailyBalanceService;
+
+	@Test
+	void balance_at_benchmark() throws Exception {
+		int transactions = BenchmarkSupport.intProperty("transactions", 1_000_000);
+		int days = BenchmarkSupport.intProperty("days", 1_000);
+		int iterations = BenchmarkSupport.intProperty("iterations", 20);
+
+		User user = userRepository.save(newUser("bench", "bench user"));
+		Account target = accountRepository.save(newAccount(5000L, user));
+		Account other = accountRepository.save(newAccount(5001L, user));
+		LocalDateTime start = LocalDate.now().minusDays(days).atStartOfDay();
+		long finalBalance = insertHistory(target, other, start, transactions, days);
+		jdbcTemplate.update("UPDATE tbl_account SET balance = ? WHERE id = ?", finalBalance, target.getId());
+
+		// 같은 시각들을 세 방법으로 조회한다.
+		Random random = new Random(7);
+		List<LocalDateTime> points = new ArrayList<>();
+		for (int i = 0; i < iterations; i++) {
+			points.add(start.plusSeconds(random.nextLong(days * 86_400L)));
+		}
+		Long accountId = target.getId();
+		long initialBalance = target.getBalance();
+		long[] replay = new long[iterations];
+		long[] scan = new long[iterations];
+		long[] snapshot = new long[iterations];
+
+		BenchmarkSupport.measure("replay-" + transactions, 1, iterations, (t, i) -> {
+			Timestamp at = Timestamp.valueOf(points.get(i));
+			replay[i] = initialBalance + jdbcTemplate.queryForObject(REPLAY, Long.class, accountId, accountId, accountId, accountId, at);
+		});
+		BenchmarkSupport.measure("scan-" + transactions, 1, iterations,
+				(t, i) -> scan[i] = dailyBalanceJdbcRepository.findLastBalance(accountId, 0L, Long.MAX_VALUE, points.get(i)).orElse(initialBalance));
+		BenchmarkSupport.measure("snapshot-" + transactions, 1, iterations,
+				(t, i) -> snapshot[i] = dailyBalanceService.getBalanceAt(user.getId(), 5000L, points.get(i)).getBalance());
+
+		Assertions.assertThat(scan).isEqualTo(replay);
+		Assertions.assertThat(snapshot).isEqualTo(replay);
+	}
+
+	/**
+	 * 하루 transactions / days 건씩 입금, 출금, 이체(입금, 출금 방향)를 시간 순서대로 넣고, 날짜별 스냅샷을 계산해서 넣는다.
+	 * 출금 방향 거래는 잔액이 부족하면 입금으로 바꾼다.
+	 *
+	 * @return 마지막 거래 직후 잔액
+	 */
+	private long insertHistory(Account target, Account other, LocalDateTime start, int transactions, int days) {
+		Random random = new Random(42);
+		int perDay = Math.max(1, transactions / days);
+		long secondsPerTransaction = Math.max(1, 86_400L / perDay);
+		long balance = target.getBalance();
+		long id = FIRST_ID;
+		long begin = System.nanoTime();
+
+		List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+		List<Object[]> snapshots = new ArrayList<>(days);
+		for (int day = 0; day < days && id - FIRST_ID < transactions; day++) {
+			LocalDateTime dayStart = start.plusDays(day);
+			long opening = balance;
+			long deposit = 0, withdraw = 0, transferIn = 0, transferOut = 0;
+			long firstId = id;
+
+			for (int k = 0; k < perDay && id - FIRST_ID < transactions; k++, id++) {
+				Timestamp createdAt = Timestamp.valueOf(dayStart.plusSeconds(k * secondsPerTransaction));
+				long amount = 1 + random.nextInt(10_000);
+				int kind = random.nextInt(4);
+				if (kind >= 2 && balance < amount) {
+					kind -= 2;
+				}
+				switch (kind) {
+					case 0 -> {
+						balance += amount;
+						deposit += amount;
+						rows.add(new Object[]{id, null, target.getId(), amount, null, balance, "DEPOSIT", "ATM", "5000", "010-0000-0000", createdAt, createdAt, createdAt});
+					}
+					case 1 -> {
+						balance += amount;
+						transferIn += amount;
+						rows.add(new Object[]{id, other.getId(), target.getId(), amount, 0L, balance, "TRANSFER", "5001", "5000", null, createdAt, createdAt, createdAt});
+					}
+					case 2 -> {
+						balance -= amount;
+						withdraw += amount;
+						rows.add(new Object[]{id, target.getId(), null, amount, balance, null, "WITHDRAW", "5000", "ATM", null, createdAt, createdAt, createdAt});
+					}
+					default -> {
+						balance -= amount;
+						transferOut += amount;
+						rows.add(new Object[]{id, target.getId(), other.getId(), amount, balance, 0L, "TRANSFER", "5000", "5001", null, createdAt, createdAt, createdAt});
+					}
+				}
+				if (rows.size() == BATCH_SIZE) {
+					insertTransactions(rows);
+					rows.clear();
+				}
+			}
+			snapshots.add(new Object[]{target.getId(), Date.valueOf(dayStart.toLocalDate()), opening, balance,
+					deposit, withdraw, transferIn, transferOut, (int) (id - firstId), firstId, id - 1});
+		}
+		insertTransactions(rows);
+		jdbcTemplate.batchUpdate(
+				"INSERT INTO tbl_daily_balance " +
+						"(account_id, balance_date, opening_balance, closing_balance, deposit_total, withdraw_total, " +
+						"transfer_in_total, transfer_out_total, tx_count, first_transaction_id, last_transaction_id) " +
+						"VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+				snapshots);
+
+		log.info("[벤치마크] 거래내역 {} 건, 스냅샷 {} 건 생성 ({} ms)", id - FIRST_ID, snapshots.size(), (System.nanoTime() - begin) / 1_000_000);
+		return balance;
+	}
+
+	private void insertTransactions(List<Object[]> rows) {
+		if (rows.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(
+				"INSERT INTO tbl_transaction " +
+						"(id, withdraw_account_id, deposit_account_id, amount, withdraw_balance, deposit_balance, " +
+						"type, tx_sender, tx_receiver, tx_tel, created_at, updated_at, occurred_at) " +
+						"VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+				rows,
+				new int[]{Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.BIGINT,
+						Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP, Types.TIMESTAMP});
+	}
+
+}
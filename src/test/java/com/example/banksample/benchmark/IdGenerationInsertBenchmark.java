@@ -0,0 +1,158 @@
+package com.example.banksample.benchmark;
+
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.transaction.Transaction;
+import com.example.banksample.domain.transaction.TransactionEnum;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.repository.AccountRepository;
+import com.example.banksample.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 거래내역 대량 저장 시 IDENTITY 채번과 pooled 시퀀스 채번의 insert 처리량을 비교한다.
+ * 두 방식 모두 Transaction 엔티티를 EntityManager 로 persist 하고, hibernate.jdbc.batch_size 를 같게 둔다.
+ * <p>
+ * SEQUENCE: 애플리케이션의 EntityManagerFactory (allocationSize 50, batch_size 50)
+ * IDENTITY: 같은 DataSource 로 만든 EntityManagerFactory 에서 orm.xml 로 Transaction 의 Id 채번만 IDENTITY 로 바꾼다.
+ * (별도 테이블 bench_identity_transaction 에 저장한다.) 생성된 키를 받아와야 하므로 Hibernate 가 insert 를 묶지 않는다.
+ * <p>
+ * 트랜잭션 1개에 chunk 건씩 저장하고, 방식별로 실행된 JDBC 문장 수를 함께 출력한다.
+ * 실행: ./gradlew benchmark --tests '*IdGenerationInsertBenchmark' -Dbench.rows=100000 -Dbench.chunk=500
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+		"spring.jpa.show-sql=false",
+		"logging.level.org.hibernate=warn"
+})
+@Sql("classpath:db/teardown.sql")
+class IdGenerationInsertBenchmark extends DummyObject {
+
+	private static final int BATCH_SIZE = 50;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private DataSource dataSource;
+	@Autowired
+	private ConfigurableListableBeanFactory beanFactory;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Test
+	void identity_vs_sequence_insert_benchmark() throws Exception {
+		int chunk = BenchmarkSupport.intProperty("chunk", 500);
+		int chunks = Math.max(1, BenchmarkSupport.intProperty("rows", 100_000) / chunk);
+
+		User user = userRepository.save(newUser("bench", "bench user"));
+		Long withdrawAccountId = accountRepository.save(newAccount(1001L, user)).getId();
+		Long depositAccountId = accountRepository.save(newAccount(2001L, user)).getId();
+
+		jdbcTemplate.execute("DROP TABLE IF EXISTS bench_identity_transaction");
+		LocalContainerEntityManagerFactoryBean identityFactoryBean = identityEntityManagerFactory();
+		try {
+			EntityManagerFactory identityFactory = identityFactoryBean.getObject();
+			insert("identity", identityFactory, chunks, chunk, withdrawAccountId, depositAccountId);
+			insert("sequence", entityManagerFactory, chunks, chunk, withdrawAccountId, depositAccountId);
+
+			Assertions.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bench_identity_transaction", Long.class))
+					.isEqualTo((long) chunks * chunk);
+			Assertions.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tbl_transaction", Long.class))
+					.isEqualTo((long) chunks * chunk);
+		} finally {
+			identityFactoryBean.destroy();
+			jdbcTemplate.execute("DROP TABLE IF EXISTS bench_identity_transaction");
+		}
+	}
+
+	/**
+	 * 트랜잭션 1개에 chunk 건씩 persist 하고 커밋한다.
+	 */
+	private void insert(String name, EntityManagerFactory factory, int chunks, int chunk, Long withdrawAccountId, Long depositAccountId) throws Exception {
+		Statistics statistics = factory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+
+		BenchmarkSupport.Result result = BenchmarkSupport.measure(name + "-x" + chunk, 0, chunks, (t, i) -> {
+			EntityManager em = factory.createEntityManager();
+			try {
+				em.getTransaction().begin();
+				Account withdrawAccount = em.getReference(Account.class, withdrawAccountId);
+				Account depositAccount = em.getReference(Account.class, depositAccountId);
+				for (int row = 0; row < chunk; row++) {
+					em.persist(transferTransaction(withdrawAccount, depositAccount, i * chunk + row));
+				}
+				em.getTransaction().commit();
+			} finally {
+				em.close();
+			}
+		});
+
+		log.info("[벤치마크] {}: {} rows/s, JDBC 문장 {} 개", name, (long) (result.getOpsPerSecond() * chunk), statistics.getPrepareStatementCount());
+		statistics.setStatisticsEnabled(false);
+	}
+
+	/**
+	 * 애플리케이션과 같은 DataSource, 이름 규칙, 엔티티 리스너(auditing)를 쓰고, Transaction 의 매핑만 orm.xml 로 바꾼다.
+	 * 다른 테이블은 이미 있으므로 update 로 bench_identity_transaction 만 만든다.
+	 */
+	private LocalContainerEntityManagerFactoryBean identityEntityManagerFactory() {
+		LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+		factoryBean.setPersistenceUnitName("bench-identity");
+		factoryBean.setDataSource(dataSource);
+		factoryBean.setPackagesToScan("com.example.banksample.domain");
+		factoryBean.setMappingResources("db/bench-identity-transaction-orm.xml");
+		factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+		factoryBean.setJpaPropertyMap(Map.of(
+				"hibernate.hbm2ddl.auto", "update",
+				"hibernate.jdbc.batch_size", BATCH_SIZE,
+				"hibernate.order_inserts", true,
+				"hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+				"hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName(),
+				"hibernate.resource.beans.container", new SpringBeanContainer(beanFactory)
+		));
+		factoryBean.afterPropertiesSet();
+		return factoryBean;
+	}
+
+	private static Transaction transferTransaction(Account withdrawAccount, Account depositAccount, int index) {
+		return Transaction.builder()
+				.withdrawAccount(withdrawAccount)
+				.depositAccount(depositAccount)
+				.amount(100L)
+				.withdrawAccountBalance(1_000_000L - index)
+				.depositAccountBalance(1_000_000L + index)
+				.type(TransactionEnum.TRANSFER)
+				.sender("1001")
+				.receiver("2001")
+				.build();
+	}
+
+}
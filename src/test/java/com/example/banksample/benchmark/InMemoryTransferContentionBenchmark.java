@@ -0,0 +1,13 @@
+package com.example.banksample.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "bank.account.transfer-mode=in-memory")
+class InMemoryTransferContentionBenchmark extends TransferContentionBenchmark {
+
+	@Override
+	protected String mode() {
+		return "in-memory";
+	}
+
+}
@@ -0,0 +1,16 @@
+package com.example.banksample.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"logging.level.com.example.banksample=warn",
+		"bank.password.offload.enabled=false"
+})
+class InlineLoginStormTransferLatencyBenchmark extends LoginStormTransferLatencyBenchmark {
+
+	@Override
+	protected String mode() {
+		return "inline";
+	}
+
+}
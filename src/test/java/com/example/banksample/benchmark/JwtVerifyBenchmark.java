@@ -0,0 +1,79 @@
+package com.example.banksample.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.example.banksample.auth.LoginUser;
+import com.example.banksample.config.JwtProperties;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.domain.user.UserEnum;
+import com.example.banksample.jwt.JwtKeyRing;
+import com.example.banksample.jwt.JwtProcess;
+import com.example.banksample.jwt.JwtTokenVO;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 토큰 검증 1회당 처리량과 할당량을 비교한다.
+ * per-call: 변경 전처럼 검증할 때마다 Algorithm, JWTVerifier 를 새로 만든다.
+ * cached: JwtProcess 가 미리 만들어둔 Algorithm, JWTVerifier 를 재사용한다.
+ * 알고리즘별(HS512, ES256, RS256) 서명, 검증 비용도 비교한다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests '*JwtVerifyBenchmark' -Dbench.iterations=200000 -Dbench.threads=8
+ */
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(properties = "logging.level.com.example.banksample=warn")
+class JwtVerifyBenchmark {
+
+	@Autowired
+	private JwtProcess jwtProcess;
+
+	@Value("${jwt.secret}")
+	private String secret;
+
+	@Test
+	void verify_benchmark() throws Exception {
+		int iterations = BenchmarkSupport.intProperty("iterations", 100_000);
+		int threads = BenchmarkSupport.intProperty("threads", 8);
+		String token = jwtProcess.createToken(new LoginUser(User.builder().id(1L).role(UserEnum.CUSTOMER).build()))
+				.replace(JwtTokenVO.TOKEN_PREFIX, "");
+
+		BenchmarkSupport.measure("verify-per-call", 10_000, iterations,
+				(t, i) -> JWT.require(Algorithm.HMAC512(secret)).withIssuer("local").build().verify(token));
+		BenchmarkSupport.measure("verify-cached", 10_000, iterations,
+				(t, i) -> jwtProcess.verifyToken(token));
+
+		BenchmarkSupport.runConcurrently("verify-per-call-" + threads + "threads", threads, iterations / threads,
+				(t, i) -> JWT.require(Algorithm.HMAC512(secret)).withIssuer("local").build().verify(token));
+		BenchmarkSupport.Result cached = BenchmarkSupport.runConcurrently("verify-cached-" + threads + "threads", threads, iterations / threads,
+				(t, i) -> jwtProcess.verifyToken(token));
+
+		// 공유된 검증기를 여러 스레드에서 동시에 사용해도 실패하지 않아야 한다.
+		Assertions.assertThat(cached.getErrors()).isZero();
+	}
+
+	@Test
+	void algorithm_verify_benchmark() throws Exception {
+		int iterations = BenchmarkSupport.intProperty("iterations", 100_000);
+		LoginUser loginUser = new LoginUser(User.builder().id(1L).role(UserEnum.CUSTOMER).build());
+
+		for (JwtProperties.SigningAlgorithm algorithm : JwtProperties.SigningAlgorithm.values()) {
+			JwtProperties jwtProperties = new JwtProperties();
+			jwtProperties.setAlgorithm(algorithm);
+			JwtProcess process = new JwtProcess(secret, null, new JwtKeyRing(jwtProperties));
+			String token = process.createToken(loginUser).replace(JwtTokenVO.TOKEN_PREFIX, "");
+
+			// 서명은 로그인 때만 일어나므로 검증보다 적게 측정한다.
+			BenchmarkSupport.measure("sign-" + algorithm, 100, Math.max(1, iterations / 100),
+					(t, i) -> process.createToken(loginUser));
+			BenchmarkSupport.measure("verify-" + algorithm, 1_000, iterations,
+					(t, i) -> process.verifyToken(token));
+		}
+	}
+
+}
@@ -0,0 +1,103 @@
+package com.example.banksample.benchmark;
+
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.outbox.LedgerOutboxRelay;
+import com.example.banksample.repository.AccountRepository;
+import com.example.banksample.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 하위 시스템이 새 거래내역을 가져가는 두 가지 방식의 비용을 비교한다.
+ * polling: tbl_transaction 을 created_at 기준으로 주기적으로 조회 (인덱스가 없어 매번 전체 스캔)
+ * outbox: relay 가 tbl_ledger_outbox 를 Id 순으로 읽고 전달한 뒤 삭제 (PK 범위 스캔)
+ * <p>
+ * 새 거래가 없을 때 1회 확인 비용과, 쌓인 이벤트를 모두 전달하는 처리량(events/s)을 측정한다.
+ * sink 는 리스너가 없는 listener 로 두어 relay 자체의 비용만 측정한다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests '*LedgerOutboxRelayBenchmark' -Dbench.transactions=200000 -Dbench.events=100000
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+		"logging.level.com.example.banksample=warn",
+		"logging.level.org.hibernate=warn",
+		"bank.outbox.sink=listener",
+		"bank.outbox.relay-interval-ms=3600000"
+})
+@Sql("classpath:db/teardown.sql")
+class LedgerOutboxRelayBenchmark extends DummyObject {
+
+	private static final int BATCH_SIZE = 10_000;
+
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private LedgerOutboxRelay ledgerOutboxRelay;
+
+	@Test
+	void polling_vs_outbox_benchmark() throws Exception {
+		int transactions = BenchmarkSupport.intProperty("transactions", 200_000);
+		int events = BenchmarkSupport.intProperty("events", 100_000);
+		int iterations = BenchmarkSupport.intProperty("iterations", 50);
+
+		User user = userRepository.save(newUser("bench", "bench user"));
+		Account account = accountRepository.save(newAccount(5000L, user));
+		Account other = accountRepository.save(newAccount(5001L, user));
+		new TransactionDataGenerator(jdbcTemplate).generate(List.of(account.getId(), other.getId()), transactions);
+
+		// 새 거래가 없을 때 1회 확인 비용
+		Timestamp lastSeen = Timestamp.valueOf(LocalDateTime.now().plusMinutes(1));
+		BenchmarkSupport.measure("polling-idle-" + transactions + "rows", 5, iterations,
+				(t, i) -> jdbcTemplate.queryForList(
+						"SELECT id, type, amount, withdraw_balance, deposit_balance FROM tbl_transaction WHERE created_at > ?", lastSeen));
+		BenchmarkSupport.measure("outbox-idle-" + transactions + "rows", 5, iterations,
+				(t, i) -> ledgerOutboxRelay.relay());
+
+		// 쌓인 이벤트 전달 처리량
+		insertOutbox(account.getId(), events);
+		long begin = System.nanoTime();
+		int relayed = ledgerOutboxRelay.relay();
+		long elapsed = System.nanoTime() - begin;
+		log.warn("[벤치마크] outbox-drain: events={}, elapsed={}ms, throughput={} events/s",
+				relayed, elapsed / 1_000_000, String.format("%.1f", relayed * 1_000_000_000.0 / elapsed));
+
+		Assertions.assertThat(relayed).isEqualTo(events);
+		Assertions.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tbl_ledger_outbox", Long.class)).isZero();
+	}
+
+	private void insertOutbox(Long accountId, int rows) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		for (int start = 0; start < rows; start += BATCH_SIZE) {
+			List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+			for (int i = start; i < Math.min(rows, start + BATCH_SIZE); i++) {
+				batch.add(new Object[]{(long) i, accountId, (long) i, "ATM", String.valueOf(accountId), now});
+			}
+			jdbcTemplate.batchUpdate(
+					"INSERT INTO tbl_ledger_outbox " +
+							"(id, transaction_id, type, amount, deposit_account_id, deposit_balance, tx_sender, tx_receiver, created_at) " +
+							"VALUES (NEXT VALUE FOR tbl_ledger_outbox_seq, ?, 'DEPOSIT', 100, ?, ?, ?, ?, ?)",
+					batch);
+		}
+	}
+
+}
@@ -0,0 +1,95 @@
+package com.example.banksample.benchmark;
+
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static com.example.banksample.dto.token.TokenRequestDTO.RefreshTokenRequestDTO;
+import static com.example.banksample.dto.user.UserRequestDTO.LoginRequestDTO;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 액세스 토큰을 다시 받는 두 가지 경로의 요청 1회당 CPU 시간을 측정하고, 사용자 1명이 1시간 동안 쓰는 CPU 시간으로 환산한다.
+ * login: POST /api/login (사용자 조회 + BCrypt 비교)
+ * refresh: POST /api/token/refresh (리프레시 토큰 조회 + 사용 처리 + 새 토큰 저장, BCrypt 없음)
+ * <p>
+ * 시간당 재발급 횟수는 60 / accessTtlMinutes 로 계산한다.
+ * 실행: ./gradlew benchmark --tests '*LoginCpuBenchmark' -Dbench.iterations=200 -Dbench.accessTtlMinutes=15
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK, properties = "logging.level.com.example.banksample=warn")
+@Sql("classpath:db/teardown.sql")
+class LoginCpuBenchmark extends DummyObject {
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private ObjectMapper om;
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void login_vs_refresh_cpu_benchmark() throws Exception {
+		int iterations = BenchmarkSupport.intProperty("iterations", 200);
+		int accessTtlMinutes = BenchmarkSupport.intProperty("accessTtlMinutes", 15);
+		userRepository.save(newUser("bench", "bench user"));
+		String loginBody = om.writeValueAsString(new LoginRequestDTO("bench", "1234"));
+
+		// 재발급할 때마다 리프레시 토큰이 바뀌므로 직전 응답의 토큰을 이어서 사용한다.
+		String[] refreshToken = {om.readTree(login(loginBody).getResponse().getContentAsString()).get("data").get("refresh_token").asText()};
+
+		long loginCpu = cpuPerOperation(iterations, () -> {
+			MvcResult result = login(loginBody);
+			Assertions.assertThat(result.getResponse().getStatus()).isEqualTo(200);
+		});
+		long refreshCpu = cpuPerOperation(iterations, () -> {
+			String requestBody = om.writeValueAsString(new RefreshTokenRequestDTO(refreshToken[0]));
+			MvcResult result = mockMvc.perform(post("/api/token/refresh").content(requestBody).contentType(MediaType.APPLICATION_JSON)).andReturn();
+			Assertions.assertThat(result.getResponse().getStatus()).isEqualTo(200);
+			refreshToken[0] = om.readTree(result.getResponse().getContentAsString()).get("data").get("refresh_token").asText();
+		});
+
+		double renewalsPerHour = 60.0 / accessTtlMinutes;
+		log.warn("[벤치마크] login: cpu/op={}us, cpu/user-hour={}ms", loginCpu / 1_000, String.format("%.2f", loginCpu * renewalsPerHour / 1_000_000));
+		log.warn("[벤치마크] refresh: cpu/op={}us, cpu/user-hour={}ms", refreshCpu / 1_000, String.format("%.2f", refreshCpu * renewalsPerHour / 1_000_000));
+	}
+
+	private MvcResult login(String loginBody) throws Exception {
+		return mockMvc.perform(post("/api/login").content(loginBody).contentType(MediaType.APPLICATION_JSON)).andReturn();
+	}
+
+	/**
+	 * 워밍업 후 iterations 번 실행하고, 현재 스레드가 사용한 CPU 시간의 평균(ns)을 반환한다.
+	 */
+	private long cpuPerOperation(int iterations, BenchmarkOperation operation) throws Exception {
+		for (int i = 0; i < Math.max(1, iterations / 10); i++) {
+			operation.run();
+		}
+		long begin = BenchmarkSupport.cpuTimeNanos();
+		for (int i = 0; i < iterations; i++) {
+			operation.run();
+		}
+		return (BenchmarkSupport.cpuTimeNanos() - begin) / iterations;
+	}
+
+	@FunctionalInterface
+	private interface BenchmarkOperation {
+		void run() throws Exception;
+	}
+
+}
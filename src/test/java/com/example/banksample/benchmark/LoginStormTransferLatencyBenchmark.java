@@ -0,0 +1,138 @@
+package com.example.banksample.benchmark;
+
+import com.example.banksample.auth.LoginUser;
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.jwt.JwtProcess;
+import com.example.banksample.jwt.JwtTokenVO;
+import com.example.banksample.repository.AccountRepository;
+import com.example.banksample.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.example.banksample.dto.account.AccountRequestDTO.TransferAccountRequestDTO;
+import static com.example.banksample.dto.user.UserRequestDTO.LoginRequestDTO;
+
+/**
+ * 로그인 요청이 몰리는 동안 이체 API 의 p99 지연 시간을 측정한다.
+ * 1) 로그인 없이 이체만 실행 (기준값)
+ * 2) stormThreads 개의 스레드가 POST /api/login 을 계속 보내는 동안 이체 실행
+ * <p>
+ * 비밀번호 비교를 요청 스레드에서 하는 경우(inline)와 전용 스레드 풀에서 하는 경우(offload)를 비교한다.
+ * 실행: ./gradlew benchmark --tests '*LoginStormTransferLatencyBenchmark' -Dbench.stormThreads=32 -Dbench.ops=200
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@Sql("classpath:db/teardown.sql")
+abstract class LoginStormTransferLatencyBenchmark extends DummyObject {
+
+	@LocalServerPort
+	private int port;
+	@Autowired
+	private ObjectMapper om;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private JwtProcess jwtProcess;
+
+	private final HttpClient httpClient = HttpClient.newHttpClient();
+
+	protected abstract String mode();
+
+	@Test
+	void transfer_latency_during_login_storm_benchmark() throws Exception {
+		int threads = BenchmarkSupport.intProperty("threads", 4);
+		int ops = BenchmarkSupport.intProperty("ops", 200);
+		int stormThreads = BenchmarkSupport.intProperty("stormThreads", Runtime.getRuntime().availableProcessors() * 2);
+
+		User user = userRepository.save(newUser("bench", "bench user"));
+		for (long number = 5000L; number <= 5001L; number++) {
+			accountRepository.save(Account.builder()
+					.number(number)
+					.password(1234L)
+					.balance(1_000_000_000L)
+					.user(user)
+					.build());
+		}
+		String accessToken = jwtProcess.createToken(new LoginUser(user));
+		String loginBody = om.writeValueAsString(new LoginRequestDTO("bench", "1234"));
+
+		BenchmarkSupport.Task transfer = (t, i) -> {
+			TransferAccountRequestDTO dto = new TransferAccountRequestDTO();
+			dto.setWithdrawNumber(i % 2 == 0 ? 5000L : 5001L);
+			dto.setDepositNumber(i % 2 == 0 ? 5001L : 5000L);
+			dto.setWithdrawPassword(1234L);
+			dto.setAmount(1L);
+			dto.setType("TRANSFER");
+			HttpResponse<String> response = post("/api/test/account/transfer", om.writeValueAsString(dto), accessToken);
+			if (response.statusCode() != 201) {
+				throw new IllegalStateException("이체 실패 -> " + response.statusCode());
+			}
+		};
+
+		BenchmarkSupport.Result baseline = BenchmarkSupport.runConcurrently(mode() + "-baseline", threads, ops, transfer);
+
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicLong logins = new AtomicLong();
+		AtomicLong loginErrors = new AtomicLong();
+		ExecutorService storm = Executors.newFixedThreadPool(stormThreads);
+		for (int t = 0; t < stormThreads; t++) {
+			storm.submit(() -> {
+				while (running.get()) {
+					try {
+						int status = post("/api/login", loginBody, null).statusCode();
+						(status == 200 ? logins : loginErrors).incrementAndGet();
+					} catch (Exception e) {
+						loginErrors.incrementAndGet();
+					}
+				}
+				return null;
+			});
+		}
+
+		BenchmarkSupport.Result underStorm;
+		try {
+			// 로그인 요청이 충분히 쌓일 때까지 기다린다.
+			Thread.sleep(1_000);
+			underStorm = BenchmarkSupport.runConcurrently(mode() + "-login-storm", threads, ops, transfer);
+		} finally {
+			running.set(false);
+			storm.shutdown();
+			storm.awaitTermination(30, TimeUnit.SECONDS);
+		}
+
+		log.warn("[벤치마크] {} transfer p99: baseline={}us, login-storm={}us, 로그인 성공 -> {}, 로그인 실패 -> {}",
+				mode(), baseline.percentileMicros(99), underStorm.percentileMicros(99), logins.get(), loginErrors.get());
+	}
+
+	private HttpResponse<String> post(String path, String body, String accessToken) throws Exception {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(body));
+		if (accessToken != null) {
+			builder.header(JwtTokenVO.TOKEN_HEADER, accessToken);
+		}
+		return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+	}
+
+}
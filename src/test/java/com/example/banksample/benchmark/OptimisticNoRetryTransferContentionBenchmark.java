@@ -0,0 +1,17 @@
+package com.example.banksample.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+		"bank.account.transfer-mode=jpa",
+		"bank.account.lock-mode=optimistic",
+		"bank.account.retry.max-attempts=1"
+})
+class OptimisticNoRetryTransferContentionBenchmark extends TransferContentionBenchmark {
+
+	@Override
+	protected String mode() {
+		return "jpa-optimistic-no-retry";
+	}
+
+}
@@ -0,0 +1,16 @@
+package com.example.banksample.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+		"bank.account.transfer-mode=jpa",
+		"bank.account.lock-mode=pessimistic"
+})
+class PessimisticTransferContentionBenchmark extends TransferContentionBenchmark {
+
+	@Override
+	protected String mode() {
+		return "jpa-pessimistic";
+	}
+
+}
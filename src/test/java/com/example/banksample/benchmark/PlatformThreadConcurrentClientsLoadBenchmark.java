@@ -0,0 +1,17 @@
+package com.example.banksample.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"logging.level.com.example.banksample=warn",
+		"server.tomcat.max-connections=20000",
+		"spring.datasource.hikari.maximum-pool-size=20"
+})
+class PlatformThreadConcurrentClientsLoadBenchmark extends ConcurrentClientsLoadBenchmark {
+
+	@Override
+	protected String mode() {
+		return "platform-threads";
+	}
+
+}
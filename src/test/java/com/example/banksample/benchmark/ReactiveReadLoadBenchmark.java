@@ -0,0 +1,128 @@
+package com.example.banksample.benchmark;
+
+import com.example.banksample.auth.LoginUser;
+import com.example.banksample.config.ReactiveReadServer;
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.jwt.JwtProcess;
+import com.example.banksample.jwt.JwtTokenVO;
+import com.example.banksample.repository.AccountRepository;
+import com.example.banksample.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * 같은 조회 API 를 서블릿(Tomcat + JPA)과 논블로킹(Netty + R2DBC)으로 호출해서 동시 접속 클라이언트 수별 처리량과 p99 를 비교한다.
+ * 두 서버는 같은 DB 를 사용하고, 서블릿은 Hikari 풀, 논블로킹은 R2DBC 풀 크기를 같게 맞춘다.
+ * 측정 전에 두 API 의 응답 본문이 같은지 확인한다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests '*ReactiveReadLoadBenchmark' -Dbench.requestsPerClient=5 -Dbench.transactions=20000
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"logging.level.com.example.banksample=warn",
+		"server.tomcat.max-connections=20000",
+		"spring.datasource.hikari.maximum-pool-size=20",
+		"bank.reactive.enabled=true",
+		"bank.reactive.port=0",
+		"bank.reactive.pool.max-size=20"
+})
+@Sql("classpath:db/teardown.sql")
+class ReactiveReadLoadBenchmark extends DummyObject {
+
+	private static final int[] CLIENTS = {1_000, 5_000, 10_000};
+	private static final int ACCOUNTS = 100;
+
+	@LocalServerPort
+	private int servletPort;
+	@Autowired
+	private ReactiveReadServer reactiveReadServer;
+	@Autowired
+	private ObjectMapper om;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private JwtProcess jwtProcess;
+
+	private final HttpClient httpClient = HttpClient.newBuilder()
+			.connectTimeout(Duration.ofSeconds(30))
+			.build();
+
+	@Test
+	void servlet_vs_reactive_read_benchmark() throws Exception {
+		int requestsPerClient = BenchmarkSupport.intProperty("requestsPerClient", 5);
+		int transactions = BenchmarkSupport.intProperty("transactions", 20_000);
+
+		User user = userRepository.save(newUser("bench", "bench user"));
+		List<Account> accounts = new ArrayList<>();
+		for (int i = 0; i < ACCOUNTS; i++) {
+			accounts.add(newAccount(5000L + i, user));
+		}
+		accountRepository.saveAll(accounts);
+		new TransactionDataGenerator(jdbcTemplate).generate(accounts.stream().map(Account::getId).toList(), transactions);
+		String accessToken = jwtProcess.createToken(new LoginUser(user));
+
+		String[] paths = {"/api/test/account/login-user", "/api/test/account/5000", "/api/test/account/5000/transaction?type=ALL&size=20"};
+		for (String path : paths) {
+			String servletBody = send(servletPort, path, accessToken);
+			String reactiveBody = send(reactiveReadServer.getPort(), path, accessToken);
+			Assertions.assertThat(om.readTree(reactiveBody)).isEqualTo(om.readTree(servletBody));
+		}
+
+		for (int clients : CLIENTS) {
+			for (String endpoint : new String[]{"details", "history"}) {
+				IntFunction<String> path = "details".equals(endpoint)
+						? i -> "/api/test/account/" + (5000L + i % ACCOUNTS)
+						: i -> "/api/test/account/" + (5000L + i % ACCOUNTS) + "/transaction?type=ALL&size=20";
+				run("servlet-" + endpoint, servletPort, clients, requestsPerClient, path, accessToken);
+				run("reactive-" + endpoint, reactiveReadServer.getPort(), clients, requestsPerClient, path, accessToken);
+			}
+		}
+	}
+
+	private HttpRequest request(int port, String path, String accessToken) {
+		return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+				.timeout(Duration.ofSeconds(60))
+				.header(JwtTokenVO.TOKEN_HEADER, accessToken)
+				.GET()
+				.build();
+	}
+
+	private String send(int port, String path, String accessToken) throws Exception {
+		HttpResponse<String> response = httpClient.send(request(port, path, accessToken), HttpResponse.BodyHandlers.ofString());
+		Assertions.assertThat(response.statusCode()).isEqualTo(200);
+		return response.body();
+	}
+
+	private void run(String name, int port, int clients, int requestsPerClient, IntFunction<String> path, String accessToken) throws Exception {
+		BenchmarkSupport.Result result = BenchmarkSupport.runHttp(name + "-" + clients + "clients",
+				httpClient, clients, clients * requestsPerClient, i -> request(port, path.apply(i), accessToken));
+		log.warn("[벤치마크] {}", result);
+	}
+
+}
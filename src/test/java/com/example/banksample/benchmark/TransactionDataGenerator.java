@@ -0,0 +1,63 @@
+package com.example.banksample.benchmark;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 거래내역을 JDBC batch 로 대량 생성한다.
+ * 입금, 출금, 이체를 1:1:2 비율로 만들고, 계좌는 accountIds 중에서 균등하게 고른다.
+ * 잔액 값은 의미 없는 임의의 값이다.
+ * Id 는 Hibernate 와 같은 시퀀스에서 받는다. (pooled 방식이라 한 번 받은 값은 다른 Id 묶음과 겹치지 않는다.)
+ */
+@Slf4j
+@RequiredArgsConstructor
+class TransactionDataGenerator {
+
+	private static final int BATCH_SIZE = 10_000;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final Random random = new Random(42);
+
+	void generate(List<Long> accountIds, int rows) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		long begin = System.nanoTime();
+
+		for (int start = 0; start < rows; start += BATCH_SIZE) {
+			List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+			for (int i = start; i < Math.min(rows, start + BATCH_SIZE); i++) {
+				batch.add(row(accountIds, now));
+			}
+			jdbcTemplate.batchUpdate(
+					"INSERT INTO tbl_transaction " +
+							"(id, withdraw_account_id, deposit_account_id, amount, withdraw_balance, deposit_balance, " +
+							"type, tx_sender, tx_receiver, tx_tel, created_at, updated_at, occurred_at) " +
+							"VALUES (NEXT VALUE FOR tbl_transaction_seq, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+					batch,
+					new int[]{Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.BIGINT,
+							Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP, Types.TIMESTAMP});
+		}
+
+		log.info("[벤치마크] 거래내역 {} 건 생성 ({} ms)", rows, (System.nanoTime() - begin) / 1_000_000);
+	}
+
+	private Object[] row(List<Long> accountIds, Timestamp now) {
+		Long withdrawId = accountIds.get(random.nextInt(accountIds.size()));
+		Long depositId = accountIds.get(random.nextInt(accountIds.size()));
+		long balance = random.nextInt(1_000_000);
+
+		return switch (random.nextInt(4)) {
+			case 0 -> new Object[]{null, depositId, 100L, null, balance, "DEPOSIT", "ATM", String.valueOf(depositId), "010-0000-0000", now, now, now};
+			case 1 -> new Object[]{withdrawId, null, 100L, balance, null, "WITHDRAW", String.valueOf(withdrawId), "ATM", null, now, now, now};
+			default -> new Object[]{withdrawId, depositId, 100L, balance, balance, "TRANSFER", String.valueOf(withdrawId), String.valueOf(depositId), null, now, now, now};
+		};
+	}
+
+}
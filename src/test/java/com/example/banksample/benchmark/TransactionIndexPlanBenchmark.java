@@ -0,0 +1,90 @@
+package com.example.banksample.benchmark;
+
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.transaction.Transaction;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.dto.transaction.TransactionFilter;
+import com.example.banksample.repository.AccountRepository;
+import com.example.banksample.repository.TransactionRepository;
+import com.example.banksample.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ALL 거래내역 조회를 OR 조건 한 번으로 조회할 때와, 두 인덱스 범위 스캔을 병합할 때의 실행 계획과 지연시간을 비교한다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests '*TransactionIndexPlanBenchmark' -Dbench.rows=3000000 -Dbench.accounts=1000
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(properties = "logging.level.org.hibernate=warn")
+@Sql("classpath:db/teardown.sql")
+class TransactionIndexPlanBenchmark extends DummyObject {
+
+	// 변경 전 ALL 조회와 같은 조건의 SQL
+	private static final String OR_QUERY = "SELECT t.* FROM tbl_transaction t " +
+			"WHERE t.withdraw_account_id = ? OR t.deposit_account_id = ? ORDER BY t.id DESC LIMIT 5";
+	// 병합 방식에서 한쪽 범위 스캔에 해당하는 SQL
+	private static final String RANGE_QUERY = "SELECT t.* FROM tbl_transaction t " +
+			"WHERE t.withdraw_account_id = ? AND t.id < ? ORDER BY t.id DESC LIMIT 5";
+
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private TransactionRepository transactionRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void all_listing_plan_benchmark() throws Exception {
+		int rows = BenchmarkSupport.intProperty("rows", 2_000_000);
+		int accounts = BenchmarkSupport.intProperty("accounts", 1_000);
+		int iterations = BenchmarkSupport.intProperty("iterations", 50);
+
+		User user = userRepository.save(newUser("bench", "bench user"));
+		List<Long> accountIds = new ArrayList<>();
+		for (int i = 0; i < accounts; i++) {
+			Account account = accountRepository.save(newAccount(5000L + i, user));
+			accountIds.add(account.getId());
+		}
+		new TransactionDataGenerator(jdbcTemplate).generate(accountIds, rows);
+		jdbcTemplate.execute("ANALYZE");
+
+		Long accountId = accountIds.get(0);
+		logPlan("OR 조건", OR_QUERY, accountId, accountId);
+		logPlan("범위 스캔", RANGE_QUERY, accountId, Long.MAX_VALUE);
+
+		BenchmarkSupport.measure("all-or-query", 3, iterations,
+				(t, i) -> jdbcTemplate.queryForList(OR_QUERY, accountId, accountId));
+		BenchmarkSupport.measure("all-merged-range-scan", 3, iterations,
+				(t, i) -> transactionTemplate.execute(status -> transactionRepository.findTransactionListAfter(accountId, TransactionFilter.ALL, null, 5)));
+
+		// 병합 결과가 OR 조건 결과와 같은지 확인한다.
+		List<Long> expected = jdbcTemplate.queryForList(OR_QUERY.replace("t.*", "t.id"), Long.class, accountId, accountId);
+		List<Long> actual = transactionTemplate.execute(status -> transactionRepository.findTransactionListAfter(accountId, TransactionFilter.ALL, null, 5))
+				.stream().map(Transaction::getId).toList();
+		log.info("[벤치마크] 결과 일치 여부 -> {} (OR: {}, 병합: {})", expected.equals(actual), expected, actual);
+	}
+
+	private void logPlan(String name, String sql, Object... args) {
+		List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args);
+		log.info("[벤치마크] {} 실행 계획\n{}", name, String.join("\n", plan));
+	}
+
+}
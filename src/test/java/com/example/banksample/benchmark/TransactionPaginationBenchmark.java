@@ -0,0 +1,105 @@
+package com.example.banksample.benchmark;
+
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.transaction.Transaction;
+import com.example.banksample.domain.transaction.TransactionEnum;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.dto.transaction.TransactionFilter;
+import com.example.banksample.repository.AccountRepository;
+import com.example.banksample.repository.TransactionRepository;
+import com.example.banksample.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 거래내역 조회 시 OFFSET 방식과 키셋 방식의 지연시간을 앞쪽 페이지와 뒤쪽 페이지에서 비교한다.
+ * 조회 대상 계좌에 (page + 1) * size 건, 다른 계좌에 같은 수의 거래내역을 넣고 측정한다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests '*TransactionPaginationBenchmark' -Dbench.page=10000 -Dbench.size=5
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(properties = "logging.level.org.hibernate=warn")
+@Sql("classpath:db/teardown.sql")
+class TransactionPaginationBenchmark extends DummyObject {
+
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private TransactionRepository transactionRepository;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void offset_vs_keyset_benchmark() throws Exception {
+		int page = BenchmarkSupport.intProperty("page", 10_000);
+		int size = BenchmarkSupport.intProperty("size", 5);
+		int iterations = BenchmarkSupport.intProperty("iterations", 50);
+
+		User user = userRepository.save(newUser("bench", "bench user"));
+		Account target = accountRepository.save(newAccount(5000L, user));
+		Account other = accountRepository.save(newAccount(5001L, user));
+		insertTransactions(target, other, (page + 1) * size);
+		Long accountId = target.getId();
+
+		// 키셋 방식에서 page 번째 페이지를 조회하려면 직전 페이지의 마지막 Id 가 필요하다.
+		List<Transaction> previousPage = transactionRepository.findTransactionList(accountId, TransactionFilter.ALL, page - 1, size);
+		Long lastId = previousPage.get(previousPage.size() - 1).getId();
+
+		BenchmarkSupport.measure("offset-page-0", 5, iterations,
+				(t, i) -> read(() -> transactionRepository.findTransactionList(accountId, TransactionFilter.ALL, 0, size)));
+		BenchmarkSupport.measure("offset-page-" + page, 5, iterations,
+				(t, i) -> read(() -> transactionRepository.findTransactionList(accountId, TransactionFilter.ALL, page, size)));
+		BenchmarkSupport.measure("keyset-page-0", 5, iterations,
+				(t, i) -> read(() -> transactionRepository.findTransactionListAfter(accountId, TransactionFilter.ALL, null, size)));
+		BenchmarkSupport.measure("keyset-page-" + page, 5, iterations,
+				(t, i) -> read(() -> transactionRepository.findTransactionListAfter(accountId, TransactionFilter.ALL, lastId, size)));
+	}
+
+	private void read(Supplier<List<Transaction>> query) {
+		transactionTemplate.execute(status -> query.get());
+	}
+
+	/**
+	 * 조회 대상 계좌의 입금 내역과 다른 계좌의 입금 내역을 번갈아 넣는다.
+	 */
+	private void insertTransactions(Account target, Account other, int count) {
+		int batch = 5_000;
+		for (int start = 0; start < count; start += batch) {
+			List<Transaction> transactions = new ArrayList<>(batch * 2);
+			for (int i = start; i < Math.min(count, start + batch); i++) {
+				transactions.add(depositOf(target, i));
+				transactions.add(depositOf(other, i));
+			}
+			transactionTemplate.executeWithoutResult(status -> transactionRepository.saveAll(transactions));
+		}
+		log.info("[벤치마크] 거래내역 {} 건 생성", count * 2);
+	}
+
+	private static Transaction depositOf(Account account, int index) {
+		return Transaction.builder()
+				.depositAccount(account)
+				.depositAccountBalance(1000L + index)
+				.amount(1L)
+				.type(TransactionEnum.DEPOSIT)
+				.sender("ATM")
+				.receiver(String.valueOf(account.getNumber()))
+				.tel("010-0000-0000")
+				.build();
+	}
+
+}
@@ -0,0 +1,84 @@
+package com.example.banksample.benchmark;
+
+import com.example.banksample.domain.transaction.Transaction;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 거래내역 조회 쿼리를 만드는 비용(실행 제외)을 비교한다.
+ * string-built: 호출마다 JPQL 문자열을 이어 붙이고 createQuery 로 생성 (변경 전)
+ * named: 시작 시점에 등록된 NamedQuery 를 createNamedQuery 로 생성
+ * <p>
+ * 실행: ./gradlew benchmark --tests '*TransactionQueryConstructionBenchmark' -Dbench.iterations=200000
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(properties = "logging.level.org.hibernate=warn")
+class TransactionQueryConstructionBenchmark {
+
+	private static final String[] TYPES = {"WITHDRAW", "DEPOSIT", "ALL"};
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void query_construction_benchmark() throws Exception {
+		int iterations = BenchmarkSupport.intProperty("iterations", 200_000);
+		EntityManager em = entityManagerFactory.createEntityManager();
+		try {
+			BenchmarkSupport.measure("string-built", 20_000, iterations, (t, i) -> {
+				String type = TYPES[i % TYPES.length];
+				TypedQuery<Transaction> query = em.createQuery(legacyJpql(type), Transaction.class);
+				query.setParameter("accountId", 1L);
+				query.setFirstResult(0);
+				query.setMaxResults(5);
+			});
+
+			BenchmarkSupport.measure("named", 20_000, iterations, (t, i) -> {
+				String name = i % 2 == 0 ? Transaction.FIND_WITHDRAW_LIST : Transaction.FIND_DEPOSIT_LIST;
+				TypedQuery<Transaction> query = em.createNamedQuery(name, Transaction.class);
+				query.setParameter("accountId", 1L);
+				query.setParameter("beforeId", Long.MAX_VALUE);
+				query.setMaxResults(5);
+			});
+		} finally {
+			em.close();
+		}
+	}
+
+	/**
+	 * 변경 전 TransactionRepositoryImpl.getString 과 같은 방식으로 JPQL 을 만든다.
+	 */
+	private static String legacyJpql(String type) {
+		String sql = "";
+		sql += "SELECT t FROM Transaction t ";
+
+		switch (type) {
+			case "WITHDRAW" -> {
+				sql += "JOIN FETCH t.withdrawAccount wa ";
+				sql += "WHERE t.withdrawAccount.id = :accountId";
+			}
+			case "DEPOSIT" -> {
+				sql += "JOIN FETCH t.depositAccount da ";
+				sql += "WHERE t.depositAccount.id = :accountId";
+			}
+			default -> {
+				sql += "LEFT JOIN FETCH t.withdrawAccount wa ";
+				sql += "LEFT JOIN FETCH t.depositAccount da ";
+				sql += "WHERE t.withdrawAccount.id = :accountId ";
+				sql += "OR ";
+				sql += "t.depositAccount.id = :accountId";
+			}
+		}
+		return sql;
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.example.banksample.benchmark;
+
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.dto.transaction.TransactionFilter;
+import com.example.banksample.repository.AccountRepository;
+import com.example.banksample.repository.TransactionRepository;
+import com.example.banksample.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static com.example.banksample.dto.transaction.TransactionResponseDTO.TransactionListResponseDTO;
+
+/**
+ * 거래내역 목록 1회 조회(조회 + DTO 변환)당 할당량과 지연시간을 비교한다.
+ * entity: 엔티티 + 계좌 JOIN FETCH 로 조회한 뒤 DTO 로 변환 (변경 전)
+ * projection: 필요한 컬럼만 생성자 표현식으로 조회한 뒤 DTO 로 변환
+ * 할당량은 측정 스레드의 ThreadMXBean 할당 바이트로 구한다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests '*TransactionReadAllocationBenchmark' -Dbench.size=100
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(properties = "logging.level.org.hibernate=warn")
+@Sql("classpath:db/teardown.sql")
+class TransactionReadAllocationBenchmark extends DummyObject {
+
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private TransactionRepository transactionRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void entity_vs_projection_allocation_benchmark() throws Exception {
+		int size = BenchmarkSupport.intProperty("size", 100);
+		int iterations = BenchmarkSupport.intProperty("iterations", 2_000);
+
+		User user = userRepository.save(newUser("bench", "bench user"));
+		Account account = accountRepository.save(newAccount(5000L, user));
+		Account other = accountRepository.save(newAccount(5001L, user));
+		new TransactionDataGenerator(jdbcTemplate).generate(List.of(account.getId(), other.getId()), size * 20);
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+		BenchmarkSupport.measure("entity-read", 200, iterations, (t, i) -> transactionTemplate.execute(status ->
+				new TransactionListResponseDTO(account, transactionRepository.findTransactionList(account.getId(), TransactionFilter.ALL, 0, size))));
+		BenchmarkSupport.measure("projection-read", 200, iterations, (t, i) -> transactionTemplate.execute(status ->
+				new TransactionListResponseDTO(transactionRepository.findTransactionProjectionList(account.getId(), TransactionFilter.ALL, 0, size), null)));
+	}
+
+}
@@ -0,0 +1,123 @@
+package com.example.banksample.benchmark;
+
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.repository.AccountRepository;
+import com.example.banksample.repository.UserRepository;
+import com.example.banksample.service.AccountServiceV1;
+import com.example.banksample.service.InMemoryBalanceEngine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.example.banksample.dto.account.AccountRequestDTO.TransferAccountRequestDTO;
+
+/**
+ * 이체 처리 방식(잠금 방식)별 처리량과 충돌 재시도/실패 비율을 비교한다.
+ * hot: 2개 계좌 사이에서만 이체 (경합 최대)
+ * uniform: 100개 계좌 중 임의의 두 계좌 사이에서 이체
+ * <p>
+ * 실행: ./gradlew benchmark --tests '*TransferContentionBenchmark' -Dbench.threads=32 -Dbench.ops=200
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@Sql("classpath:db/teardown.sql")
+abstract class TransferContentionBenchmark extends DummyObject {
+
+	private static final long INITIAL_BALANCE = 1_000_000_000L;
+
+	@Autowired
+	protected AccountServiceV1 accountServiceV1;
+	@Autowired
+	protected UserRepository userRepository;
+	@Autowired
+	protected AccountRepository accountRepository;
+	@Autowired
+	protected InMemoryBalanceEngine inMemoryBalanceEngine;
+	@Autowired
+	protected MeterRegistry meterRegistry;
+
+	protected abstract String mode();
+
+	@Test
+	void hot_accounts_benchmark() throws Exception {
+		run("hot", 2);
+	}
+
+	@Test
+	void uniform_accounts_benchmark() throws Exception {
+		run("uniform", 100);
+	}
+
+	private void run(String distribution, int accountCount) throws Exception {
+		int threads = BenchmarkSupport.intProperty("threads", 16);
+		int ops = BenchmarkSupport.intProperty("ops", 200);
+
+		User user = userRepository.save(newUser("bench", "bench user"));
+		List<Long> numbers = new ArrayList<>();
+		for (int i = 0; i < accountCount; i++) {
+			long number = 5000L + i;
+			accountRepository.save(Account.builder()
+					.number(number)
+					.password(1234L)
+					.balance(INITIAL_BALANCE)
+					.user(user)
+					.build());
+			// 이전 테스트에서 메모리에 올라간 같은 계좌번호를 제거한다.
+			inMemoryBalanceEngine.evict(number);
+			numbers.add(number);
+		}
+
+		double retriesBefore = count("bank.account.conflict.retries");
+		double abortsBefore = count("bank.account.conflict.aborts");
+
+		BenchmarkSupport.Result result = BenchmarkSupport.runConcurrently(mode() + "-" + distribution, threads, ops, (t, i) -> {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			int from = random.nextInt(accountCount);
+			int to = (from + 1 + random.nextInt(accountCount - 1)) % accountCount;
+
+			TransferAccountRequestDTO dto = new TransferAccountRequestDTO();
+			dto.setWithdrawNumber(numbers.get(from));
+			dto.setDepositNumber(numbers.get(to));
+			dto.setWithdrawPassword(1234L);
+			dto.setAmount(1L);
+			dto.setType("TRANSFER");
+			accountServiceV1.transferAccount(dto, user.getId());
+		});
+
+		// 비동기 반영이 끝날 때까지 기다린다.
+		while (inMemoryBalanceEngine.getPendingCount() > 0) {
+			inMemoryBalanceEngine.flush();
+		}
+
+		// 동시성 제어가 올바르다면 잔액 합계 오차는 0 이어야 한다.
+		long total = 0;
+		for (Long number : numbers) {
+			total += accountRepository.findByNumber(number).orElseThrow().getBalance();
+		}
+		long drift = total - INITIAL_BALANCE * accountCount;
+		log.info("[벤치마크] {} 잔액 합계 오차 -> {}, 성공한 이체 -> {}", result.getName(), drift, result.getOperations() - result.getErrors());
+
+		double retries = count("bank.account.conflict.retries") - retriesBefore;
+		double aborts = count("bank.account.conflict.aborts") - abortsBefore;
+		log.info("[벤치마크] {} 재시도 -> {} ({}/op), 재시도 소진 실패 -> {} ({}%)", result.getName(),
+				(long) retries, String.format("%.3f", retries / result.getOperations()),
+				(long) aborts, String.format("%.2f", aborts * 100 / result.getOperations()));
+	}
+
+	private double count(String name) {
+		return meterRegistry.find(name).counters().stream().mapToDouble(Counter::count).sum();
+	}
+
+}
@@ -0,0 +1,19 @@
+package com.example.banksample.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * -PvirtualThreads 로 빌드해야 VirtualThreadConfig 가 포함된다.
+ * 그렇지 않으면 virtual 프로필의 커넥션 풀, 연결 수 설정만 적용된 플랫폼 스레드 결과가 나온다.
+ */
+@ActiveProfiles("virtual")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "logging.level.com.example.banksample=warn")
+class VirtualThreadConcurrentClientsLoadBenchmark extends ConcurrentClientsLoadBenchmark {
+
+	@Override
+	protected String mode() {
+		return "virtual-threads";
+	}
+
+}
@@ -0,0 +1,84 @@
+package com.example.banksample.handler.aop;
+
+import com.example.banksample.config.AccountProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ConflictRetryAdviceTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final AccountProperties accountProperties = new AccountProperties();
+	private ConflictingService proxy;
+	private ConflictingService target;
+
+	@BeforeEach
+	void init() {
+		accountProperties.getRetry().setMaxAttempts(3);
+		accountProperties.getRetry().setBackoffMs(1);
+
+		target = new ConflictingService();
+		AspectJProxyFactory factory = new AspectJProxyFactory(target);
+		factory.addAspect(new ConflictRetryAdvice(accountProperties, meterRegistry));
+		proxy = factory.getProxy();
+	}
+
+	@Test
+	void retry_success_test() {
+		// given
+		target.failures = 2;
+
+		// when
+		String result = proxy.call();
+
+		// then
+		Assertions.assertThat(result).isEqualTo("ok");
+		Assertions.assertThat(target.calls.get()).isEqualTo(3);
+		Assertions.assertThat(meterRegistry.counter("bank.account.conflict.retries", "method", "call").count()).isEqualTo(2.0);
+	}
+
+	@Test
+	void retry_exhausted_test() {
+		// given
+		target.failures = 5;
+
+		// when, then
+		Assertions.assertThatThrownBy(() -> proxy.call())
+				.isInstanceOf(ObjectOptimisticLockingFailureException.class);
+		Assertions.assertThat(target.calls.get()).isEqualTo(3);
+		Assertions.assertThat(meterRegistry.counter("bank.account.conflict.aborts", "method", "call").count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void backoff_overflow_test() {
+		// given
+		AccountProperties.Retry retry = accountProperties.getRetry();
+		retry.setBackoffMs(10);
+		retry.setMaxBackoffMs(200);
+
+		// when, then
+		Assertions.assertThat(ConflictRetryAdvice.backoffMs(retry, 1)).isEqualTo(10);
+		Assertions.assertThat(ConflictRetryAdvice.backoffMs(retry, 3)).isEqualTo(40);
+		Assertions.assertThat(ConflictRetryAdvice.backoffMs(retry, 60)).isEqualTo(200);
+		Assertions.assertThat(ConflictRetryAdvice.backoffMs(retry, 65)).isEqualTo(200);
+	}
+
+	static class ConflictingService {
+		private final AtomicInteger calls = new AtomicInteger();
+		private int failures;
+
+		@RetryOnConflict
+		public String call() {
+			if (calls.incrementAndGet() <= failures) {
+				throw new ObjectOptimisticLockingFailureException("Account", 1L);
+			}
+			return "ok";
+		}
+	}
+
+}
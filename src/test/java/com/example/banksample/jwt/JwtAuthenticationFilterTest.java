@@ -82,6 +82,10 @@ class JwtAuthenticationFilterTest extends DummyObject {
 			.startsWith(JwtTokenVO.TOKEN_PREFIX);
 		// 4. 응답의 data.username 이 테스트 데이터로 입력한 값과 동일한 값인지 확인
 		resultActions.andExpect(jsonPath("$.data.username").value("jeongjin"));
+		// 5. 재발급에 사용할 리프레시 토큰이 함께 발급되었는지 확인
+		resultActions.andExpect(jsonPath("$.data.refresh_token").isNotEmpty());
+		// 6. 기존 필드 이름(createdAt)은 바뀌지 않는다.
+		resultActions.andExpect(jsonPath("$.data.createdAt").isNotEmpty());
 	}
 
 	@Test
@@ -110,4 +114,29 @@ class JwtAuthenticationFilterTest extends DummyObject {
 		// 로그인 실패 시, 401 에러 코드를 반환하는 지 여부를 확인한다.
 		resultActions.andExpect(status().isUnauthorized());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 접두사 없이 저장된 기존 BCrypt 해시로도 로그인할 수 있고,
+	 * 로그인에 성공하면 현재 설정({bcrypt} 접두사, 설정된 cost)으로 다시 저장된다.
+	 */
+	@Test
+	@DisplayName("로그인 성공 시 비밀번호 재해시")
+	void rehash_on_login_test() throws Exception {
+		// given
+		String legacyPassword = userRepository.findByUsername("jeongjin").orElseThrow().getPassword();
+		String requestBody = om.writeValueAsString(new UserRequestDTO.LoginRequestDTO("jeongjin", "1234"));
+
+		// when
+		ResultActions resultActions = mockMvc
+			.perform(post("/api/login")
+				.content(requestBody)
+				.contentType(MediaType.APPLICATION_JSON)
+			);
+
+		// then
+		resultActions.andExpect(status().isOk());
+		Assertions.assertThat(legacyPassword).doesNotStartWith("{bcrypt}");
+		Assertions.assertThat(userRepository.findByUsername("jeongjin").orElseThrow().getPassword())
+			.startsWith("{bcrypt}$2a$10$");
+	}
+}
@@ -26,6 +26,8 @@ class JwtAuthorizationFilterTest {
 
 	@Autowired
 	private MockMvc mockMvc;
+	@Autowired
+	private JwtProcess jwtProcess;
 
 	@Test
 	@DisplayName("인증 성공 but 404 (토큰 존재)")
@@ -33,7 +35,7 @@ class JwtAuthorizationFilterTest {
 		// given
 		User user = User.builder().id(1L).role(UserEnum.CUSTOMER).build();
 		LoginUser loginUser = new LoginUser(user);
-		String jwtToken = JwtProcess.createToken(loginUser);
+		String jwtToken = jwtProcess.createToken(loginUser);
 
 		// when
 		ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.get("/api/test/hello").header(JwtTokenVO.TOKEN_HEADER, jwtToken));
@@ -60,7 +62,7 @@ class JwtAuthorizationFilterTest {
 		// given
 		User user = User.builder().id(1L).role(UserEnum.ADMIN).build();
 		LoginUser loginUser = new LoginUser(user);
-		String jwtToken = JwtProcess.createToken(loginUser);
+		String jwtToken = jwtProcess.createToken(loginUser);
 
 		// when
 		ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/hello").header(JwtTokenVO.TOKEN_HEADER, jwtToken));
@@ -75,7 +77,7 @@ class JwtAuthorizationFilterTest {
 		// given
 		User user = User.builder().id(1L).role(UserEnum.CUSTOMER).build();
 		LoginUser loginUser = new LoginUser(user);
-		String jwtToken = JwtProcess.createToken(loginUser);
+		String jwtToken = jwtProcess.createToken(loginUser);
 
 		// when
 		ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/hello").header(JwtTokenVO.TOKEN_HEADER, jwtToken));
@@ -0,0 +1,78 @@
+package com.example.banksample.jwt;
+
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static com.example.banksample.dto.user.UserRequestDTO.LoginRequestDTO;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 사용자명별 한도를 2회로 줄여서, 3번째 시도부터 비밀번호와 상관없이 429 로 응답하는지 확인한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK, properties = {
+	"bank.login.rate-limit.enabled=true",
+	"bank.login.rate-limit.username.capacity=2",
+	"bank.login.rate-limit.username.refill-per-minute=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Sql("classpath:db/teardown.sql")
+class LoginRateLimitTest extends DummyObject {
+
+	@Autowired
+	private ObjectMapper om;
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@BeforeEach
+	void init() {
+		userRepository.save(newUser("jeongjin", "kim jeongjin"));
+	}
+
+	@Test
+	@DisplayName("사용자명별 로그인 시도 제한")
+	void throttle_by_username_test() throws Exception {
+		// given
+		login("throttled", "12345");
+		login("throttled", "12345");
+
+		// when
+		ResultActions resultActions = login("throttled", "1234");
+
+		// then
+		resultActions.andExpect(status().isTooManyRequests());
+		resultActions.andExpect(jsonPath("$.code").value(-1));
+		Assertions.assertThat(meterRegistry.get("bank.login.rate-limit").tag("key", "username").tag("result", "throttled").counter().count())
+			.isEqualTo(1.0);
+		// 다른 사용자명은 영향을 받지 않는다.
+		login("jeongjin", "1234").andExpect(status().isOk());
+	}
+
+	private ResultActions login(String username, String password) throws Exception {
+		String requestBody = om.writeValueAsString(new LoginRequestDTO(username, password));
+		return mockMvc.perform(post("/api/login")
+			.content(requestBody)
+			.contentType(MediaType.APPLICATION_JSON));
+	}
+
+}
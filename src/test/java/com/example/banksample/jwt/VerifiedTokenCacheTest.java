@@ -0,0 +1,100 @@
+package com.example.banksample.jwt;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.example.banksample.auth.LoginUser;
+import com.example.banksample.config.JwtProperties;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.domain.user.UserEnum;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+
+/**
+ * 토큰 만료 시간, 접두사를 환경변수에서 읽어오기 때문에 @SpringBootTest 로 진행한다.
+ * 공유 빈의 상태를 바꾸지 않도록 캐시와 JwtProcess 는 테스트마다 새로 만든다.
+ */
+@SpringBootTest
+@Sql("classpath:db/teardown.sql")
+@ActiveProfiles("test")
+class VerifiedTokenCacheTest {
+
+	private JwtProcess jwtProcess;
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void init() {
+		jwtProcess = new JwtProcess("cache-test-secret", null, new JwtKeyRing(new JwtProperties()));
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	private String createToken() {
+		User user = User.builder().id(1L).role(UserEnum.CUSTOMER).build();
+		return jwtProcess.createToken(new LoginUser(user)).replace(JwtTokenVO.TOKEN_PREFIX, "");
+	}
+
+	private VerifiedTokenCache newCache(boolean enabled) {
+		JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.getCache().setEnabled(enabled);
+		return new VerifiedTokenCache(jwtProcess, jwtProperties, meterRegistry);
+	}
+
+	@Test
+	void verify_cache_hit_test() {
+		// given
+		VerifiedTokenCache verifiedTokenCache = newCache(true);
+		String token = createToken();
+
+		// when
+		LoginUser first = verifiedTokenCache.verify(token);
+		LoginUser second = verifiedTokenCache.verify(token);
+
+		// then
+		Assertions.assertThat(second).isSameAs(first);
+		Assertions.assertThat(second.getUser().getId()).isEqualTo(1L);
+		Assertions.assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+		Assertions.assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+	}
+
+	/**
+	 * 키 링에서 서명 키가 폐기되면 캐시에 남아있는 결과를 사용하지 않고 다시 검증한다.
+	 */
+	@Test
+	void verify_after_key_retired_test() {
+		// given
+		JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setAlgorithm(JwtProperties.SigningAlgorithm.ES256);
+		jwtProperties.getKeyRing().setRetainedKeys(1);
+		JwtKeyRing keyRing = new JwtKeyRing(jwtProperties);
+		jwtProcess = new JwtProcess("unused-secret", null, keyRing);
+		VerifiedTokenCache verifiedTokenCache = newCache(true);
+		String token = createToken();
+		verifiedTokenCache.verify(token);
+
+		// when
+		keyRing.rotate();
+
+		// then
+		Assertions.assertThatThrownBy(() -> verifiedTokenCache.verify(token))
+				.isInstanceOf(JWTVerificationException.class);
+	}
+
+	@Test
+	void verify_cache_disabled_test() {
+		// given
+		VerifiedTokenCache verifiedTokenCache = newCache(false);
+		String token = createToken();
+
+		// when
+		verifiedTokenCache.verify(token);
+		verifiedTokenCache.verify(token);
+
+		// then
+		Assertions.assertThat(verifiedTokenCache.size()).isZero();
+	}
+
+}
@@ -0,0 +1,86 @@
+package com.example.banksample.outbox;
+
+import com.example.banksample.config.OutboxProperties;
+import com.example.banksample.domain.outbox.LedgerOutbox;
+import com.example.banksample.repository.LedgerOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerOutboxRelayTest {
+
+	@Mock
+	private LedgerOutboxRepository ledgerOutboxRepository;
+	@Mock
+	private LedgerEventSink ledgerEventSink;
+
+	private SimpleMeterRegistry meterRegistry;
+	private LedgerOutboxRelay ledgerOutboxRelay;
+
+	@BeforeEach
+	void init() {
+		meterRegistry = new SimpleMeterRegistry();
+		TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+		ledgerOutboxRelay = new LedgerOutboxRelay(ledgerOutboxRepository, ledgerEventSink, transactionTemplate, new OutboxProperties(), meterRegistry);
+	}
+
+	/**
+	 * 전달에 실패한 이벤트는 삭제하지 않고, 다음 주기에 다시 전달한다.
+	 */
+	@Test
+	void publish_failure_retry_test() throws Exception {
+		// given
+		LedgerOutbox outbox = mock(LedgerOutbox.class);
+		when(outbox.getId()).thenReturn(1L);
+		when(outbox.getCreatedAt()).thenReturn(LocalDateTime.now());
+		when(ledgerOutboxRepository.findBatchAfter(eq(0L), any())).thenReturn(List.of(outbox));
+		doThrow(new IOException("sink down")).doNothing().when(ledgerEventSink).publish(anyList());
+
+		// when
+		int failed = ledgerOutboxRelay.relay();
+		int retried = ledgerOutboxRelay.relay();
+
+		// then
+		Assertions.assertThat(failed).isZero();
+		Assertions.assertThat(retried).isEqualTo(1);
+		verify(ledgerEventSink, times(2)).publish(anyList());
+		verify(ledgerOutboxRepository).deleteByIdIn(List.of(1L));
+		Assertions.assertThat(meterRegistry.get("bank.outbox.failures").counter().count()).isEqualTo(1.0);
+		Assertions.assertThat(meterRegistry.get("bank.outbox.published").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void empty_outbox_test() throws Exception {
+		// given
+		when(ledgerOutboxRepository.findBatchAfter(eq(0L), any())).thenReturn(List.of());
+
+		// when
+		int relayed = ledgerOutboxRelay.relay();
+
+		// then
+		Assertions.assertThat(relayed).isZero();
+		verify(ledgerEventSink, never()).publish(anyList());
+	}
+
+}
@@ -0,0 +1,98 @@
+package com.example.banksample.outbox;
+
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.transaction.TransactionEnum;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.handler.exception.CustomApiException;
+import com.example.banksample.repository.AccountRepository;
+import com.example.banksample.repository.LedgerOutboxRepository;
+import com.example.banksample.repository.UserRepository;
+import com.example.banksample.service.AccountServiceV1;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.example.banksample.dto.account.AccountRequestDTO.AccountDepositRequestDTO;
+import static com.example.banksample.dto.account.AccountRequestDTO.WithdrawAccountRequestDTO;
+import static com.example.banksample.dto.account.AccountResponseDTO.AccountDepositResponseDTO;
+
+/**
+ * 거래내역과 원장 이벤트가 같은 트랜잭션에서 저장되고, relay 가 전달한 뒤 삭제하는지 확인한다.
+ * 전달된 이벤트를 꺼내 보기 위해 broker sink 를 사용하고, 스케줄러가 먼저 전달하지 않도록 주기를 길게 둔다.
+ */
+@SpringBootTest(properties = {
+		"bank.outbox.sink=broker",
+		"bank.outbox.relay-interval-ms=3600000"
+})
+@Sql("classpath:db/teardown.sql")
+@ActiveProfiles("test")
+class LedgerOutboxTest extends DummyObject {
+
+	@Autowired
+	private AccountServiceV1 accountServiceV1;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private LedgerOutboxRepository ledgerOutboxRepository;
+	@Autowired
+	private LedgerOutboxRelay ledgerOutboxRelay;
+	@Autowired
+	private LedgerEventSink ledgerEventSink;
+
+	@Test
+	void deposit_relay_test() throws Exception {
+		// given
+		User user = userRepository.save(newUser("jeongjin", "kim jeongjin"));
+		Account account = accountRepository.save(newAccount(1111L, user));
+		AccountDepositRequestDTO accountDepositRequestDTO = new AccountDepositRequestDTO();
+		accountDepositRequestDTO.setNumber(1111L);
+		accountDepositRequestDTO.setAmount(100L);
+		accountDepositRequestDTO.setType("DEPOSIT");
+		accountDepositRequestDTO.setTel("01012345678");
+		AccountDepositResponseDTO response = accountServiceV1.depositAccount(accountDepositRequestDTO);
+		Assertions.assertThat(ledgerOutboxRepository.count()).isEqualTo(1);
+
+		// when
+		int relayed = ledgerOutboxRelay.relay();
+
+		// then
+		Assertions.assertThat(relayed).isEqualTo(1);
+		Assertions.assertThat(ledgerOutboxRepository.count()).isZero();
+		LedgerEvent event = ((LocalBrokerLedgerEventSink) ledgerEventSink).poll(1, TimeUnit.SECONDS);
+		Assertions.assertThat(event.getTransactionId()).isEqualTo(response.getTransaction().getId());
+		Assertions.assertThat(event.getType()).isEqualTo(TransactionEnum.DEPOSIT);
+		Assertions.assertThat(event.getDepositAccountId()).isEqualTo(account.getId());
+		Assertions.assertThat(event.getDepositBalance()).isEqualTo(1100L);
+	}
+
+	/**
+	 * 실패한 거래는 원장 이벤트를 남기지 않는다.
+	 */
+	@Test
+	void withdraw_rollback_test() {
+		// given
+		User user = userRepository.save(newUser("jeongjin", "kim jeongjin"));
+		accountRepository.save(newAccount(1111L, user));
+		WithdrawAccountRequestDTO withdrawAccountRequestDTO = new WithdrawAccountRequestDTO();
+		withdrawAccountRequestDTO.setNumber(1111L);
+		withdrawAccountRequestDTO.setPassword(1234L);
+		withdrawAccountRequestDTO.setAmount(100_000L);
+		withdrawAccountRequestDTO.setType("WITHDRAW");
+
+		// when
+		Assertions.assertThatThrownBy(() -> accountServiceV1.withdrawAccount(withdrawAccountRequestDTO, user.getId()))
+				.isInstanceOf(CustomApiException.class);
+
+		// then
+		Assertions.assertThat(ledgerOutboxRepository.count()).isZero();
+	}
+
+}
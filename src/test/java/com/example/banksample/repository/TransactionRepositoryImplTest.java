@@ -4,16 +4,24 @@ import com.example.banksample.config.dummy.DummyObject;
 import com.example.banksample.domain.account.Account;
 import com.example.banksample.domain.transaction.Transaction;
 import com.example.banksample.domain.user.User;
+import com.example.banksample.dto.transaction.TransactionDTO;
+import com.example.banksample.dto.transaction.TransactionFilter;
+import com.example.banksample.repository.projection.TransactionProjection;
 import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import static com.example.banksample.dto.transaction.TransactionResponseDTO.TransactionListResponseDTO;
+
 
 /**
  * 데이터베이스 관련 Bean 들을 불러오는 어노테이션을 사용한다.
@@ -49,7 +57,7 @@ class TransactionRepositoryImplTest extends DummyObject {
 		// given
 		Long accountId = 1L;
 		// when
-		List<Transaction> transactions = transactionRepository.findTransactionList(accountId, "ALL", 0);
+		List<Transaction> transactions = transactionRepository.findTransactionList(accountId, TransactionFilter.ALL, 0, 5);
 		for (Transaction transaction : transactions) {
 			log.info("id:[{}] type -> {}", transaction.getId(), transaction.getType());
 			log.info("id:[{}] amount -> {}", transaction.getId(), transaction.getAmount());
@@ -62,6 +70,65 @@ class TransactionRepositoryImplTest extends DummyObject {
 
 	}
 
+	/**
+	 * 키셋 조회 결과는 같은 위치의 OFFSET 조회 결과와 같아야 한다.
+	 */
+	@Test
+	void find_transaction_list_after_test() {
+		// given
+		Long accountId = accountRepository.findByNumber(1001L).orElseThrow().getId();
+		List<Transaction> all = transactionRepository.findTransactionList(accountId, TransactionFilter.ALL, 0, 100);
+		List<Transaction> secondPage = transactionRepository.findTransactionList(accountId, TransactionFilter.ALL, 1, 2);
+
+		// when
+		List<Transaction> transactions = transactionRepository.findTransactionListAfter(accountId, TransactionFilter.ALL, all.get(1).getId(), 2);
+
+		// then
+		Assertions.assertThat(all).hasSize(6);
+		Assertions.assertThat(transactions).extracting(Transaction::getId)
+				.containsExactlyElementsOf(secondPage.stream().map(Transaction::getId).toList());
+	}
+
+	/**
+	 * 프로젝션 조회에서 쿼리로 계산한 잔액은 엔티티로 계산한 잔액과 같아야 한다.
+	 */
+	@Test
+	void find_transaction_projection_list_test() {
+		// given
+		Account account = accountRepository.findByNumber(1001L).orElseThrow();
+		List<Transaction> entities = transactionRepository.findTransactionList(account.getId(), TransactionFilter.ALL, 0, 100);
+
+		// when
+		List<TransactionProjection> projections = transactionRepository.findTransactionProjectionList(account.getId(), TransactionFilter.ALL, 0, 100);
+
+		// then
+		TransactionListResponseDTO expected = new TransactionListResponseDTO(account, entities);
+		TransactionListResponseDTO actual = new TransactionListResponseDTO(projections, null);
+		Assertions.assertThat(actual.getTransactions())
+				.extracting(TransactionDTO::getId, TransactionDTO::getBalance)
+				.containsExactlyElementsOf(expected.getTransactions().stream()
+						.map(dto -> Assertions.tuple(dto.getId(), dto.getBalance())).toList());
+	}
+
+	/**
+	 * 내보내기 스트림은 묶음 크기와 상관없이 전체 거래내역을 오래된 순으로 한 번씩 반환해야 한다.
+	 */
+	@Test
+	void stream_projection_by_account_id_test() {
+		// given
+		Account account = accountRepository.findByNumber(1001L).orElseThrow();
+		List<TransactionProjection> expected = new ArrayList<>(transactionRepository.findTransactionProjectionList(account.getId(), TransactionFilter.ALL, 0, 100));
+		Collections.reverse(expected);
+
+		// when
+		List<TransactionProjection> oldestFirst = new TransactionRepositoryImpl(em).streamProjectionByAccountId(account.getId(), 2).toList();
+
+		// then
+		Assertions.assertThat(oldestFirst)
+				.extracting(TransactionProjection::getId, TransactionProjection::getBalance)
+				.containsExactlyElementsOf(expected.stream()
+						.map(projection -> Assertions.tuple(projection.getId(), projection.getBalance())).toList());
+	}
 
 	@Test
 	void data_test() {
@@ -115,14 +182,14 @@ class TransactionRepositoryImplTest extends DummyObject {
 
 
 	/**
-	 * PK 값을 1로 초기화 시킨다.
+	 * PK 시퀀스를 1로 초기화 시킨다.
 	 * {@code @DataJpaTest} 이 포함하고 있는 {@code @Transactional} 어노테이션 때문에
 	 * TRUNCATE 해도 테이블이 초기화되지 않는다.
 	 */
 	private void autoIncrementReset() {
-		em.createNativeQuery("ALTER TABLE tbl_user ALTER COLUMN id RESTART WITH 1").executeUpdate();
-		em.createNativeQuery("ALTER TABLE tbl_account ALTER COLUMN id RESTART WITH 1").executeUpdate();
-		em.createNativeQuery("ALTER TABLE tbl_transaction ALTER COLUMN id RESTART WITH 1").executeUpdate();
+		em.createNativeQuery("ALTER SEQUENCE tbl_user_seq RESTART WITH 1").executeUpdate();
+		em.createNativeQuery("ALTER SEQUENCE tbl_account_seq RESTART WITH 1").executeUpdate();
+		em.createNativeQuery("ALTER SEQUENCE tbl_transaction_seq RESTART WITH 1").executeUpdate();
 	}
 
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.banksample.service;
 
+import com.example.banksample.config.AccountProperties;
 import com.example.banksample.config.dummy.DummyObject;
 import com.example.banksample.domain.account.Account;
 import com.example.banksample.domain.transaction.Transaction;
@@ -9,8 +10,10 @@ import com.example.banksample.handler.exception.CustomApiException;
 import com.example.banksample.repository.AccountRepository;
 import com.example.banksample.repository.TransactionRepository;
 import com.example.banksample.repository.UserRepository;
+import com.example.banksample.repository.projection.AccountProjection;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -20,12 +23,18 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.example.banksample.dto.account.AccountRequestDTO.*;
 import static com.example.banksample.dto.account.AccountResponseDTO.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,8 +49,18 @@ class AccountServiceV1Test extends DummyObject {
 	private AccountRepository accountRepository;
 	@Mock
 	private TransactionRepository transactionRepository;
+	@Mock
+	private UniqueKeyFilter uniqueKeyFilter;
+	@Mock
+	private LedgerRecorder ledgerRecorder;
+	@Mock
+	private DailyBalanceService dailyBalanceService;
 	@Spy
 	private ObjectMapper om;
+	@Spy
+	private AccountProperties accountProperties = new AccountProperties();
+	@Spy
+	private AccountSummaryCache accountSummaryCache = new AccountSummaryCache(new AccountProperties(), new SimpleMeterRegistry());
 
 
 	/**
@@ -61,6 +80,7 @@ class AccountServiceV1Test extends DummyObject {
 		when(userRepository.findById(any())).thenReturn(Optional.of(newMockUser));
 
 		// stub - 2
+		when(uniqueKeyFilter.mightContainAccountNumber(any())).thenReturn(true);
 		when(accountRepository.findByNumber(any())).thenReturn(Optional.empty());
 
 		// stub - 3
@@ -117,9 +137,9 @@ class AccountServiceV1Test extends DummyObject {
 		Long userId = 2L;
 
 		// stub - 1
-		User newMockuser = newMockUser(userId, "jeongjin", "kim jeongjin");
-		Account newMockAccount = newMockAccount(1L, 1001L, 1000L, newMockuser);
-		when(accountRepository.findByNumber(any())).thenReturn(Optional.of(newMockAccount));
+		// 다른 사용자의 계좌라서 삭제되지 않은 경우
+		when(accountRepository.deleteByNumberAndUserId(any(), any())).thenReturn(0);
+		when(accountRepository.existsByNumber(any())).thenReturn(true);
 
 		// when
 		Assertions.assertThatCode(() -> accountServiceV1.deleteAccount(number, userId))
@@ -163,7 +183,7 @@ class AccountServiceV1Test extends DummyObject {
 		 * */
 		Account newMockAccount2 = newMockAccount(1L, 1001L, 1000L, newMockuser);
 		Transaction newMockDepositTransaction = newMockDepositTransaction(1L, newMockAccount2);
-		when(transactionRepository.save(any())).thenReturn(newMockDepositTransaction);
+		when(ledgerRecorder.record(any(), any())).thenReturn(newMockDepositTransaction);
 
 		// when
 		// 입금
@@ -225,6 +245,60 @@ class AccountServiceV1Test extends DummyObject {
 
 	}
 
+	/**
+	 * 단일 UPDATE 입금 테스트
+	 * 엔티티를 조회하지 않고, UPDATE 이후 조회한 잔액이 거래내역에 기록되는지 확인한다.
+	 */
+	@Test
+	void deposit_atomic_update_test() {
+		// given
+		accountProperties.setAtomicUpdate(true);
+
+		AccountDepositRequestDTO accountDepositRequestDTO = new AccountDepositRequestDTO();
+		accountDepositRequestDTO.setNumber(1001L);
+		accountDepositRequestDTO.setAmount(100L);
+		accountDepositRequestDTO.setTel("010-1234-5678");
+		accountDepositRequestDTO.setType(String.valueOf(TransactionEnum.DEPOSIT));
+
+		// stub
+		when(accountRepository.increaseBalance(any(), any(), any())).thenReturn(1);
+		when(accountRepository.findProjectionByNumber(any())).thenReturn(Optional.of(new AccountProjection(1L, 1001L, 1L, 1234L, 1100L)));
+		when(ledgerRecorder.record(any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		AccountDepositResponseDTO accountDepositResponseDTO = accountServiceV1.depositAccount(accountDepositRequestDTO);
+
+		// then
+		Assertions.assertThat(accountDepositResponseDTO.getNumber()).isEqualTo(1001L);
+		Assertions.assertThat(accountDepositResponseDTO.getTransaction().getDepositAccountBalance()).isEqualTo(1100L);
+		verify(accountRepository, never()).findByNumber(any());
+	}
+
+	/**
+	 * 단일 UPDATE 출금 실패 테스트
+	 * 갱신된 row 가 없으면 계좌를 다시 조회해서 실패 사유를 판단한다.
+	 */
+	@Test
+	void withdraw_atomic_update_insufficient_balance_test() {
+		// given
+		accountProperties.setAtomicUpdate(true);
+
+		WithdrawAccountRequestDTO withdrawAccountRequestDTO = new WithdrawAccountRequestDTO();
+		withdrawAccountRequestDTO.setNumber(1001L);
+		withdrawAccountRequestDTO.setPassword(1234L);
+		withdrawAccountRequestDTO.setType(String.valueOf(TransactionEnum.WITHDRAW));
+		withdrawAccountRequestDTO.setAmount(2000L);
+
+		// stub
+		when(accountRepository.decreaseBalance(any(), any(), any(), any(), any())).thenReturn(0);
+		when(accountRepository.findProjectionByNumber(any())).thenReturn(Optional.of(new AccountProjection(1L, 1001L, 1L, 1234L, 1000L)));
+
+		// when, then
+		Assertions.assertThatThrownBy(() -> accountServiceV1.withdrawAccount(withdrawAccountRequestDTO, 1L))
+				.isInstanceOf(CustomApiException.class)
+				.hasMessage("계좌 잔액이 부족합니다.");
+	}
+
 	/**
 	 * 이체 테스트
 	 */
@@ -268,4 +342,50 @@ class AccountServiceV1Test extends DummyObject {
 		Assertions.assertThat(withdrawAccount.getBalance()).isEqualTo(900L);
 		Assertions.assertThat(depositAccount.getBalance()).isEqualTo(1100L);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 일괄 이체 테스트
+	 * 실패한 건은 건너뛰고, 성공한 건의 거래내역만 한 번에 저장한다.
+	 */
+	@Test
+	void transfer_accounts_batch_test() {
+		// given
+		User user1 = newMockUser(1L, "jeongjin", "kim jeongjin");
+		User user2 = newMockUser(2L, "bird", "king bird");
+		Account withdrawAccount = newMockAccount(1L, 1001L, 1000L, user1);
+		Account depositAccount = newMockAccount(2L, 2001L, 1000L, user2);
+
+		BatchTransferAccountRequestDTO batchTransferAccountRequestDTO = new BatchTransferAccountRequestDTO();
+		batchTransferAccountRequestDTO.setTransfers(List.of(
+				transferRequest(1001L, 2001L, 100L),
+				transferRequest(1001L, 2001L, 5000L),
+				transferRequest(1001L, 2001L, 200L)
+		));
+
+		// stub
+		when(accountRepository.findAllByNumberIn(any())).thenReturn(List.of(withdrawAccount, depositAccount));
+
+		// when
+		BatchTransferAccountResponseDTO responseDTO = accountServiceV1.transferAccounts(batchTransferAccountRequestDTO, 1L);
+
+		// then
+		Assertions.assertThat(responseDTO.getSuccessCount()).isEqualTo(2);
+		Assertions.assertThat(responseDTO.getFailureCount()).isEqualTo(1);
+		Assertions.assertThat(responseDTO.getResults().get(1).getMessage()).isEqualTo("계좌 잔액이 부족합니다.");
+		Assertions.assertThat(responseDTO.getResults().get(2).getBalance()).isEqualTo(700L);
+		Assertions.assertThat(withdrawAccount.getBalance()).isEqualTo(700L);
+		Assertions.assertThat(depositAccount.getBalance()).isEqualTo(1300L);
+		verify(ledgerRecorder).recordAll(anyList(), eq(Set.of(1L, 2L)));
+	}
+
+	private static TransferAccountRequestDTO transferRequest(Long withdrawNumber, Long depositNumber, Long amount) {
+		TransferAccountRequestDTO transferAccountRequestDTO = new TransferAccountRequestDTO();
+		transferAccountRequestDTO.setWithdrawNumber(withdrawNumber);
+		transferAccountRequestDTO.setDepositNumber(depositNumber);
+		transferAccountRequestDTO.setWithdrawPassword(1234L);
+		transferAccountRequestDTO.setAmount(amount);
+		transferAccountRequestDTO.setType("TRANSFER");
+		return transferAccountRequestDTO;
+	}
+
+}
@@ -0,0 +1,111 @@
+package com.example.banksample.service;
+
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.repository.AccountRepository;
+import com.example.banksample.repository.UserRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import static com.example.banksample.dto.account.AccountRequestDTO.AccountDepositRequestDTO;
+import static com.example.banksample.dto.account.AccountRequestDTO.TransferAccountRequestDTO;
+import static com.example.banksample.dto.account.AccountResponseDTO.AccountListResponseDTO;
+
+/**
+ * 계좌 목록이 캐시되고, 잔액이 바뀌면 커밋 후 관련 사용자의 캐시가 제거되는지 확인한다.
+ */
+@SpringBootTest(properties = "bank.account.summary-cache.enabled=true")
+@Sql("classpath:db/teardown.sql")
+@ActiveProfiles("test")
+class AccountSummaryCacheTest extends DummyObject {
+
+	@Autowired
+	private AccountServiceV1 accountServiceV1;
+	@Autowired
+	private AccountSummaryCache accountSummaryCache;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+
+	private User jeongjin;
+	private User cos;
+
+	@BeforeEach
+	void init() {
+		accountSummaryCache.invalidateAll();
+		jeongjin = userRepository.save(newUser("jeongjin", "kim jeongjin"));
+		cos = userRepository.save(newUser("cos", "cos"));
+		accountRepository.save(newAccount(1111L, jeongjin));
+		accountRepository.save(newAccount(2222L, cos));
+	}
+
+	@Test
+	void cache_hit_and_invalidate_on_deposit_test() {
+		// given
+		AccountListResponseDTO first = accountServiceV1.getAccountsByUser(jeongjin.getId());
+		AccountListResponseDTO second = accountServiceV1.getAccountsByUser(jeongjin.getId());
+		Assertions.assertThat(second).usingRecursiveComparison().isEqualTo(first);
+
+		// when
+		AccountDepositRequestDTO accountDepositRequestDTO = new AccountDepositRequestDTO();
+		accountDepositRequestDTO.setNumber(1111L);
+		accountDepositRequestDTO.setAmount(100L);
+		accountDepositRequestDTO.setType("DEPOSIT");
+		accountDepositRequestDTO.setTel("01012345678");
+		accountServiceV1.depositAccount(accountDepositRequestDTO);
+
+		// then
+		AccountListResponseDTO third = accountServiceV1.getAccountsByUser(jeongjin.getId());
+		Assertions.assertThat(third.getAccounts().get(0).getBalance()).isEqualTo(1100L);
+	}
+
+	/**
+	 * 조회한 응답을 바꿔도 캐시에 보관한 계좌 목록은 바뀌지 않는다.
+	 */
+	@Test
+	void cached_summary_copy_test() {
+		// given
+		AccountListResponseDTO first = accountServiceV1.getAccountsByUser(jeongjin.getId());
+
+		// when
+		first.setFullname("changed");
+		first.getAccounts().get(0).setBalance(0L);
+
+		// then
+		AccountListResponseDTO second = accountServiceV1.getAccountsByUser(jeongjin.getId());
+		Assertions.assertThat(second).isNotSameAs(first);
+		Assertions.assertThat(second.getFullname()).isEqualTo("kim jeongjin");
+		Assertions.assertThat(second.getAccounts().get(0).getBalance()).isEqualTo(1000L);
+		Assertions.assertThat(accountSummaryCache.size()).isEqualTo(1L);
+	}
+
+	/**
+	 * 이체하면 출금 계좌 소유자뿐 아니라 입금 계좌 소유자의 캐시도 제거된다.
+	 */
+	@Test
+	void invalidate_deposit_owner_on_transfer_test() {
+		// given
+		accountServiceV1.getAccountsByUser(jeongjin.getId());
+		accountServiceV1.getAccountsByUser(cos.getId());
+
+		// when
+		TransferAccountRequestDTO transferAccountRequestDTO = new TransferAccountRequestDTO();
+		transferAccountRequestDTO.setWithdrawNumber(1111L);
+		transferAccountRequestDTO.setDepositNumber(2222L);
+		transferAccountRequestDTO.setWithdrawPassword(1234L);
+		transferAccountRequestDTO.setAmount(100L);
+		transferAccountRequestDTO.setType("TRANSFER");
+		accountServiceV1.transferAccount(transferAccountRequestDTO, jeongjin.getId());
+
+		// then
+		Assertions.assertThat(accountServiceV1.getAccountsByUser(jeongjin.getId()).getAccounts().get(0).getBalance()).isEqualTo(900L);
+		Assertions.assertThat(accountServiceV1.getAccountsByUser(cos.getId()).getAccounts().get(0).getBalance()).isEqualTo(1100L);
+	}
+
+}
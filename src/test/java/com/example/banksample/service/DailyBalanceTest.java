@@ -0,0 +1,130 @@
+package com.example.banksample.service;
+
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.balance.DailyBalance;
+import com.example.banksample.domain.balance.DailyBalanceId;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.handler.exception.CustomApiException;
+import com.example.banksample.repository.AccountRepository;
+import com.example.banksample.repository.DailyBalanceRepository;
+import com.example.banksample.repository.UserRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static com.example.banksample.dto.account.AccountRequestDTO.AccountDepositRequestDTO;
+import static com.example.banksample.dto.account.AccountRequestDTO.WithdrawAccountRequestDTO;
+
+/**
+ * 입금, 출금이 같은 트랜잭션에서 일별 잔액 스냅샷에 반영되고, 스냅샷으로 특정 시각의 잔액을 구하는지 확인한다.
+ */
+@SpringBootTest
+@Sql("classpath:db/teardown.sql")
+@ActiveProfiles("test")
+class DailyBalanceTest extends DummyObject {
+
+	@Autowired
+	private AccountServiceV1 accountServiceV1;
+	@Autowired
+	private DailyBalanceService dailyBalanceService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private DailyBalanceRepository dailyBalanceRepository;
+
+	private User user;
+	private Account account;
+
+	@BeforeEach
+	void init() {
+		user = userRepository.save(newUser("jeongjin", "kim jeongjin"));
+		account = accountRepository.save(newAccount(1111L, user));
+	}
+
+	@Test
+	void record_and_balance_at_test() {
+		// given
+		LocalDateTime beforeDeposit = LocalDateTime.now().minusSeconds(1);
+		deposit(100L);
+		LocalDateTime afterDeposit = LocalDateTime.now();
+		withdraw(50L);
+
+		// when
+		DailyBalance dailyBalance = dailyBalanceRepository.findById(new DailyBalanceId(account.getId(), LocalDate.now())).orElseThrow();
+
+		// then
+		Assertions.assertThat(dailyBalance.getOpeningBalance()).isEqualTo(1000L);
+		Assertions.assertThat(dailyBalance.getClosingBalance()).isEqualTo(1050L);
+		Assertions.assertThat(dailyBalance.getDepositTotal()).isEqualTo(100L);
+		Assertions.assertThat(dailyBalance.getWithdrawTotal()).isEqualTo(50L);
+		Assertions.assertThat(dailyBalance.getTxCount()).isEqualTo(2);
+		Assertions.assertThat(balanceAt(beforeDeposit)).isEqualTo(1000L);
+		Assertions.assertThat(balanceAt(afterDeposit)).isEqualTo(1100L);
+		Assertions.assertThat(balanceAt(LocalDateTime.now())).isEqualTo(1050L);
+		// 다음 날은 그날 스냅샷이 없으므로 직전 스냅샷의 마감 잔액을 사용한다.
+		Assertions.assertThat(balanceAt(LocalDateTime.now().plusDays(1))).isEqualTo(1050L);
+	}
+
+	@Test
+	void daily_balances_range_test() {
+		// given
+		deposit(100L);
+		LocalDate today = LocalDate.now();
+
+		// when
+		var response = dailyBalanceService.getDailyBalances(user.getId(), 1111L, today.minusDays(7), today);
+
+		// then
+		Assertions.assertThat(response.getDays()).hasSize(1);
+		Assertions.assertThat(response.getDays().get(0).getClosingBalance()).isEqualTo(1100L);
+		Assertions.assertThatThrownBy(() -> dailyBalanceService.getDailyBalances(user.getId(), 1111L, today, today.minusDays(1)))
+				.isInstanceOf(CustomApiException.class);
+		Assertions.assertThatThrownBy(() -> dailyBalanceService.getDailyBalances(user.getId(), 1111L, today.minusYears(2), today))
+				.isInstanceOf(CustomApiException.class);
+	}
+
+	@Test
+	void delete_account_deletes_daily_balances_test() {
+		// given
+		deposit(100L);
+
+		// when
+		accountServiceV1.deleteAccount(1111L, user.getId());
+
+		// then
+		Assertions.assertThat(dailyBalanceRepository.findById(new DailyBalanceId(account.getId(), LocalDate.now()))).isEmpty();
+	}
+
+	private Long balanceAt(LocalDateTime at) {
+		return dailyBalanceService.getBalanceAt(user.getId(), 1111L, at).getBalance();
+	}
+
+	private void deposit(Long amount) {
+		AccountDepositRequestDTO accountDepositRequestDTO = new AccountDepositRequestDTO();
+		accountDepositRequestDTO.setNumber(1111L);
+		accountDepositRequestDTO.setAmount(amount);
+		accountDepositRequestDTO.setType("DEPOSIT");
+		accountDepositRequestDTO.setTel("01012345678");
+		accountServiceV1.depositAccount(accountDepositRequestDTO);
+	}
+
+	private void withdraw(Long amount) {
+		WithdrawAccountRequestDTO withdrawAccountRequestDTO = new WithdrawAccountRequestDTO();
+		withdrawAccountRequestDTO.setNumber(1111L);
+		withdrawAccountRequestDTO.setPassword(1234L);
+		withdrawAccountRequestDTO.setAmount(amount);
+		withdrawAccountRequestDTO.setType("WITHDRAW");
+		accountServiceV1.withdrawAccount(withdrawAccountRequestDTO, user.getId());
+	}
+
+}
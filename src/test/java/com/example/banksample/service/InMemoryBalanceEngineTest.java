@@ -0,0 +1,200 @@
+package com.example.banksample.service;
+
+import com.example.banksample.config.AccountProperties;
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.domain.account.Account;
+import com.example.banksample.domain.transaction.Transaction;
+import com.example.banksample.domain.user.User;
+import com.example.banksample.handler.exception.CustomApiException;
+import com.example.banksample.repository.AccountRepository;
+import com.example.banksample.repository.LedgerJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static com.example.banksample.dto.account.AccountResponseDTO.TransferAccountResponseDTO;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryBalanceEngineTest extends DummyObject {
+
+	@Mock
+	private AccountRepository accountRepository;
+	@Mock
+	private LedgerJdbcRepository ledgerJdbcRepository;
+	@Mock
+	private LedgerRecorder ledgerRecorder;
+
+	private InMemoryBalanceEngine inMemoryBalanceEngine;
+
+	@BeforeEach
+	void init() {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+		inMemoryBalanceEngine = new InMemoryBalanceEngine(accountRepository, ledgerJdbcRepository, transactionTemplate, ledgerRecorder, new AccountProperties(), new SimpleMeterRegistry());
+
+		User user1 = newMockUser(1L, "jeongjin", "kim jeongjin");
+		User user2 = newMockUser(2L, "bird", "king bird");
+		when(accountRepository.findByNumber(1001L)).thenReturn(Optional.of(newMockAccount(1L, 1001L, 1000L, user1)));
+		when(accountRepository.findByNumber(2001L)).thenReturn(Optional.of(newMockAccount(2L, 2001L, 1000L, user2)));
+	}
+
+	@Test
+	void transfer_and_flush_test() {
+		// when
+		inMemoryBalanceEngine.transfer(1001L, 2001L, 1234L, 100L, 1L);
+		TransferAccountResponseDTO responseDTO = inMemoryBalanceEngine.transfer(1001L, 2001L, 1234L, 200L, 1L);
+		inMemoryBalanceEngine.flush();
+
+		// then
+		Assertions.assertThat(responseDTO.getBalance()).isEqualTo(700L);
+		Assertions.assertThat(inMemoryBalanceEngine.getPendingCount()).isZero();
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+		verify(ledgerJdbcRepository).updateBalances(captor.capture(), any());
+		verify(ledgerRecorder).recordAll(anyList(), eq(Set.of(1L, 2L)));
+		Assertions.assertThat(captor.getValue()).containsEntry(1L, 700L).containsEntry(2L, 1300L);
+	}
+
+	@Test
+	void flush_dead_letter_test() {
+		// given
+		doThrow(new DataIntegrityViolationException("poison")).when(ledgerRecorder).recordAll(anyList(), any());
+		inMemoryBalanceEngine.transfer(1001L, 2001L, 1234L, 100L, 1L);
+
+		// when
+		for (int i = 0; i < new AccountProperties().getInMemory().getMaxFlushAttempts(); i++) {
+			inMemoryBalanceEngine.flush();
+		}
+
+		// then
+		Assertions.assertThat(inMemoryBalanceEngine.getPendingCount()).isZero();
+		Assertions.assertThat(inMemoryBalanceEngine.getDeadLetterCount()).isEqualTo(1);
+		Assertions.assertThat(inMemoryBalanceEngine.isQuarantined(1001L)).isTrue();
+		Assertions.assertThat(inMemoryBalanceEngine.isQuarantined(2001L)).isTrue();
+		verify(ledgerRecorder, times(6)).recordAll(anyList(), any());
+		Assertions.assertThatThrownBy(() -> inMemoryBalanceEngine.transfer(1001L, 2001L, 1234L, 100L, 1L))
+				.isInstanceOf(CustomApiException.class)
+				.hasMessage("잔액 반영에 실패한 계좌라 일시적으로 사용할 수 없습니다.");
+
+		// 격리를 해제하면 DB 의 잔액을 다시 읽는다.
+		inMemoryBalanceEngine.release(1001L);
+		inMemoryBalanceEngine.release(2001L);
+		Assertions.assertThat(inMemoryBalanceEngine.transfer(1001L, 2001L, 1234L, 100L, 1L).getBalance()).isEqualTo(900L);
+	}
+
+	/**
+	 * 출금 거래내역이 dead letter 로 옮겨져 출금 계좌만 격리된 뒤에도,
+	 * 같은 묶음의 입금(한 건씩 반영)과 이후의 입금(묶음 반영)은 반영된다.
+	 */
+	@Test
+	void flush_withdraw_dead_letter_test() {
+		// given
+		failWhen(transaction -> transaction.getWithdrawAccount() != null);
+		inMemoryBalanceEngine.withdraw(1001L, 1234L, 100L, 1L);
+		inMemoryBalanceEngine.deposit(2001L, 100L, "01012345678");
+
+		// when
+		flushUntilDeadLetter();
+		inMemoryBalanceEngine.deposit(2001L, 100L, "01012345678");
+		inMemoryBalanceEngine.flush();
+
+		// then
+		Assertions.assertThat(inMemoryBalanceEngine.getPendingCount()).isZero();
+		Assertions.assertThat(inMemoryBalanceEngine.getDeadLetterCount()).isEqualTo(1);
+		Assertions.assertThat(inMemoryBalanceEngine.isQuarantined(1001L)).isTrue();
+		Assertions.assertThat(inMemoryBalanceEngine.isQuarantined(2001L)).isFalse();
+		Assertions.assertThat(lastBalances()).containsExactly(Map.entry(2L, 1200L));
+	}
+
+	/**
+	 * 입금 거래내역이 dead letter 로 옮겨져 입금 계좌만 격리된 뒤에도,
+	 * 같은 묶음의 출금(한 건씩 반영)과 이후의 출금(묶음 반영)은 반영된다.
+	 */
+	@Test
+	void flush_deposit_dead_letter_test() {
+		// given
+		failWhen(transaction -> transaction.getDepositAccount() != null);
+		inMemoryBalanceEngine.deposit(2001L, 100L, "01012345678");
+		inMemoryBalanceEngine.withdraw(1001L, 1234L, 100L, 1L);
+
+		// when
+		flushUntilDeadLetter();
+		inMemoryBalanceEngine.withdraw(1001L, 1234L, 100L, 1L);
+		inMemoryBalanceEngine.flush();
+
+		// then
+		Assertions.assertThat(inMemoryBalanceEngine.getPendingCount()).isZero();
+		Assertions.assertThat(inMemoryBalanceEngine.getDeadLetterCount()).isEqualTo(1);
+		Assertions.assertThat(inMemoryBalanceEngine.isQuarantined(2001L)).isTrue();
+		Assertions.assertThat(inMemoryBalanceEngine.isQuarantined(1001L)).isFalse();
+		Assertions.assertThat(lastBalances()).containsExactly(Map.entry(1L, 800L));
+	}
+
+	/**
+	 * 조건에 맞는 거래내역이 포함된 묶음은 반영에 실패한다. (일시적이지 않은 오류)
+	 */
+	private void failWhen(Predicate<Transaction> poison) {
+		doAnswer(invocation -> {
+			List<Transaction> batch = invocation.getArgument(0);
+			if (batch.stream().anyMatch(poison)) {
+				throw new DataIntegrityViolationException("poison");
+			}
+			return null;
+		}).when(ledgerRecorder).recordAll(anyList(), any());
+	}
+
+	private void flushUntilDeadLetter() {
+		for (int i = 0; i < new AccountProperties().getInMemory().getMaxFlushAttempts(); i++) {
+			inMemoryBalanceEngine.flush();
+		}
+	}
+
+	private Map<Long, Long> lastBalances() {
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+		verify(ledgerJdbcRepository, atLeastOnce()).updateBalances(captor.capture(), any());
+		return captor.getValue();
+	}
+
+	@Test
+	void transfer_insufficient_balance_test() {
+		// when, then
+		Assertions.assertThatThrownBy(() -> inMemoryBalanceEngine.transfer(1001L, 2001L, 1234L, 1001L, 1L))
+				.isInstanceOf(CustomApiException.class)
+				.hasMessage("계좌 잔액이 부족합니다.");
+		Assertions.assertThat(inMemoryBalanceEngine.getPendingCount()).isZero();
+	}
+
+	@Test
+	void transfer_not_owner_test() {
+		// when, then
+		Assertions.assertThatThrownBy(() -> inMemoryBalanceEngine.transfer(1001L, 2001L, 1234L, 100L, 2L))
+				.isInstanceOf(CustomApiException.class)
+				.hasMessage("계좌의 소유자가 아닙니다.");
+	}
+
+}
@@ -1,5 +1,6 @@
 package com.example.banksample.service;
 
+import com.example.banksample.auth.LoginUserCache;
 import com.example.banksample.config.dummy.DummyObject;
 import com.example.banksample.domain.user.User;
 import com.example.banksample.repository.UserRepository;
@@ -38,6 +39,12 @@ class UserServiceTest extends DummyObject {
     @Spy
     private BCryptPasswordEncoder bCryptPasswordEncoder;
 
+    @Mock
+    private LoginUserCache loginUserCache;
+
+    @Mock
+    private UniqueKeyFilter uniqueKeyFilter;
+
     @Test
     @DisplayName("회원가입_테스트")
     void signUp_test() throws Exception {
@@ -49,6 +56,10 @@ class UserServiceTest extends DummyObject {
             .password("1234")
             .build();
 
+        // stub_0
+        // 필터가 '있을 수도 있다'고 판단해서 조회까지 하는 경우
+        when(uniqueKeyFilter.mightContainUsername(any())).thenReturn(true);
+
         // stub_1
         // repository 에 대한 테스트가 아니므로, any() 를 인자로 넣는다.
         when(userRepository.findByUsername(any())).thenReturn(Optional.empty());
@@ -0,0 +1,49 @@
+package com.example.banksample.util;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+	@Test
+	void no_false_negative_test() {
+		// given
+		BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+
+		// when
+		for (long number = 0; number < 10_000; number++) {
+			bloomFilter.put(number);
+			bloomFilter.put("user" + number);
+		}
+
+		// then
+		for (long number = 0; number < 10_000; number++) {
+			Assertions.assertThat(bloomFilter.mightContain(number)).isTrue();
+			Assertions.assertThat(bloomFilter.mightContain("user" + number)).isTrue();
+		}
+	}
+
+	/**
+	 * 예상 개수만큼 추가했을 때 오탐률이 설정값과 비슷해야 한다.
+	 */
+	@Test
+	void false_positive_rate_test() {
+		// given
+		BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+		for (long number = 0; number < 10_000; number++) {
+			bloomFilter.put(number);
+		}
+
+		// when
+		int falsePositives = 0;
+		for (long number = 10_000; number < 110_000; number++) {
+			if (bloomFilter.mightContain(number)) {
+				falsePositives++;
+			}
+		}
+
+		// then
+		Assertions.assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+	}
+
+}
@@ -0,0 +1,51 @@
+package com.example.banksample.util;
+
+import com.example.banksample.domain.transaction.TransactionEnum;
+import com.example.banksample.dto.transaction.TransactionExportFormat;
+import com.example.banksample.repository.projection.TransactionProjection;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+class TransactionExportWriterTest {
+
+	/**
+	 * 한 줄에 한 건, 줄 앞뒤에 공백 없이 쓴다.
+	 */
+	@Test
+	void write_ndjson_test() throws Exception {
+		// given
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		// when
+		try (TransactionExportWriter writer = new TransactionExportWriter(TransactionExportFormat.NDJSON, outputStream)) {
+			writer.write(new TransactionProjection(1L, TransactionEnum.DEPOSIT, 100L, "ATM", "1001", "01012345678", 1100L));
+			writer.write(new TransactionProjection(2L, TransactionEnum.WITHDRAW, 200L, "1001", "ATM", null, 900L));
+		}
+
+		// then
+		Assertions.assertThat(outputStream.toByteArray()).isEqualTo((
+				"{\"id\":1,\"type\":\"DEPOSIT\",\"amount\":100,\"sender\":\"ATM\",\"receiver\":\"1001\",\"tel\":\"01012345678\",\"balance\":1100}\n" +
+				"{\"id\":2,\"type\":\"WITHDRAW\",\"amount\":200,\"sender\":\"1001\",\"receiver\":\"ATM\",\"tel\":\"없음\",\"balance\":900}\n"
+		).getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void write_csv_test() throws Exception {
+		// given
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		// when
+		try (TransactionExportWriter writer = new TransactionExportWriter(TransactionExportFormat.CSV, outputStream)) {
+			writer.write(new TransactionProjection(1L, TransactionEnum.DEPOSIT, 100L, "ATM", "1001", "010,1234", 1100L));
+		}
+
+		// then
+		Assertions.assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(
+				"id,type,amount,sender,receiver,tel,balance\n" +
+				"1,DEPOSIT,100,ATM,1001,\"010,1234\",1100\n");
+	}
+
+}
@@ -0,0 +1,122 @@
+package com.example.banksample.web;
+
+import com.example.banksample.config.dummy.DummyObject;
+import com.example.banksample.jwt.JwtTokenVO;
+import com.example.banksample.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static com.example.banksample.dto.token.TokenRequestDTO.RefreshTokenRequestDTO;
+import static com.example.banksample.dto.user.UserRequestDTO.LoginRequestDTO;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@Slf4j
+@Sql("classpath:db/teardown.sql")
+@ActiveProfiles("test")
+class TokenControllerTest extends DummyObject {
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private ObjectMapper om;
+	@Autowired
+	private UserRepository userRepository;
+
+	@BeforeEach
+	void init() {
+		userRepository.save(newUser("jeongjin", "kim jeongjin"));
+	}
+
+	@Test
+	@DisplayName("리프레시 토큰으로 재발급 성공")
+	void refresh_success_test() throws Exception {
+		// given
+		String refreshToken = login();
+
+		// when
+		ResultActions resultActions = refresh(refreshToken);
+
+		// then
+		resultActions.andExpect(status().isOk());
+		resultActions.andExpect(jsonPath("$.data.refresh_token").isNotEmpty());
+		Assertions.assertThat(resultActions.andReturn().getResponse().getHeader(JwtTokenVO.TOKEN_HEADER))
+				.startsWith(JwtTokenVO.TOKEN_PREFIX);
+	}
+
+	/**
+	 * 이미 사용한 리프레시 토큰을 다시 사용하면, 그 사이에 새로 발급된 토큰까지 모두 폐기된다.
+	 */
+	@Test
+	@DisplayName("리프레시 토큰 재사용 감지")
+	void refresh_reuse_test() throws Exception {
+		// given
+		String refreshToken = login();
+		String rotatedRefreshToken = data(refresh(refreshToken)).get("refresh_token").asText();
+
+		// when
+		ResultActions reuseActions = refresh(refreshToken);
+		ResultActions rotatedActions = refresh(rotatedRefreshToken);
+
+		// then
+		reuseActions.andExpect(status().isBadRequest());
+		rotatedActions.andExpect(status().isBadRequest());
+	}
+
+	/**
+	 * 로그아웃으로 폐기한 리프레시 토큰은 재사용이 아닌 유효하지 않은 토큰으로 응답한다.
+	 */
+	@Test
+	@DisplayName("로그아웃한 리프레시 토큰으로 재발급 실패")
+	void refresh_after_revoke_test() throws Exception {
+		// given
+		String refreshToken = login();
+		mockMvc.perform(post("/api/token/revoke")
+						.content(om.writeValueAsString(new RefreshTokenRequestDTO(refreshToken)))
+						.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk());
+
+		// when
+		ResultActions resultActions = refresh(refreshToken);
+
+		// then
+		resultActions.andExpect(status().isBadRequest());
+		resultActions.andExpect(jsonPath("$.message").value("유효하지 않은 리프레시 토큰입니다."));
+	}
+
+	private String login() throws Exception {
+		String requestBody = om.writeValueAsString(new LoginRequestDTO("jeongjin", "1234"));
+		ResultActions resultActions = mockMvc.perform(post("/api/login")
+				.content(requestBody)
+				.contentType(MediaType.APPLICATION_JSON));
+		return data(resultActions).get("refresh_token").asText();
+	}
+
+	private ResultActions refresh(String refreshToken) throws Exception {
+		String requestBody = om.writeValueAsString(new RefreshTokenRequestDTO(refreshToken));
+		return mockMvc.perform(post("/api/token/refresh")
+				.content(requestBody)
+				.contentType(MediaType.APPLICATION_JSON));
+	}
+
+	private JsonNode data(ResultActions resultActions) throws Exception {
+		return om.readTree(resultActions.andReturn().getResponse().getContentAsString()).get("data");
+	}
+
+}
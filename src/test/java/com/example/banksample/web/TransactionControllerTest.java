@@ -10,6 +10,7 @@ import com.example.banksample.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,7 +25,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import java.nio.charset.StandardCharsets;
+
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
 @AutoConfigureMockMvc
@@ -68,10 +72,40 @@ class TransactionControllerTest extends DummyObject {
 		String responseBody = resultActions.andReturn().getResponse().getContentAsString();
 		log.info("[*] responseBody -> {}", responseBody);
 
-		resultActions.andExpect(jsonPath("$.data.transactions[2].balance").value(700L));
+		// 최신순 정렬이므로 마지막 이체(1001 -> 4001) 내역이 가장 앞에 온다.
+		resultActions.andExpect(jsonPath("$.data.transactions[0].balance").value(700L));
+		resultActions.andExpect(jsonPath("$.data.transactions[2].balance").value(900L));
+	}
+
+
+	@Test
+	@WithUserDetails(value = "jeongjin", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+	void export_transaction_csv_test() throws Exception {
+		long accountNumber = 1001L;
+
+		ResultActions resultActions = mockMvc.perform(get("/api/test/account/" + accountNumber + "/transaction/export")
+				.param("format", "CSV"));
+		String responseBody = resultActions.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+		log.info("[*] responseBody -> {}", responseBody);
+
+		// 헤더 + 1001 계좌 거래내역 3건 (오래된 순)
+		String[] lines = responseBody.split("\n");
+		Assertions.assertThat(lines).hasSize(4);
+		Assertions.assertThat(lines[0]).isEqualTo("id,type,amount,sender,receiver,tel,balance");
+		Assertions.assertThat(lines[1]).endsWith(",900");
+		Assertions.assertThat(lines[3]).endsWith(",700");
 	}
 
+	@Test
+	@WithUserDetails(value = "bird", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+	void export_transaction_not_owner_test() throws Exception {
+		long accountNumber = 1001L;
+
+		ResultActions resultActions = mockMvc.perform(get("/api/test/account/" + accountNumber + "/transaction/export"));
 
+		resultActions.andExpect(status().isBadRequest());
+		resultActions.andExpect(jsonPath("$.message").value("계좌의 소유자가 아닙니다."));
+	}
 
 	private void insertData() {
 		User user1 = userRepository.save(newUser("jeongjin", "kim"));